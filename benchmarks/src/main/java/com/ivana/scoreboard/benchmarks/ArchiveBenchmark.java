@@ -0,0 +1,70 @@
+package com.ivana.scoreboard.benchmarks;
+
+import com.ivana.scoreboard.MatchArchive;
+import com.ivana.scoreboard.Scoreboard;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Aggregate queries over an archive of finished matches between 1000 teams.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ArchiveBenchmark {
+    private static final int TEAM_COUNT = 1_000;
+
+    @Param({"100000", "1000000"})
+    public int archiveSize;
+
+    MatchArchive archive;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        Scoreboard board = new Scoreboard();
+        archive = board.enableArchive();
+        Random random = new Random(42);
+        while (archive.size() < archiveSize) {
+            String homeTeam = "Team " + random.nextInt(TEAM_COUNT);
+            String awayTeam = "Team " + random.nextInt(TEAM_COUNT);
+            if (homeTeam.equals(awayTeam)) {
+                continue;
+            }
+            board.startMatch(homeTeam, awayTeam);
+            board.updateScore(homeTeam, awayTeam, random.nextInt(6), random.nextInt(6));
+            board.finishMatch(homeTeam, awayTeam);
+        }
+    }
+
+    @Benchmark
+    public List<MatchArchive.TeamRecord> teamRecords() {
+        return archive.getTeamRecords();
+    }
+
+    @Benchmark
+    public MatchArchive.TeamRecord teamRecord() {
+        return archive.getTeamRecord("Team 7");
+    }
+
+    @Benchmark
+    public List<MatchArchive.ArchivedMatch> highestScoringMatches() {
+        return archive.getHighestScoringMatches(10);
+    }
+}
@@ -0,0 +1,62 @@
+package com.ivana.scoreboard.benchmarks;
+
+import com.ivana.scoreboard.ScoreUpdate;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Burst of {@code batchSize} score changes applied with one {@code applyBatch} call
+ * compared to the same changes applied with one {@code updateScore} call each.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class BatchUpdateBenchmark {
+
+    @State(Scope.Thread)
+    public static class Burst {
+        @Param({"10", "100", "1000"})
+        public int batchSize;
+
+        List<ScoreUpdate> updates;
+        int round;
+
+        @Setup(Level.Invocation)
+        public void nextBurst(BoardState state) {
+            round++;
+            updates = new ArrayList<>(batchSize);
+            for (int i = 0; i < batchSize; i++) {
+                int match = (int) (((long) round * batchSize + i) % state.boardSize);
+                updates.add(new ScoreUpdate(state.homeTeams[match], state.awayTeams[match], round % 10, i % 4));
+            }
+        }
+    }
+
+    @Benchmark
+    public void applyBatch(BoardState state, Burst burst) {
+        state.board.applyBatch(burst.updates);
+    }
+
+    @Benchmark
+    public void updateScoreEach(BoardState state, Burst burst) {
+        for (ScoreUpdate update : burst.updates) {
+            state.board.updateScore(update.homeTeam(), update.awayTeam(), update.homeScore(), update.awayScore());
+        }
+    }
+}
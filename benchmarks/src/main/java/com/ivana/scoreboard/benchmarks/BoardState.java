@@ -0,0 +1,58 @@
+package com.ivana.scoreboard.benchmarks;
+
+import com.ivana.scoreboard.ConcurrentScoreboard;
+import com.ivana.scoreboard.LiveScoreboard;
+import com.ivana.scoreboard.OffHeapScoreboard;
+import com.ivana.scoreboard.Scoreboard;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.BenchmarkParams;
+
+/**
+ * Scoreboard filled with {@code boardSize} ongoing matches, shared by all benchmark threads.
+ * Team names are created once up front, so benchmarks measure the scoreboard and not string building.
+ * When the benchmark runs with more than one thread, boards that are not thread-safe ({@code Scoreboard},
+ * {@code OffHeapScoreboard}) are guarded by one lock, see {@link LockedScoreboard}; their multi-threaded numbers
+ * show that lock, compare against {@code -p implementation=ConcurrentScoreboard}.
+ */
+@State(Scope.Benchmark)
+public class BoardState {
+
+    @Param({"10", "100", "1000", "10000", "100000"})
+    public int boardSize;
+
+    @Param({"Scoreboard", "ConcurrentScoreboard", "OffHeapScoreboard"})
+    public String implementation;
+
+    public LiveScoreboard board;
+    public String[] homeTeams;
+    public String[] awayTeams;
+
+    @Setup(Level.Trial)
+    public void setUp(BenchmarkParams params) {
+        board = createBoard(implementation);
+        if (params.getThreads() > 1 && !(board instanceof ConcurrentScoreboard)) {
+            board = new LockedScoreboard(board);
+        }
+        homeTeams = new String[boardSize];
+        awayTeams = new String[boardSize];
+        for (int i = 0; i < boardSize; i++) {
+            homeTeams[i] = "Home " + i;
+            awayTeams[i] = "Away " + i;
+            board.startMatch(homeTeams[i], awayTeams[i]);
+            board.updateScore(homeTeams[i], awayTeams[i], i % 5, i % 3);
+        }
+    }
+
+    static LiveScoreboard createBoard(String implementation) {
+        return switch (implementation) {
+            case "Scoreboard" -> new Scoreboard();
+            case "ConcurrentScoreboard" -> new ConcurrentScoreboard();
+            case "OffHeapScoreboard" -> new OffHeapScoreboard();
+            default -> throw new IllegalArgumentException("Unknown scoreboard implementation: " + implementation);
+        };
+    }
+}
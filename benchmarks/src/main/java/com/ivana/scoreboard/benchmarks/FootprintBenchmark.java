@@ -0,0 +1,62 @@
+package com.ivana.scoreboard.benchmarks;
+
+import com.ivana.scoreboard.LiveScoreboard;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Filling a board with hundreds of thousands of concurrent matches and updating all of them once.
+ * Run with {@code -prof gc}: the allocated bytes per operation approximate the heap footprint of the board,
+ * and the GC count and time show the collection pressure of each storage.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 10)
+@Fork(value = 1, jvmArgsAppend = {"-Xmx4g"})
+public class FootprintBenchmark {
+
+    @Param({"100000", "500000"})
+    public int boardSize;
+
+    @Param({"Scoreboard", "OffHeapScoreboard"})
+    public String implementation;
+
+    String[] homeTeams;
+    String[] awayTeams;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        homeTeams = new String[boardSize];
+        awayTeams = new String[boardSize];
+        for (int i = 0; i < boardSize; i++) {
+            homeTeams[i] = "Home " + i;
+            awayTeams[i] = "Away " + i;
+        }
+    }
+
+    @Benchmark
+    public LiveScoreboard fillAndUpdate() {
+        LiveScoreboard board = BoardState.createBoard(implementation);
+        for (int i = 0; i < boardSize; i++) {
+            board.startMatch(homeTeams[i], awayTeams[i]);
+        }
+        for (int i = 0; i < boardSize; i++) {
+            board.updateScore(homeTeams[i], awayTeams[i], i % 5, i % 3);
+        }
+        return board;
+    }
+}
@@ -0,0 +1,80 @@
+package com.ivana.scoreboard.benchmarks;
+
+import com.ivana.scoreboard.SingleWriterScoreboard;
+import com.ivana.scoreboard.http.ScoreboardHttpServer;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Local load test of the summary endpoint from eight client threads: full JSON responses
+ * and conditional requests answered with 304 Not Modified.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@Threads(8)
+public class HttpSummaryBenchmark {
+    @Param({"10", "1000"})
+    public int boardSize;
+
+    SingleWriterScoreboard scoreboard;
+    ScoreboardHttpServer server;
+    HttpClient client;
+    HttpRequest summary;
+    HttpRequest conditionalSummary;
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException, InterruptedException {
+        scoreboard = new SingleWriterScoreboard();
+        for (int i = 0; i < boardSize; i++) {
+            scoreboard.startMatch("Home " + i, "Away " + i);
+            scoreboard.updateScore("Home " + i, "Away " + i, i % 5, i % 3);
+        }
+        scoreboard.startMatch("Spare home", "Spare away").join();
+        server = new ScoreboardHttpServer(new InetSocketAddress("localhost", 0), scoreboard);
+        client = HttpClient.newHttpClient();
+        URI uri = URI.create("http://localhost:" + server.getAddress().getPort() + "/summary");
+        summary = HttpRequest.newBuilder(uri).header("Accept", "application/json").build();
+        String etag = client.send(summary, HttpResponse.BodyHandlers.discarding()).headers().firstValue("ETag").orElseThrow();
+        conditionalSummary = HttpRequest.newBuilder(uri).header("Accept", "application/json").header("If-None-Match", etag).build();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        server.close();
+        scoreboard.close();
+    }
+
+    @Benchmark
+    public byte[] getSummary() throws IOException, InterruptedException {
+        return client.send(summary, HttpResponse.BodyHandlers.ofByteArray()).body();
+    }
+
+    @Benchmark
+    public int getSummaryNotModified() throws IOException, InterruptedException {
+        return client.send(conditionalSummary, HttpResponse.BodyHandlers.discarding()).statusCode();
+    }
+}
@@ -0,0 +1,158 @@
+package com.ivana.scoreboard.benchmarks;
+
+import com.ivana.scoreboard.JournaledScoreboard;
+import com.ivana.scoreboard.LiveScoreboard;
+import com.ivana.scoreboard.Scoreboard;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Comparator;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * Cost of journaling: score update latency with and without the journal, and the time to recover
+ * a board from a journal of {@code journalEntries} records.
+ */
+@Fork(1)
+public class JournalBenchmark {
+    private static final int BOARD_SIZE = 1_000;
+
+    @State(Scope.Thread)
+    public static class UpdateState {
+        @Param({"plain", "journaled"})
+        public String mode;
+
+        LiveScoreboard board;
+        Path directory;
+        int position;
+        int score;
+
+        @Setup(Level.Trial)
+        public void setUp() throws IOException {
+            if (mode.equals("journaled")) {
+                directory = Files.createTempDirectory("scoreboard-journal");
+                board = new JournaledScoreboard(directory);
+            } else {
+                board = new Scoreboard();
+            }
+            for (int i = 0; i < BOARD_SIZE; i++) {
+                board.startMatch("Home " + i, "Away " + i);
+            }
+        }
+
+        @TearDown(Level.Trial)
+        public void tearDown() throws IOException {
+            if (board instanceof JournaledScoreboard journaled) {
+                journaled.close();
+                deleteDirectory(directory);
+            }
+        }
+    }
+
+    @State(Scope.Benchmark)
+    public static class RecoveryState {
+        @Param({"1000000"})
+        public int journalEntries;
+
+        Path directory;
+        Set<Path> journalFiles;
+
+        @Setup(Level.Trial)
+        public void setUp() throws IOException {
+            directory = Files.createTempDirectory("scoreboard-recovery");
+            try (JournaledScoreboard board = new JournaledScoreboard(directory, 4096, 100, Integer.MAX_VALUE)) {
+                for (int i = 0; i < BOARD_SIZE; i++) {
+                    board.startMatch("Home " + i, "Away " + i);
+                }
+                for (int i = BOARD_SIZE; i < journalEntries; i++) {
+                    int match = i % BOARD_SIZE;
+                    board.updateScore("Home " + match, "Away " + match, (i / BOARD_SIZE) % 10, match % 4);
+                }
+            }
+            journalFiles = listFiles(directory);
+        }
+
+        /**
+         * Deletes the segment the recovery created, so every invocation replays the same journal.
+         */
+        @TearDown(Level.Invocation)
+        public void removeNewSegment() throws IOException {
+            for (Path file : listFiles(directory)) {
+                if (!journalFiles.contains(file)) {
+                    Files.delete(file);
+                }
+            }
+        }
+
+        @TearDown(Level.Trial)
+        public void tearDown() throws IOException {
+            deleteDirectory(directory);
+        }
+    }
+
+    private static final String[] HOME_TEAMS = new String[BOARD_SIZE];
+    private static final String[] AWAY_TEAMS = new String[BOARD_SIZE];
+
+    static {
+        for (int i = 0; i < BOARD_SIZE; i++) {
+            HOME_TEAMS[i] = "Home " + i;
+            AWAY_TEAMS[i] = "Away " + i;
+        }
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.AverageTime)
+    @OutputTimeUnit(TimeUnit.NANOSECONDS)
+    @Warmup(iterations = 3, time = 2)
+    @Measurement(iterations = 5, time = 2)
+    public void updateScore(UpdateState state) {
+        state.position = state.position + 1 == BOARD_SIZE ? 0 : state.position + 1;
+        state.score = state.score == 9 ? 0 : state.score + 1;
+        state.board.updateScore(HOME_TEAMS[state.position], AWAY_TEAMS[state.position], state.score, 1);
+    }
+
+    /**
+     * Opens the journal and replays it, the new journal segment created by opening is removed after every invocation.
+     */
+    @Benchmark
+    @BenchmarkMode(Mode.SingleShotTime)
+    @OutputTimeUnit(TimeUnit.MILLISECONDS)
+    @Warmup(iterations = 2)
+    @Measurement(iterations = 5)
+    public int recover(RecoveryState state) {
+        try (JournaledScoreboard board = new JournaledScoreboard(state.directory)) {
+            return board.getSummary().size();
+        }
+    }
+
+    private static Set<Path> listFiles(Path directory) throws IOException {
+        try (Stream<Path> files = Files.list(directory)) {
+            return files.collect(Collectors.toSet());
+        }
+    }
+
+    private static void deleteDirectory(Path directory) throws IOException {
+        try (Stream<Path> files = Files.walk(directory)) {
+            for (Path file : files.sorted(Comparator.reverseOrder()).toList()) {
+                Files.delete(file);
+            }
+        }
+    }
+}
@@ -0,0 +1,160 @@
+package com.ivana.scoreboard.benchmarks;
+
+import com.ivana.scoreboard.ConcurrentScoreboard;
+import com.ivana.scoreboard.LatencyHistogram;
+import com.ivana.scoreboard.LiveScoreboard;
+
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Drives a scoreboard with the traffic of simulated tournaments, see {@link TournamentTrace}: one writer thread
+ * applies the trace while reader threads call {@code getSummary()} in bursts. Reports throughput and
+ * p50/p99/p99.9/max latency per operation.
+ * <p>
+ * Usage, from the benchmarks directory after {@code mvn package}:
+ * <pre>
+ * java -cp target/benchmarks.jar com.ivana.scoreboard.benchmarks.LoadGenerator \
+ *     --implementation ConcurrentScoreboard --seed 42 --tournaments 200 --readers 4 --record trace.tsv
+ * java -cp target/benchmarks.jar com.ivana.scoreboard.benchmarks.LoadGenerator --replay trace.tsv
+ * </pre>
+ * Options: {@code --implementation} (Scoreboard, ConcurrentScoreboard, OffHeapScoreboard; default Scoreboard),
+ * {@code --seed} (default 1), {@code --tournaments} (default 100), {@code --readers} (default 2),
+ * {@code --burst} (summary reads per burst, default 20), {@code --speedup} (simulated time per real time,
+ * 0 replays as fast as possible, default 0), {@code --record file} and {@code --replay file}.
+ * Implementations that are not thread-safe are guarded by one lock shared by the writer and the readers.
+ */
+public final class LoadGenerator {
+
+    /**
+     * Result of one run.
+     *
+     * @param latencies      write latencies in nanoseconds per operation
+     * @param summaryLatency latencies of the summary reads in nanoseconds
+     * @param elapsedNanos   wall time of applying the trace
+     * @param failures       number of rejected writes, 0 for a consistent trace
+     */
+    public record Report(Map<TournamentTrace.Operation, LatencyHistogram> latencies, LatencyHistogram summaryLatency,
+                         long elapsedNanos, long failures) {
+    }
+
+    private LoadGenerator() {
+    }
+
+    public static void main(String[] args) throws InterruptedException {
+        Map<String, String> options = parseOptions(args);
+        String implementation = options.getOrDefault("implementation", "Scoreboard");
+        TournamentTrace trace;
+        if (options.containsKey("replay")) {
+            trace = TournamentTrace.read(Path.of(options.get("replay")));
+        } else {
+            trace = TournamentTrace.simulate(Long.parseLong(options.getOrDefault("seed", "1")),
+                    Integer.parseInt(options.getOrDefault("tournaments", "100")));
+        }
+        if (options.containsKey("record")) {
+            trace.write(Path.of(options.get("record")));
+        }
+        LiveScoreboard board = BoardState.createBoard(implementation);
+        if (!(board instanceof ConcurrentScoreboard)) {
+            board = new LockedScoreboard(board);
+        }
+        Report report = run(board, trace, Integer.parseInt(options.getOrDefault("readers", "2")),
+                Integer.parseInt(options.getOrDefault("burst", "20")), Double.parseDouble(options.getOrDefault("speedup", "0")),
+                Long.parseLong(options.getOrDefault("seed", "1")));
+        System.out.printf("%s, %d events, %.1f s%n", implementation, trace.events().size(), report.elapsedNanos() / 1e9);
+        System.out.printf("%-10s %12s %12s %10s %10s %10s %10s%n", "operation", "count", "ops/s", "p50 us", "p99 us", "p99.9 us", "max us");
+        for (Map.Entry<TournamentTrace.Operation, LatencyHistogram> entry : report.latencies().entrySet()) {
+            print(entry.getKey().name(), entry.getValue(), report.elapsedNanos());
+        }
+        print("SUMMARY", report.summaryLatency(), report.elapsedNanos());
+        if (report.failures() > 0) {
+            System.out.println(report.failures() + " writes were rejected");
+        }
+    }
+
+    /**
+     * Applies the trace to the scoreboard from the calling thread while the readers read the summary.
+     *
+     * @param speedup simulated milliseconds per real millisecond, 0 or less to apply events as fast as possible
+     */
+    public static Report run(LiveScoreboard board, TournamentTrace trace, int readers, int burst, double speedup, long seed)
+            throws InterruptedException {
+        Map<TournamentTrace.Operation, LatencyHistogram> latencies = new EnumMap<>(TournamentTrace.Operation.class);
+        for (TournamentTrace.Operation operation : TournamentTrace.Operation.values()) {
+            latencies.put(operation, new LatencyHistogram());
+        }
+        LatencyHistogram summaryLatency = new LatencyHistogram();
+        AtomicBoolean running = new AtomicBoolean(true);
+        List<Thread> readerThreads = new ArrayList<>();
+        for (int i = 0; i < readers; i++) {
+            Random random = new Random(seed + i);
+            Thread reader = new Thread(() -> {
+                while (running.get()) {
+                    for (int read = 0; read < burst; read++) {
+                        long started = System.nanoTime();
+                        board.getSummary();
+                        summaryLatency.record(System.nanoTime() - started);
+                    }
+                    LockSupport.parkNanos(TimeUnit.MICROSECONDS.toNanos(random.nextInt(2_000)));
+                }
+            }, "summary-reader-" + i);
+            readerThreads.add(reader);
+            reader.start();
+        }
+        long failures = 0;
+        long runStarted = System.nanoTime();
+        List<TournamentTrace.Event> events = trace.events();
+        long firstEventTime = events.isEmpty() ? 0 : events.get(0).timeMillis();
+        for (TournamentTrace.Event event : events) {
+            if (speedup > 0) {
+                long due = runStarted + (long) ((event.timeMillis() - firstEventTime) / speedup * 1_000_000);
+                long wait = due - System.nanoTime();
+                if (wait > 0) {
+                    LockSupport.parkNanos(wait);
+                }
+            }
+            long started = System.nanoTime();
+            try {
+                event.applyTo(board);
+            } catch (IllegalStateException | IllegalArgumentException e) {
+                failures++;
+            }
+            latencies.get(event.operation()).record(System.nanoTime() - started);
+        }
+        long elapsed = System.nanoTime() - runStarted;
+        running.set(false);
+        for (Thread reader : readerThreads) {
+            reader.join();
+        }
+        return new Report(latencies, summaryLatency, elapsed, failures);
+    }
+
+    private static void print(String operation, LatencyHistogram histogram, long elapsedNanos) {
+        if (histogram.getCount() == 0) {
+            return;
+        }
+        System.out.printf("%-10s %12d %12.0f %10.1f %10.1f %10.1f %10.1f%n", operation, histogram.getCount(),
+                histogram.getCount() / (elapsedNanos / 1e9),
+                histogram.getValueAtPercentile(50) / 1e3, histogram.getValueAtPercentile(99) / 1e3,
+                histogram.getValueAtPercentile(99.9) / 1e3, histogram.getMax() / 1e3);
+    }
+
+    private static Map<String, String> parseOptions(String[] args) {
+        Map<String, String> options = new HashMap<>();
+        for (int i = 0; i < args.length; i += 2) {
+            if (!args[i].startsWith("--") || i + 1 == args.length) {
+                throw new IllegalArgumentException("Expected --option value pairs, got " + String.join(" ", args));
+            }
+            options.put(args[i].substring(2), args[i + 1]);
+        }
+        return options;
+    }
+}
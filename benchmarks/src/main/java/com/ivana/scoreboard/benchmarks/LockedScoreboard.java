@@ -0,0 +1,55 @@
+package com.ivana.scoreboard.benchmarks;
+
+import com.ivana.scoreboard.FootballMatch;
+import com.ivana.scoreboard.LiveScoreboard;
+import com.ivana.scoreboard.ScoreUpdate;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Serializes all calls to a scoreboard that is not thread-safe, as an application sharing it between threads would.
+ */
+final class LockedScoreboard implements LiveScoreboard {
+    private final LiveScoreboard board;
+
+    LockedScoreboard(LiveScoreboard board) {
+        this.board = board;
+    }
+
+    @Override
+    public synchronized void startMatch(String homeTeam, String awayTeam) {
+        board.startMatch(homeTeam, awayTeam);
+    }
+
+    @Override
+    public synchronized void updateScore(String homeTeam, String awayTeam, int homeScore, int awayScore) {
+        board.updateScore(homeTeam, awayTeam, homeScore, awayScore);
+    }
+
+    @Override
+    public synchronized void applyBatch(List<ScoreUpdate> updates) {
+        board.applyBatch(updates);
+    }
+
+    @Override
+    public synchronized void finishMatch(String homeTeam, String awayTeam) {
+        board.finishMatch(homeTeam, awayTeam);
+    }
+
+    @Override
+    public synchronized List<String> getSummary() {
+        return board.getSummary();
+    }
+
+    @Override
+    public synchronized Map<String, FootballMatch> getScoreboard() {
+        return board.getScoreboard();
+    }
+
+    @Override
+    public synchronized Set<String> getActiveTeams() {
+        return board.getActiveTeams();
+    }
+}
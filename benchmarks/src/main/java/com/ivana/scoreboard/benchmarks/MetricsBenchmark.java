@@ -0,0 +1,72 @@
+package com.ivana.scoreboard.benchmarks;
+
+import com.ivana.scoreboard.JmxScoreboardMetrics;
+import com.ivana.scoreboard.Scoreboard;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Overhead of recording metrics: score updates with the default no-op metrics and with JMX metrics.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class MetricsBenchmark {
+    private static final int BOARD_SIZE = 1_000;
+
+    @Param({"noop", "jmx"})
+    public String metrics;
+
+    Scoreboard board;
+    JmxScoreboardMetrics jmxMetrics;
+    String[] homeTeams;
+    String[] awayTeams;
+    int position;
+    int score;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        board = new Scoreboard();
+        if (metrics.equals("jmx")) {
+            jmxMetrics = JmxScoreboardMetrics.register("benchmark");
+            board.setMetrics(jmxMetrics);
+        }
+        homeTeams = new String[BOARD_SIZE];
+        awayTeams = new String[BOARD_SIZE];
+        for (int i = 0; i < BOARD_SIZE; i++) {
+            homeTeams[i] = "Home " + i;
+            awayTeams[i] = "Away " + i;
+            board.startMatch(homeTeams[i], awayTeams[i]);
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        if (jmxMetrics != null) {
+            jmxMetrics.close();
+        }
+    }
+
+    @Benchmark
+    public void updateScore() {
+        position = position + 1 == BOARD_SIZE ? 0 : position + 1;
+        score = score == 9 ? 0 : score + 1;
+        board.updateScore(homeTeams[position], awayTeams[position], score, 1);
+    }
+}
@@ -0,0 +1,42 @@
+package com.ivana.scoreboard.benchmarks;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Mix of summary reads and score updates, {@code writePercent} of the operations are updates.
+ * Run with several threads (e.g. {@code -t 4}) to see how reads and writes interfere.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class MixedWorkloadBenchmark {
+
+    @Param({"1", "10", "50", "90"})
+    public int writePercent;
+
+    @Benchmark
+    public void readWriteMix(BoardState state, ThreadCursor cursor, Blackhole blackhole) {
+        if (cursor.random.nextInt(100) < writePercent) {
+            int match = cursor.nextMatch(state.boardSize);
+            int score = cursor.nextScore();
+            state.board.updateScore(state.homeTeams[match], state.awayTeams[match], score, score % 3);
+        } else {
+            blackhole.consume(state.board.getSummary());
+        }
+    }
+}
@@ -0,0 +1,70 @@
+package com.ivana.scoreboard.benchmarks;
+
+import com.ivana.scoreboard.ConcurrentScoreboard;
+import com.ivana.scoreboard.LiveScoreboard;
+import com.ivana.scoreboard.OffHeapScoreboard;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Building the summary sequentially compared to in parallel on the common fork/join pool, to find the board size
+ * where the parallel path starts to pay off. Every invocation changes one score first, so the cached summary is
+ * never reused. Use it to choose {@code setParallelSummaryThreshold} for a machine, the default of 20 000 is not tuned.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ParallelSummaryBenchmark {
+
+    @Param({"1000", "5000", "10000", "20000", "50000", "100000", "500000"})
+    public int boardSize;
+
+    @Param({"ConcurrentScoreboard", "OffHeapScoreboard"})
+    public String implementation;
+
+    @Param({"sequential", "parallel"})
+    public String mode;
+
+    LiveScoreboard board;
+    int goals;
+
+    @Setup
+    public void setUp() {
+        int threshold = mode.equals("parallel") ? 0 : Integer.MAX_VALUE;
+        if (implementation.equals("ConcurrentScoreboard")) {
+            ConcurrentScoreboard concurrent = new ConcurrentScoreboard();
+            concurrent.setParallelSummaryThreshold(threshold);
+            board = concurrent;
+        } else {
+            OffHeapScoreboard offHeap = new OffHeapScoreboard();
+            offHeap.setParallelSummaryThreshold(threshold);
+            board = offHeap;
+        }
+        for (int i = 0; i < boardSize; i++) {
+            board.startMatch("Home " + i, "Away " + i);
+            board.updateScore("Home " + i, "Away " + i, i % 5, i % 3);
+        }
+    }
+
+    @Benchmark
+    public List<String> getSummary() {
+        goals = (goals + 1) & 7;
+        board.updateScore("Home 0", "Away 0", goals, 0);
+        return board.getSummary();
+    }
+}
@@ -0,0 +1,74 @@
+package com.ivana.scoreboard.benchmarks;
+
+import com.ivana.scoreboard.ScoreboardRegistry;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Registry with {@code competitions} competitions of {@code matchesPerCompetition} matches each:
+ * update throughput from four threads, each updating its own competitions, and the cost of the merged top 10.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class RegistryBenchmark {
+    @Param({"8", "64"})
+    public int competitions;
+
+    @Param({"1000"})
+    public int matchesPerCompetition;
+
+    ScoreboardRegistry registry;
+    String[] competitionIds;
+    String[] homeTeams;
+    String[] awayTeams;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        registry = new ScoreboardRegistry();
+        competitionIds = new String[competitions];
+        homeTeams = new String[matchesPerCompetition];
+        awayTeams = new String[matchesPerCompetition];
+        for (int m = 0; m < matchesPerCompetition; m++) {
+            homeTeams[m] = "Home " + m;
+            awayTeams[m] = "Away " + m;
+        }
+        for (int c = 0; c < competitions; c++) {
+            competitionIds[c] = "competition-" + c;
+            for (int m = 0; m < matchesPerCompetition; m++) {
+                registry.startMatch(competitionIds[c], homeTeams[m], awayTeams[m]);
+                registry.updateScore(competitionIds[c], homeTeams[m], awayTeams[m], m % 5, c % 3);
+            }
+        }
+    }
+
+    @Benchmark
+    @Threads(4)
+    public void updateScore(ThreadCursor cursor) {
+        int competition = (cursor.threadId + 4 * cursor.random.nextInt(competitions)) % competitions;
+        int match = cursor.nextMatch(matchesPerCompetition);
+        registry.updateScore(competitionIds[competition], homeTeams[match], awayTeams[match], cursor.nextScore(), 1);
+    }
+
+    @Benchmark
+    public List<ScoreboardRegistry.RankedMatch> getTopSummary() {
+        return registry.getTopSummary(10);
+    }
+}
@@ -0,0 +1,47 @@
+package com.ivana.scoreboard.benchmarks;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Throughput of the single scoreboard operations for different board sizes.
+ * Start and finish are measured as a pair, so the board size stays the same during the run.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ScoreboardBenchmark {
+
+    @Benchmark
+    public void updateScore(BoardState state, ThreadCursor cursor) {
+        int match = cursor.nextMatch(state.boardSize);
+        int score = cursor.nextScore();
+        state.board.updateScore(state.homeTeams[match], state.awayTeams[match], score, score % 3);
+    }
+
+    @Benchmark
+    public void startAndFinishMatch(BoardState state, ThreadCursor cursor) {
+        state.board.startMatch(cursor.spareHomeTeam, cursor.spareAwayTeam);
+        state.board.finishMatch(cursor.spareHomeTeam, cursor.spareAwayTeam);
+    }
+
+    @Benchmark
+    public List<String> getSummary(BoardState state) {
+        return state.board.getSummary();
+    }
+
+    @Benchmark
+    public int getScoreboardAndActiveTeams(BoardState state) {
+        return state.board.getScoreboard().size() + state.board.getActiveTeams().size();
+    }
+}
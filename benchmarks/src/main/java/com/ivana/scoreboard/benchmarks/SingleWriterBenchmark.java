@@ -0,0 +1,78 @@
+package com.ivana.scoreboard.benchmarks;
+
+import com.ivana.scoreboard.SingleWriterScoreboard;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Single-writer scoreboard under four submitting threads: updates that wait for their future,
+ * updates that don't (bounded only by the queue), and snapshot reads.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@Threads(4)
+public class SingleWriterBenchmark {
+    @Param({"100", "10000"})
+    public int boardSize;
+
+    SingleWriterScoreboard board;
+    String[] homeTeams;
+    String[] awayTeams;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        board = new SingleWriterScoreboard();
+        homeTeams = new String[boardSize];
+        awayTeams = new String[boardSize];
+        CompletableFuture<Void> last = null;
+        for (int i = 0; i < boardSize; i++) {
+            homeTeams[i] = "Home " + i;
+            awayTeams[i] = "Away " + i;
+            board.startMatch(homeTeams[i], awayTeams[i]);
+            last = board.updateScore(homeTeams[i], awayTeams[i], i % 5, i % 3);
+        }
+        last.join();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        board.close();
+    }
+
+    @Benchmark
+    public void updateScoreAndWait(ThreadCursor cursor) {
+        int match = cursor.nextMatch(boardSize);
+        board.updateScore(homeTeams[match], awayTeams[match], cursor.nextScore(), 1).join();
+    }
+
+    @Benchmark
+    public CompletableFuture<Void> updateScoreAsync(ThreadCursor cursor) {
+        int match = cursor.nextMatch(boardSize);
+        return board.updateScore(homeTeams[match], awayTeams[match], cursor.nextScore(), 1);
+    }
+
+    @Benchmark
+    public List<String> getSummary() {
+        return board.getSummary();
+    }
+}
@@ -0,0 +1,86 @@
+package com.ivana.scoreboard.benchmarks;
+
+import com.ivana.scoreboard.JournaledScoreboard;
+import com.ivana.scoreboard.MappedScoreboardSnapshot;
+import com.ivana.scoreboard.Scoreboard;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+/**
+ * Cold start of a board with {@code boardSize} matches: opening a mapped snapshot and reading the top of its summary,
+ * loading the snapshot into a scoreboard, and recovering the same board from a journal snapshot.
+ */
+@Fork(1)
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 10)
+public class SnapshotBenchmark {
+    @Param({"100000", "500000"})
+    public int boardSize;
+
+    Path directory;
+    Path snapshot;
+    Path journal;
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        directory = Files.createTempDirectory("scoreboard-snapshot");
+        snapshot = directory.resolve("board.snapshot");
+        journal = directory.resolve("journal");
+        try (JournaledScoreboard board = new JournaledScoreboard(journal, 4096, 100, Integer.MAX_VALUE)) {
+            for (int i = 0; i < boardSize; i++) {
+                board.startMatch("Home " + i, "Away " + i);
+                board.updateScore("Home " + i, "Away " + i, i % 7, i % 5);
+            }
+            board.snapshot();
+            board.getBoard().writeSnapshot(snapshot);
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws IOException {
+        try (Stream<Path> files = Files.walk(directory)) {
+            for (Path file : files.sorted(Comparator.reverseOrder()).toList()) {
+                Files.delete(file);
+            }
+        }
+    }
+
+    @Benchmark
+    public List<String> openMappedSnapshot() {
+        return List.copyOf(MappedScoreboardSnapshot.open(snapshot).getSummary().subList(0, 10));
+    }
+
+    @Benchmark
+    public int loadSnapshot() {
+        return Scoreboard.loadSnapshot(snapshot).getSummary().size();
+    }
+
+    @Benchmark
+    public int recoverJournal() {
+        try (JournaledScoreboard board = new JournaledScoreboard(journal)) {
+            return board.getSummary().size();
+        }
+    }
+}
@@ -0,0 +1,74 @@
+package com.ivana.scoreboard.benchmarks;
+
+import com.ivana.scoreboard.GroupStandings;
+import com.ivana.scoreboard.ScoreboardEvent;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Cost of a live score update in the group tables, alone and followed by reading the table of its group.
+ * One match per group is in progress, so an update touches one group no matter how many groups there are.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class StandingsBenchmark {
+
+    @Param({"8", "1000"})
+    public int groupCount;
+
+    GroupStandings standings;
+    ScoreboardEvent.ScoreUpdated[] updates;
+    String[] groups;
+    int position;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        standings = new GroupStandings();
+        groups = new String[groupCount];
+        List<ScoreboardEvent.ScoreUpdated> events = new ArrayList<>();
+        long sequence = 0;
+        for (int group = 0; group < groupCount; group++) {
+            groups[group] = "Group " + group;
+            String home = "Home " + group;
+            String away = "Away " + group;
+            standings.defineGroup(groups[group], List.of(home, away, "Third " + group, "Fourth " + group));
+            String matchKey = home.toLowerCase() + "_vs_" + away.toLowerCase();
+            standings.apply(new ScoreboardEvent.MatchStarted(++sequence, matchKey, home, away));
+            for (int score = 0; score < 4; score++) {
+                events.add(new ScoreboardEvent.ScoreUpdated(0, matchKey, home, away, score, 3 - score));
+            }
+        }
+        updates = events.toArray(new ScoreboardEvent.ScoreUpdated[0]);
+    }
+
+    @Benchmark
+    public void applyUpdate() {
+        position = position + 1 == updates.length ? 0 : position + 1;
+        standings.apply(updates[position]);
+    }
+
+    @Benchmark
+    public List<GroupStandings.Standing> applyUpdateAndReadTable() {
+        position = position + 1 == updates.length ? 0 : position + 1;
+        standings.apply(updates[position]);
+        return standings.getTable(groups[position / 4]);
+    }
+}
@@ -0,0 +1,77 @@
+package com.ivana.scoreboard.benchmarks;
+
+import com.ivana.scoreboard.Scoreboard;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Score updates of {@link Scoreboard} by team names compared to updates by pre-resolved team IDs.
+ * Run with {@code -prof gc}, both paths should allocate nothing per update.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Thread)
+public class TeamIdUpdateBenchmark {
+
+    @Param({"10", "1000", "100000"})
+    public int boardSize;
+
+    private Scoreboard board;
+    private String[] homeTeams;
+    private String[] awayTeams;
+    private int[] homeTeamIds;
+    private int[] awayTeamIds;
+    private int position;
+    private int score;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        board = new Scoreboard();
+        homeTeams = new String[boardSize];
+        awayTeams = new String[boardSize];
+        homeTeamIds = new int[boardSize];
+        awayTeamIds = new int[boardSize];
+        for (int i = 0; i < boardSize; i++) {
+            homeTeams[i] = "Home " + i;
+            awayTeams[i] = "Away " + i;
+            board.startMatch(homeTeams[i], awayTeams[i]);
+            homeTeamIds[i] = board.getTeamId(homeTeams[i]);
+            awayTeamIds[i] = board.getTeamId(awayTeams[i]);
+        }
+    }
+
+    @Benchmark
+    public void updateScoreByTeamNames() {
+        int match = nextMatch();
+        board.updateScore(homeTeams[match], awayTeams[match], score, score % 3);
+    }
+
+    @Benchmark
+    public void updateScoreByTeamIds() {
+        int match = nextMatch();
+        board.updateScore(homeTeamIds[match], awayTeamIds[match], score, score % 3);
+    }
+
+    private int nextMatch() {
+        position = position + 1 == boardSize ? 0 : position + 1;
+        if (position == 0) {
+            score = score == 9 ? 0 : score + 1;
+        }
+        return position;
+    }
+}
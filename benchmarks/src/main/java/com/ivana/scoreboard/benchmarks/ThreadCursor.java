@@ -0,0 +1,36 @@
+package com.ivana.scoreboard.benchmarks;
+
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.SplittableRandom;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Per-thread position in the board and a pair of spare teams that no other thread uses.
+ */
+@State(Scope.Thread)
+public class ThreadCursor {
+    private static final AtomicInteger THREAD_IDS = new AtomicInteger();
+
+    public final int threadId = THREAD_IDS.getAndIncrement();
+    public final String spareHomeTeam = "Spare home " + threadId;
+    public final String spareAwayTeam = "Spare away " + threadId;
+    public final SplittableRandom random = new SplittableRandom(threadId);
+
+    private int position = -1;
+    private int score;
+
+    /**
+     * Returns the next match index, threads start at different matches and wrap around at the end of the board.
+     */
+    public int nextMatch(int boardSize) {
+        position = position < 0 ? threadId % boardSize : (position + 1) % boardSize;
+        return position;
+    }
+
+    public int nextScore() {
+        score = score == 9 ? 0 : score + 1;
+        return score;
+    }
+}
@@ -0,0 +1,247 @@
+package com.ivana.scoreboard.benchmarks;
+
+import com.ivana.scoreboard.LiveScoreboard;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * Scoreboard write traffic of simulated tournaments, ordered by simulated time.
+ * <p>
+ * Every tournament has 8 groups of 4 teams playing 3 matchdays, then round of 16, quarter finals, semi finals
+ * and the final on the following days. Groups kick off in 4 slots per day and every tournament starts in one of
+ * 8 slots of the first day, so matches of many tournaments start and finish in waves. Goals arrive as Poisson
+ * processes (1.45 home and 1.15 away goals per 90 minutes), 3% of the goals are disallowed a minute later,
+ * which the trace records as a score correction. The same seed always produces the same trace.
+ * <p>
+ * Traces can be written to and read from a tab separated text file, one event per line:
+ * {@code time START home away}, {@code time UPDATE home away homeScore awayScore} or {@code time FINISH home away}.
+ */
+public final class TournamentTrace {
+    private static final String HEADER = "# scoreboard trace v1";
+    private static final long MINUTE = 60_000;
+    private static final long SLOT = 180 * MINUTE;
+    private static final long DAY = 24 * 60 * MINUTE;
+    private static final int GROUPS = 8;
+    private static final int GROUP_SIZE = 4;
+    private static final double HOME_GOALS_PER_MINUTE = 1.45 / 90;
+    private static final double AWAY_GOALS_PER_MINUTE = 1.15 / 90;
+    private static final double DISALLOWED_GOAL_RATE = 0.03;
+
+    private final List<Event> events;
+
+    public enum Operation { START, UPDATE, FINISH }
+
+    /**
+     * One scoreboard call at a simulated time, scores are only used by updates.
+     */
+    public record Event(long timeMillis, Operation operation, String homeTeam, String awayTeam, int homeScore, int awayScore) {
+
+        /**
+         * Applies the event to a scoreboard.
+         */
+        public void applyTo(LiveScoreboard scoreboard) {
+            switch (operation) {
+                case START -> scoreboard.startMatch(homeTeam, awayTeam);
+                case UPDATE -> scoreboard.updateScore(homeTeam, awayTeam, homeScore, awayScore);
+                case FINISH -> scoreboard.finishMatch(homeTeam, awayTeam);
+            }
+        }
+    }
+
+    private TournamentTrace(List<Event> events) {
+        this.events = Collections.unmodifiableList(events);
+    }
+
+    /**
+     * Simulates the given number of tournaments running side by side.
+     */
+    public static TournamentTrace simulate(long seed, int tournaments) {
+        Random random = new Random(seed);
+        List<Event> events = new ArrayList<>();
+        for (int tournament = 0; tournament < tournaments; tournament++) {
+            long start = random.nextInt(8) * SLOT;
+            simulateTournament(random, tournament, start, events);
+        }
+        events.sort(Comparator.comparingLong(Event::timeMillis));
+        return new TournamentTrace(events);
+    }
+
+    public List<Event> events() {
+        return events;
+    }
+
+    /**
+     * Writes the trace to a file, replacing it.
+     *
+     * @throws UncheckedIOException if the file can not be written
+     */
+    public void write(Path file) {
+        try (BufferedWriter writer = Files.newBufferedWriter(file, StandardCharsets.UTF_8)) {
+            writer.write(HEADER);
+            writer.newLine();
+            for (Event event : events) {
+                writer.write(event.timeMillis() + "\t" + event.operation() + "\t" + event.homeTeam() + "\t" + event.awayTeam());
+                if (event.operation() == Operation.UPDATE) {
+                    writer.write("\t" + event.homeScore() + "\t" + event.awayScore());
+                }
+                writer.newLine();
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("Can not write trace " + file, e);
+        }
+    }
+
+    /**
+     * Reads a trace written by {@link #write(Path)}.
+     *
+     * @throws UncheckedIOException     if the file can not be read
+     * @throws IllegalArgumentException if the file is not a trace
+     */
+    public static TournamentTrace read(Path file) {
+        List<Event> events = new ArrayList<>();
+        try (BufferedReader reader = Files.newBufferedReader(file, StandardCharsets.UTF_8)) {
+            if (!HEADER.equals(reader.readLine())) {
+                throw new IllegalArgumentException("Not a scoreboard trace: " + file);
+            }
+            int lineNumber = 1;
+            for (String line = reader.readLine(); line != null; line = reader.readLine()) {
+                lineNumber++;
+                events.add(parse(line, lineNumber));
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("Can not read trace " + file, e);
+        }
+        return new TournamentTrace(events);
+    }
+
+    private static Event parse(String line, int lineNumber) {
+        String[] fields = line.split("\t");
+        try {
+            Operation operation = Operation.valueOf(fields[1]);
+            boolean update = operation == Operation.UPDATE;
+            if (fields.length != (update ? 6 : 4)) {
+                throw new IllegalArgumentException("Malformed trace line " + lineNumber);
+            }
+            return new Event(Long.parseLong(fields[0]), operation, fields[2], fields[3],
+                    update ? Integer.parseInt(fields[4]) : 0, update ? Integer.parseInt(fields[5]) : 0);
+        } catch (ArrayIndexOutOfBoundsException | NumberFormatException e) {
+            throw new IllegalArgumentException("Malformed trace line " + lineNumber, e);
+        }
+    }
+
+    private static void simulateTournament(Random random, int tournament, long start, List<Event> events) {
+        int[] points = new int[GROUPS * GROUP_SIZE];
+        int[] goalDifference = new int[GROUPS * GROUP_SIZE];
+        // round robin of four teams: every matchday pairs all teams once
+        int[][][] matchdays = {{{0, 1}, {2, 3}}, {{0, 2}, {3, 1}}, {{3, 0}, {1, 2}}};
+        for (int matchday = 0; matchday < matchdays.length; matchday++) {
+            for (int group = 0; group < GROUPS; group++) {
+                long kickOff = start + matchday * DAY + (group % 4) * SLOT;
+                for (int[] pairing : matchdays[matchday]) {
+                    int home = group * GROUP_SIZE + pairing[0];
+                    int away = group * GROUP_SIZE + pairing[1];
+                    int[] score = simulateMatch(random, kickOff, teamName(tournament, home), teamName(tournament, away), events);
+                    points[home] += score[0] > score[1] ? 3 : score[0] == score[1] ? 1 : 0;
+                    points[away] += score[1] > score[0] ? 3 : score[0] == score[1] ? 1 : 0;
+                    goalDifference[home] += score[0] - score[1];
+                    goalDifference[away] += score[1] - score[0];
+                }
+            }
+        }
+        List<Integer> qualified = new ArrayList<>();
+        for (int group = 0; group < GROUPS; group++) {
+            List<Integer> table = new ArrayList<>();
+            for (int team = group * GROUP_SIZE; team < (group + 1) * GROUP_SIZE; team++) {
+                table.add(team);
+            }
+            table.sort(Comparator.comparingInt((Integer team) -> -points[team]).thenComparingInt(team -> -goalDifference[team]));
+            qualified.add(table.get(0));
+            qualified.add(table.get(1));
+        }
+        // round of 16: winner of a group against the runner-up of its neighbour group
+        List<Integer> round = new ArrayList<>();
+        for (int group = 0; group < GROUPS; group += 2) {
+            round.add(qualified.get(2 * group));
+            round.add(qualified.get(2 * (group + 1) + 1));
+            round.add(qualified.get(2 * (group + 1)));
+            round.add(qualified.get(2 * group + 1));
+        }
+        long day = start + matchdays.length * DAY;
+        while (round.size() > 1) {
+            List<Integer> winners = new ArrayList<>();
+            for (int i = 0; i < round.size(); i += 2) {
+                long kickOff = day + (i / 2 % 4) * SLOT;
+                int[] score = simulateMatch(random, kickOff, teamName(tournament, round.get(i)),
+                        teamName(tournament, round.get(i + 1)), events);
+                boolean homeWins = score[0] > score[1] || (score[0] == score[1] && random.nextBoolean());
+                winners.add(homeWins ? round.get(i) : round.get(i + 1));
+            }
+            round = winners;
+            day += DAY;
+        }
+    }
+
+    /**
+     * Adds the events of one match and returns its final score.
+     */
+    private static int[] simulateMatch(Random random, long kickOff, String homeTeam, String awayTeam, List<Event> events) {
+        events.add(new Event(kickOff, Operation.START, homeTeam, awayTeam, 0, 0));
+        double duration = 90 + random.nextInt(8);
+        double homeGoal = nextArrival(random, 0, HOME_GOALS_PER_MINUTE);
+        double awayGoal = nextArrival(random, 0, AWAY_GOALS_PER_MINUTE);
+        int homeScore = 0;
+        int awayScore = 0;
+        while (Math.min(homeGoal, awayGoal) < duration) {
+            boolean home = homeGoal < awayGoal;
+            double minute = home ? homeGoal : awayGoal;
+            if (home) {
+                homeScore++;
+                homeGoal = nextArrival(random, minute, HOME_GOALS_PER_MINUTE);
+            } else {
+                awayScore++;
+                awayGoal = nextArrival(random, minute, AWAY_GOALS_PER_MINUTE);
+            }
+            long time = kickOff + matchTime(minute);
+            events.add(new Event(time, Operation.UPDATE, homeTeam, awayTeam, homeScore, awayScore));
+            if (random.nextDouble() < DISALLOWED_GOAL_RATE) {
+                if (home) {
+                    homeScore--;
+                } else {
+                    awayScore--;
+                }
+                events.add(new Event(time + MINUTE, Operation.UPDATE, homeTeam, awayTeam, homeScore, awayScore));
+                // play is stopped while the goal is reviewed
+                homeGoal = Math.max(homeGoal, minute + 1);
+                awayGoal = Math.max(awayGoal, minute + 1);
+            }
+        }
+        events.add(new Event(kickOff + matchTime(duration) + MINUTE, Operation.FINISH, homeTeam, awayTeam, 0, 0));
+        return new int[]{homeScore, awayScore};
+    }
+
+    private static double nextArrival(Random random, double minute, double goalsPerMinute) {
+        return minute - Math.log(1 - random.nextDouble()) / goalsPerMinute;
+    }
+
+    /**
+     * Converts a minute of play to milliseconds after kick-off, including the 15 minute half-time break.
+     */
+    private static long matchTime(double minute) {
+        return (long) (minute * MINUTE) + (minute >= 45 ? 15 * MINUTE : 0);
+    }
+
+    private static String teamName(int tournament, int team) {
+        return "Cup " + tournament + " Team " + team;
+    }
+}
@@ -0,0 +1,327 @@
+package com.ivana.scoreboard.http;
+
+import com.ivana.scoreboard.ScoreboardEvent;
+import com.ivana.scoreboard.SingleWriterScoreboard;
+import com.sun.net.httpserver.Headers;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Flow;
+import java.util.function.Supplier;
+
+/**
+ * Read-only HTTP API over a scoreboard, served by the JDK's built-in HTTP server with one virtual thread per exchange.
+ * <ul>
+ *     <li>{@code GET /summary} returns the summary as plain text, one match per line, or as JSON when the
+ *     {@code Accept} header asks for {@code application/json}. The encoded bodies are cached per scoreboard version,
+ *     so requests only copy bytes, and the version is sent as {@code ETag} so a matching {@code If-None-Match}
+ *     ({@code *}, a list of tags, weak {@code W/} tags compared weakly) is answered with 304 Not Modified.</li>
+ *     <li>{@code GET /events} is a Server-Sent Events stream: a {@code summary} event with the current summary,
+ *     followed by a {@code MatchStarted}, {@code ScoreUpdated} or {@code MatchFinished} event for every change.
+ *     Event IDs are scoreboard versions, a change published while the stream starts can also be part of the summary,
+ *     clients skip events with an ID not greater than the summary's.</li>
+ * </ul>
+ */
+public class ScoreboardHttpServer implements AutoCloseable {
+    private static final String JSON = "application/json";
+    private static final String TEXT = "text/plain; charset=utf-8";
+
+    private final HttpServer server;
+    private final ExecutorService executor;
+    private final Supplier<SingleWriterScoreboard.Snapshot> snapshots;
+    private final Flow.Publisher<ScoreboardEvent> events;
+    private final Set<EventStream> streams;
+    private volatile CachedBody cachedBody;
+
+    /**
+     * Serves the snapshots and events of a single-writer scoreboard, which can be read from any thread.
+     *
+     * @throws UncheckedIOException if the server can not bind to the address
+     */
+    public ScoreboardHttpServer(InetSocketAddress address, SingleWriterScoreboard scoreboard) {
+        this(address, scoreboard::getSnapshot, scoreboard.getEvents());
+    }
+
+    /**
+     * Serves the snapshots returned by the supplier and the events of the publisher.
+     * The supplier is called from many threads at once.
+     *
+     * @throws UncheckedIOException if the server can not bind to the address
+     */
+    public ScoreboardHttpServer(InetSocketAddress address, Supplier<SingleWriterScoreboard.Snapshot> snapshots,
+                                Flow.Publisher<ScoreboardEvent> events) {
+        this.snapshots = snapshots;
+        this.events = events;
+        this.streams = ConcurrentHashMap.newKeySet();
+        this.executor = Executors.newVirtualThreadPerTaskExecutor();
+        try {
+            this.server = HttpServer.create(address, 0);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Can not start scoreboard HTTP server on " + address, e);
+        }
+        server.setExecutor(executor);
+        server.createContext("/summary", this::handleSummary);
+        server.createContext("/events", this::handleEvents);
+        server.start();
+    }
+
+    /**
+     * Returns the address the server listens on, useful when it was started on port 0.
+     */
+    public InetSocketAddress getAddress() {
+        return server.getAddress();
+    }
+
+    /**
+     * Stops the server, ending all open event streams.
+     */
+    @Override
+    public void close() {
+        server.stop(0);
+        for (EventStream stream : streams) {
+            stream.end();
+        }
+        executor.shutdown();
+    }
+
+    private void handleSummary(HttpExchange exchange) throws IOException {
+        try (exchange) {
+            if (!rejectUnlessGet(exchange)) {
+                return;
+            }
+            CachedBody body = currentBody();
+            boolean json = accepts(exchange, JSON);
+            String etag = "\"" + body.version() + (json ? "-json\"" : "-text\"");
+            Headers headers = exchange.getResponseHeaders();
+            headers.set("ETag", etag);
+            headers.set("Vary", "Accept");
+            headers.set("Cache-Control", "no-cache");
+            if (noneMatchFails(exchange.getRequestHeaders().get("If-None-Match"), etag)) {
+                exchange.sendResponseHeaders(304, -1);
+                return;
+            }
+            byte[] bytes = json ? body.json() : body.text();
+            headers.set("Content-Type", json ? JSON : TEXT);
+            if (exchange.getRequestMethod().equals("HEAD")) {
+                exchange.sendResponseHeaders(200, -1);
+                return;
+            }
+            exchange.sendResponseHeaders(200, bytes.length == 0 ? -1 : bytes.length);
+            exchange.getResponseBody().write(bytes);
+        }
+    }
+
+    private void handleEvents(HttpExchange exchange) throws IOException {
+        try (exchange) {
+            if (!rejectUnlessGet(exchange)) {
+                return;
+            }
+            exchange.getResponseHeaders().set("Content-Type", "text/event-stream; charset=utf-8");
+            exchange.getResponseHeaders().set("Cache-Control", "no-cache");
+            if (exchange.getRequestMethod().equals("HEAD")) {
+                // a HEAD exchange has no body to stream, waiting for the stream to end would hang it until close
+                exchange.sendResponseHeaders(200, -1);
+                return;
+            }
+            exchange.sendResponseHeaders(200, 0);
+            EventStream stream = new EventStream(exchange.getResponseBody());
+            streams.add(stream);
+            try {
+                events.subscribe(stream);
+                stream.awaitEnd();
+            } finally {
+                streams.remove(stream);
+            }
+        }
+    }
+
+    private static boolean rejectUnlessGet(HttpExchange exchange) throws IOException {
+        String method = exchange.getRequestMethod();
+        if (method.equals("GET") || method.equals("HEAD")) {
+            return true;
+        }
+        exchange.getResponseHeaders().set("Allow", "GET, HEAD");
+        exchange.sendResponseHeaders(405, -1);
+        return false;
+    }
+
+    /**
+     * Returns true if one of the If-None-Match headers matches the entity tag: {@code *}, or one of its
+     * comma separated tags compared weakly, i.e. ignoring a {@code W/} prefix.
+     */
+    static boolean noneMatchFails(List<String> ifNoneMatch, String etag) {
+        if (ifNoneMatch == null) {
+            return false;
+        }
+        for (String header : ifNoneMatch) {
+            for (String tag : header.split(",")) {
+                String trimmed = tag.trim();
+                if (trimmed.startsWith("W/")) {
+                    trimmed = trimmed.substring(2);
+                }
+                if (trimmed.equals("*") || trimmed.equals(etag)) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+
+    private static boolean accepts(HttpExchange exchange, String mediaType) {
+        String accept = exchange.getRequestHeaders().getFirst("Accept");
+        return accept != null && accept.contains(mediaType);
+    }
+
+    /**
+     * Returns the encoded summary of the current version, encoding it only when the version changed.
+     * Concurrent requests may encode the same version twice, which is harmless.
+     */
+    private CachedBody currentBody() {
+        SingleWriterScoreboard.Snapshot snapshot = snapshots.get();
+        CachedBody cached = cachedBody;
+        if (cached != null && cached.version() == snapshot.version()) {
+            return cached;
+        }
+        CachedBody body = new CachedBody(snapshot.version(),
+                textOf(snapshot.summary()).getBytes(StandardCharsets.UTF_8),
+                jsonOf(snapshot.version(), snapshot.summary()).getBytes(StandardCharsets.UTF_8));
+        cachedBody = body;
+        return body;
+    }
+
+    private static String textOf(List<String> summary) {
+        StringBuilder text = new StringBuilder();
+        for (String line : summary) {
+            text.append(line).append('\n');
+        }
+        return text.toString();
+    }
+
+    static String jsonOf(long version, List<String> summary) {
+        StringBuilder json = new StringBuilder("{\"version\":").append(version).append(",\"summary\":[");
+        for (int i = 0; i < summary.size(); i++) {
+            if (i > 0) {
+                json.append(',');
+            }
+            appendJsonString(json, summary.get(i));
+        }
+        return json.append("]}").toString();
+    }
+
+    static String jsonOf(ScoreboardEvent event) {
+        StringBuilder json = new StringBuilder("{\"sequence\":").append(event.sequence()).append(",\"matchKey\":");
+        appendJsonString(json, event.matchKey());
+        json.append(",\"homeTeam\":");
+        appendJsonString(json, event.homeTeam());
+        json.append(",\"awayTeam\":");
+        appendJsonString(json, event.awayTeam());
+        if (event instanceof ScoreboardEvent.ScoreUpdated updated) {
+            json.append(",\"homeScore\":").append(updated.homeScore()).append(",\"awayScore\":").append(updated.awayScore());
+        } else if (event instanceof ScoreboardEvent.MatchFinished finished) {
+            json.append(",\"homeScore\":").append(finished.homeScore()).append(",\"awayScore\":").append(finished.awayScore());
+        }
+        return json.append('}').toString();
+    }
+
+    private static void appendJsonString(StringBuilder json, String value) {
+        json.append('"');
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            switch (c) {
+                case '"' -> json.append("\\\"");
+                case '\\' -> json.append("\\\\");
+                case '\n' -> json.append("\\n");
+                case '\r' -> json.append("\\r");
+                case '\t' -> json.append("\\t");
+                default -> {
+                    if (c < 0x20) {
+                        json.append(String.format("\\u%04x", (int) c));
+                    } else {
+                        json.append(c);
+                    }
+                }
+            }
+        }
+        json.append('"');
+    }
+
+    private record CachedBody(long version, byte[] text, byte[] json) {
+    }
+
+    /**
+     * Subscription of one SSE client, events are written and flushed on the publisher's thread.
+     * The stream ends when the client goes away, the publisher completes or the server is closed.
+     */
+    private final class EventStream implements Flow.Subscriber<ScoreboardEvent> {
+        private final OutputStream out;
+        private final CountDownLatch ended;
+        private volatile Flow.Subscription subscription;
+
+        EventStream(OutputStream out) {
+            this.out = out;
+            this.ended = new CountDownLatch(1);
+        }
+
+        @Override
+        public void onSubscribe(Flow.Subscription subscription) {
+            this.subscription = subscription;
+            SingleWriterScoreboard.Snapshot snapshot = snapshots.get();
+            if (write(snapshot.version(), "summary", jsonOf(snapshot.version(), snapshot.summary()))) {
+                subscription.request(Long.MAX_VALUE);
+            }
+        }
+
+        @Override
+        public void onNext(ScoreboardEvent event) {
+            write(event.sequence(), event.getClass().getSimpleName(), jsonOf(event));
+        }
+
+        @Override
+        public void onError(Throwable throwable) {
+            end();
+        }
+
+        @Override
+        public void onComplete() {
+            end();
+        }
+
+        private boolean write(long id, String name, String data) {
+            try {
+                out.write(("id: " + id + "\nevent: " + name + "\ndata: " + data + "\n\n").getBytes(StandardCharsets.UTF_8));
+                out.flush();
+                return true;
+            } catch (IOException e) {
+                end();
+                return false;
+            }
+        }
+
+        void awaitEnd() {
+            try {
+                ended.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+
+        void end() {
+            Flow.Subscription current = subscription;
+            if (current != null) {
+                current.cancel();
+            }
+            ended.countDown();
+        }
+    }
+}
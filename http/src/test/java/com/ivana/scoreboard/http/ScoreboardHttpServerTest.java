@@ -0,0 +1,145 @@
+package com.ivana.scoreboard.http;
+
+import com.ivana.scoreboard.ScoreboardEvent;
+import com.ivana.scoreboard.SingleWriterScoreboard;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.BufferedReader;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.net.InetSocketAddress;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ScoreboardHttpServerTest {
+    private SingleWriterScoreboard scoreboard;
+    private ScoreboardHttpServer server;
+    private HttpClient client;
+
+    @BeforeEach
+    void setUp() {
+        scoreboard = new SingleWriterScoreboard();
+        server = new ScoreboardHttpServer(new InetSocketAddress("localhost", 0), scoreboard);
+        client = HttpClient.newHttpClient();
+    }
+
+    @AfterEach
+    void tearDown() {
+        server.close();
+        scoreboard.close();
+    }
+
+    @Test
+    @DisplayName("Summary endpoint should return the summary as text or JSON")
+    void summary_shouldReturnTextAndJson() throws Exception {
+        scoreboard.startMatch("Mexico", "Canada");
+        scoreboard.updateScore("Mexico", "Canada", 0, 5);
+        scoreboard.startMatch("Spain", "Brazil");
+        scoreboard.updateScore("Spain", "Brazil", 10, 2).join();
+
+        HttpResponse<String> text = client.send(request("/summary").build(), HttpResponse.BodyHandlers.ofString());
+        HttpResponse<String> json = client.send(request("/summary").header("Accept", "application/json").build(),
+                HttpResponse.BodyHandlers.ofString());
+
+        assertEquals(200, text.statusCode());
+        assertEquals("Spain 10 - Brazil 2\nMexico 0 - Canada 5\n", text.body());
+        assertEquals("{\"version\":4,\"summary\":[\"Spain 10 - Brazil 2\",\"Mexico 0 - Canada 5\"]}", json.body());
+        assertEquals("application/json", json.headers().firstValue("Content-Type").orElseThrow());
+        assertNotEquals(text.headers().firstValue("ETag"), json.headers().firstValue("ETag"));
+    }
+
+    @Test
+    @DisplayName("Summary endpoint should answer a matching If-None-Match with 304 until the version changes")
+    void summary_shouldSupportConditionalRequests() throws Exception {
+        scoreboard.startMatch("Brazil", "Croatia").join();
+        HttpResponse<String> first = client.send(request("/summary").build(), HttpResponse.BodyHandlers.ofString());
+        String etag = first.headers().firstValue("ETag").orElseThrow();
+
+        HttpResponse<String> notModified = client.send(request("/summary").header("If-None-Match", etag).build(),
+                HttpResponse.BodyHandlers.ofString());
+        assertEquals(304, notModified.statusCode());
+
+        scoreboard.updateScore("Brazil", "Croatia", 1, 0).join();
+        HttpResponse<String> modified = client.send(request("/summary").header("If-None-Match", etag).build(),
+                HttpResponse.BodyHandlers.ofString());
+        assertEquals(200, modified.statusCode());
+        assertEquals("Brazil 1 - Croatia 0\n", modified.body());
+
+        HttpResponse<String> post = client.send(request("/summary").POST(HttpRequest.BodyPublishers.noBody()).build(),
+                HttpResponse.BodyHandlers.ofString());
+        assertEquals(405, post.statusCode());
+    }
+
+    @Test
+    @DisplayName("If-None-Match should match any tag of a list, weak tags and *")
+    void noneMatchFails_shouldHandleListsWeakTagsAndWildcard() {
+        String etag = "\"4-json\"";
+
+        assertTrue(ScoreboardHttpServer.noneMatchFails(List.of("\"3-json\", \"4-json\""), etag));
+        assertTrue(ScoreboardHttpServer.noneMatchFails(List.of("W/\"4-json\""), etag));
+        assertTrue(ScoreboardHttpServer.noneMatchFails(List.of("\"1-text\"", " * "), etag));
+        assertFalse(ScoreboardHttpServer.noneMatchFails(List.of("\"4-text\", W/\"3-json\""), etag));
+        assertFalse(ScoreboardHttpServer.noneMatchFails(null, etag));
+    }
+
+    @Test
+    @DisplayName("Events endpoint should stream the current summary followed by every change")
+    void events_shouldStreamChanges() throws Exception {
+        scoreboard.startMatch("Brazil", "Croatia").join();
+        HttpResponse<InputStream> response = client.send(request("/events").build(), HttpResponse.BodyHandlers.ofInputStream());
+        assertEquals("text/event-stream; charset=utf-8", response.headers().firstValue("Content-Type").orElseThrow());
+
+        List<String> lines = new ArrayList<>();
+        try (BufferedReader reader = new BufferedReader(new InputStreamReader(response.body(), StandardCharsets.UTF_8))) {
+            readEvent(reader, lines);
+            scoreboard.updateScore("Brazil", "Croatia", 2, 1).join();
+            readEvent(reader, lines);
+        }
+
+        assertEquals(List.of(
+                "id: 1", "event: summary", "data: {\"version\":1,\"summary\":[\"Brazil 0 - Croatia 0\"]}",
+                "id: 2", "event: ScoreUpdated", "data: {\"sequence\":2,\"matchKey\":\"brazil_vs_croatia\","
+                        + "\"homeTeam\":\"Brazil\",\"awayTeam\":\"Croatia\",\"homeScore\":2,\"awayScore\":1}"), lines);
+    }
+
+    @Test
+    @DisplayName("HEAD on the events endpoint should return the headers without waiting for events")
+    void events_shouldAnswerHeadWithHeadersOnly() throws Exception {
+        HttpResponse<Void> response = client.send(request("/events").method("HEAD", HttpRequest.BodyPublishers.noBody())
+                .timeout(Duration.ofSeconds(5)).build(), HttpResponse.BodyHandlers.discarding());
+
+        assertEquals(200, response.statusCode());
+        assertEquals("text/event-stream; charset=utf-8", response.headers().firstValue("Content-Type").orElseThrow());
+    }
+
+    @Test
+    @DisplayName("JSON should escape quotes, backslashes and control characters in team names")
+    void json_shouldEscapeStrings() {
+        assertEquals("{\"version\":3,\"summary\":[\"A \\\"B\\\" 1 - C\\\\D\\n 0\"]}",
+                ScoreboardHttpServer.jsonOf(3, List.of("A \"B\" 1 - C\\D\n 0")));
+        assertEquals("{\"sequence\":1,\"matchKey\":\"a_vs_b\",\"homeTeam\":\"A\",\"awayTeam\":\"B\"}",
+                ScoreboardHttpServer.jsonOf(new ScoreboardEvent.MatchStarted(1, "a_vs_b", "A", "B")));
+    }
+
+    private HttpRequest.Builder request(String path) {
+        InetSocketAddress address = server.getAddress();
+        return HttpRequest.newBuilder(URI.create("http://localhost:" + address.getPort() + path));
+    }
+
+    private static void readEvent(BufferedReader reader, List<String> lines) throws Exception {
+        for (String line = reader.readLine(); line != null && !line.isEmpty(); line = reader.readLine()) {
+            lines.add(line);
+        }
+    }
+}
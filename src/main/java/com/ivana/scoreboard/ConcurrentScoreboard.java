@@ -0,0 +1,267 @@
+package com.ivana.scoreboard;
+
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Thread-safe scoreboard with the same behaviour and validation rules as {@link Scoreboard}.
+ * Operations on a match are guarded by a lock stripe chosen by the match key, so updates of different matches
+ * don't wait for each other. Reading the summary takes no locks.
+ */
+public class ConcurrentScoreboard implements LiveScoreboard {
+    private static final int LOCK_STRIPES = 64;
+
+    /**
+     * Map storing active matches by "hometeam_vs_awayteam" key.
+     * Active teams map each normalized team name to the key of the match it is playing. Both teams of a match
+     * are checked and claimed while holding their team lock stripes, so two matches can never book the same team
+     * and a start is only rejected because of a match that really holds one of its teams.
+     */
+    private final ConcurrentHashMap<String, FootballMatch> scoreboard;
+    private final ConcurrentHashMap<String, String> activeTeams;
+    private final ReentrantLock[] locks;
+    private final ReentrantLock[] teamLocks;
+    private final AtomicLong nextStartSequence;
+
+    /**
+     * Modification version, increased after every successful start, update and finish.
+     * The cached summary is tagged with the version read before it was built, so a summary that
+     * may have missed a concurrent change is never reused.
+     */
+    private final AtomicLong version;
+    private volatile CachedSummary cachedSummary;
+    private final SummarySorter summarySorter;
+
+    /**
+     * Constructs a new empty ConcurrentScoreboard with no active matches.
+     */
+    public ConcurrentScoreboard() {
+        this.scoreboard = new ConcurrentHashMap<>();
+        this.activeTeams = new ConcurrentHashMap<>();
+        this.locks = new ReentrantLock[LOCK_STRIPES];
+        this.teamLocks = new ReentrantLock[LOCK_STRIPES];
+        for (int i = 0; i < LOCK_STRIPES; i++) {
+            locks[i] = new ReentrantLock();
+            teamLocks[i] = new ReentrantLock();
+        }
+        this.nextStartSequence = new AtomicLong();
+        this.version = new AtomicLong();
+        this.summarySorter = new SummarySorter();
+    }
+
+    @Override
+    public Set<String> getActiveTeams() {
+        return Collections.unmodifiableSet(new HashSet<>(activeTeams.keySet()));
+    }
+
+    @Override
+    public Map<String, FootballMatch> getScoreboard() {
+        List<Map.Entry<String, FootballMatch>> entries = new ArrayList<>(scoreboard.entrySet());
+        entries.sort(Comparator.comparingLong(entry -> entry.getValue().getStartSequence()));
+        LinkedHashMap<String, FootballMatch> ordered = new LinkedHashMap<>();
+        for (Map.Entry<String, FootballMatch> entry : entries) {
+            ordered.put(entry.getKey(), entry.getValue());
+        }
+        return Collections.unmodifiableMap(ordered);
+    }
+
+    @Override
+    public FootballMatch getMatch(String homeTeam, String awayTeam) {
+        return scoreboard.get(Scoreboard.createMatchKey(homeTeam, awayTeam));
+    }
+
+    private ReentrantLock lockFor(String matchKey) {
+        return locks[stripeOf(matchKey)];
+    }
+
+    private static int stripeOf(String matchKey) {
+        return (matchKey.hashCode() & 0x7fff_ffff) % LOCK_STRIPES;
+    }
+
+    private static String normalizeTeamName(String teamName) {
+        return teamName.trim().toLowerCase();
+    }
+
+    /**
+     * Starts a new football match between the specified teams.
+     * The match lock stripe is taken first, then the team lock stripes of both teams in ascending order,
+     * so concurrent starts never deadlock, and both teams are checked and claimed under them.
+     */
+    @Override
+    public void startMatch(String homeTeam, String awayTeam) {
+        String matchKey = Scoreboard.createMatchKey(homeTeam, awayTeam);
+        String home = normalizeTeamName(homeTeam);
+        String away = normalizeTeamName(awayTeam);
+        ReentrantLock lock = lockFor(matchKey);
+        int homeStripe = stripeOf(home);
+        int awayStripe = stripeOf(away);
+        ReentrantLock firstTeamLock = teamLocks[Math.min(homeStripe, awayStripe)];
+        ReentrantLock secondTeamLock = teamLocks[Math.max(homeStripe, awayStripe)];
+        lock.lock();
+        firstTeamLock.lock();
+        secondTeamLock.lock();
+        try {
+            String homeMatch = activeTeams.get(home);
+            String awayMatch = activeTeams.get(away);
+            if (matchKey.equals(homeMatch)) {
+                throw new IllegalStateException("This match is already in progress");
+            }
+            if (homeMatch != null || awayMatch != null) {
+                throw new IllegalStateException("This match can not be initialized since one of the teams is already in the game");
+            }
+            FootballMatch footballMatch = new FootballMatch(homeTeam, awayTeam, nextStartSequence.getAndIncrement());
+            activeTeams.put(home, matchKey);
+            activeTeams.put(away, matchKey);
+            scoreboard.put(matchKey, footballMatch);
+            version.incrementAndGet();
+        } finally {
+            secondTeamLock.unlock();
+            firstTeamLock.unlock();
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Updates the score for an existing ongoing match.
+     */
+    @Override
+    public void updateScore(String homeTeam, String awayTeam, int homeScore, int awayScore) {
+        String matchKey = Scoreboard.createMatchKey(homeTeam, awayTeam);
+        ReentrantLock lock = lockFor(matchKey);
+        lock.lock();
+        try {
+            FootballMatch match = scoreboard.get(matchKey);
+            if (match == null) {
+                throw new IllegalStateException("Can not update match that doesn't exist");
+            }
+            Scoreboard.validateScore(homeScore);
+            Scoreboard.validateScore(awayScore);
+            match.setScore(homeScore, awayScore);
+            version.incrementAndGet();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Applies all score updates as one unit, see {@link LiveScoreboard#applyBatch(List)}.
+     * The lock stripes of all matches in the batch are taken in ascending order, so batches never deadlock
+     * each other, and held while the batch is validated and applied. The version increases once per batch.
+     * Reading the summary still takes no locks, so a summary built while the batch is applied can contain
+     * only part of it, but such a summary is never reused once the batch is done.
+     */
+    @Override
+    public void applyBatch(List<ScoreUpdate> updates) {
+        int size = updates.size();
+        String[] matchKeys = new String[size];
+        boolean[] stripes = new boolean[LOCK_STRIPES];
+        for (int i = 0; i < size; i++) {
+            ScoreUpdate update = updates.get(i);
+            matchKeys[i] = Scoreboard.createMatchKey(update.homeTeam(), update.awayTeam());
+            stripes[stripeOf(matchKeys[i])] = true;
+        }
+        int locked = 0;
+        try {
+            for (; locked < LOCK_STRIPES; locked++) {
+                if (stripes[locked]) {
+                    locks[locked].lock();
+                }
+            }
+            FootballMatch[] matches = new FootballMatch[size];
+            for (int i = 0; i < size; i++) {
+                ScoreUpdate update = updates.get(i);
+                matches[i] = scoreboard.get(matchKeys[i]);
+                if (matches[i] == null) {
+                    throw new IllegalStateException("Can not update match that doesn't exist");
+                }
+                Scoreboard.validateScore(update.homeScore());
+                Scoreboard.validateScore(update.awayScore());
+            }
+            for (int i = 0; i < size; i++) {
+                matches[i].setScore(updates.get(i).homeScore(), updates.get(i).awayScore());
+            }
+            if (size > 0) {
+                version.incrementAndGet();
+            }
+        } finally {
+            while (locked-- > 0) {
+                if (stripes[locked]) {
+                    locks[locked].unlock();
+                }
+            }
+        }
+    }
+
+    /**
+     * Finishes ongoing match, removes it from the scoreboard and releases both teams.
+     */
+    @Override
+    public void finishMatch(String homeTeam, String awayTeam) {
+        String matchKey = Scoreboard.createMatchKey(homeTeam, awayTeam);
+        ReentrantLock lock = lockFor(matchKey);
+        lock.lock();
+        try {
+            if (scoreboard.remove(matchKey) == null) {
+                throw new IllegalStateException("Can not finish the match that is not ongoing");
+            }
+            activeTeams.remove(normalizeTeamName(homeTeam), matchKey);
+            activeTeams.remove(normalizeTeamName(awayTeam), matchKey);
+            version.incrementAndGet();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Returns the modification version of the scoreboard, it increases with every start, update and finish of a match.
+     */
+    public long getVersion() {
+        return version.get();
+    }
+
+    /**
+     * Sets the number of ongoing matches from which the summary is sorted and rendered in parallel on the
+     * common fork/join pool, 20 000 by default. 0 always builds it in parallel, {@code Integer.MAX_VALUE} never does.
+     *
+     * @throws IllegalArgumentException if the threshold is negative
+     */
+    public void setParallelSummaryThreshold(int threshold) {
+        summarySorter.setThreshold(threshold);
+    }
+
+    /**
+     * Generates a summary of all active matches with the same ordering as {@link Scoreboard#getSummary()}.
+     * Scores of every match are read once as an atomic snapshot before sorting, so concurrent updates can't
+     * change the ordering while it is being sorted or show half applied scores, and writers are never blocked.
+     * Large boards are sorted and rendered in parallel, see {@link #setParallelSummaryThreshold(int)}.
+     * The returned list is unmodifiable and the same instance is returned until the scoreboard changes.
+     */
+    @Override
+    public List<String> getSummary() {
+        long currentVersion = version.get();
+        CachedSummary cached = cachedSummary;
+        if (cached != null && cached.version() == currentVersion) {
+            return cached.summary();
+        }
+        FootballMatch[] matches = scoreboard.values().toArray(new FootballMatch[0]);
+        long[] summaryKeys = new long[matches.length];
+        long[] scores = new long[matches.length];
+        LongIntIndex positions = new LongIntIndex();
+        for (int i = 0; i < matches.length; i++) {
+            scores[i] = matches[i].getScoreSnapshot();
+            summaryKeys[i] = FootballMatch.summaryKey(FootballMatch.totalScoreOf(scores[i]), matches[i].getStartSequence());
+            positions.put(matches[i].getStartSequence(), i);
+        }
+        List<String> result = summarySorter.sortAndRender(summaryKeys, matches.length, summaryKey -> {
+            int position = positions.get(FootballMatch.startSequenceOf(summaryKey));
+            return matches[position].getSummaryLine(scores[position]);
+        });
+        cachedSummary = new CachedSummary(currentVersion, result);
+        return result;
+    }
+
+    private record CachedSummary(long version, List<String> summary) {
+    }
+}
@@ -0,0 +1,183 @@
+package com.ivana.scoreboard;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Ingestion layer in front of a scoreboard for score updates from several redundant, possibly late or
+ * out-of-order feeds.
+ * <ul>
+ *     <li>Every match has a high-water mark, the newest timestamp offered for it. An update with a timestamp
+ *     not after the mark is a duplicate or stale and is dropped, so when two providers send the same score
+ *     the first copy wins.</li>
+ *     <li>Accepted updates wait until {@link #flush()}, a newer update of the same match replaces the waiting one,
+ *     so a burst of updates costs one write.</li>
+ *     <li>{@link #flush()}, called once per tick, skips scores the scoreboard currently shows and applies the rest
+ *     with one {@link LiveScoreboard#applyBatch(List)}. If the batch is rejected, e.g. because one of its matches
+ *     was finished meanwhile, the updates are applied one by one and only the invalid ones are rejected.</li>
+ * </ul>
+ * High-water marks are kept for a bounded number of matches, the least recently updated match is forgotten first.
+ * Updates can be offered from any number of threads, flushes must not run concurrently with other writers of the scoreboard.
+ */
+public class FeedIngestor {
+    private static final int DEFAULT_TRACKED_MATCHES = 65_536;
+
+    private final LiveScoreboard scoreboard;
+    private final Map<String, MatchMark> marks;
+    private Map<String, FeedUpdate> pending;
+    private long received;
+    private long stale;
+    private long coalesced;
+    private long unchanged;
+    private long applied;
+    private long rejected;
+
+    /**
+     * Ingestion counters since the ingestor was created.
+     *
+     * @param received  updates offered
+     * @param stale     updates dropped as duplicates or older than an update already offered
+     * @param coalesced updates replaced by a newer update of the same match before a flush
+     * @param unchanged flushed updates skipped because the scoreboard already showed the score
+     * @param applied   updates written to the scoreboard
+     * @param rejected  updates the scoreboard rejected
+     */
+    public record Stats(long received, long stale, long coalesced, long unchanged, long applied, long rejected) {
+    }
+
+    /**
+     * Constructs an ingestor that remembers the high-water marks of 65536 matches.
+     */
+    public FeedIngestor(LiveScoreboard scoreboard) {
+        this(scoreboard, DEFAULT_TRACKED_MATCHES);
+    }
+
+    /**
+     * @param trackedMatches maximum number of matches whose high-water mark is remembered
+     * @throws IllegalArgumentException if the number of tracked matches is not positive
+     */
+    public FeedIngestor(LiveScoreboard scoreboard, int trackedMatches) {
+        if (trackedMatches <= 0) {
+            throw new IllegalArgumentException("Number of tracked matches must be positive");
+        }
+        this.scoreboard = scoreboard;
+        this.marks = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, MatchMark> eldest) {
+                return size() > trackedMatches;
+            }
+        };
+        this.pending = new LinkedHashMap<>();
+    }
+
+    /**
+     * Offers an update, returns false if it was dropped as a duplicate or stale update.
+     *
+     * @throws IllegalArgumentException if the source or a team name is null or empty
+     */
+    public synchronized boolean offer(FeedUpdate update) {
+        if (update.source() == null || update.source().isBlank()) {
+            throw new IllegalArgumentException("Source can not be null or empty");
+        }
+        if (update.homeTeam() == null || update.homeTeam().isBlank() || update.awayTeam() == null || update.awayTeam().isBlank()) {
+            throw new IllegalArgumentException("Team name can not be null or empty");
+        }
+        received++;
+        String matchKey = Scoreboard.createMatchKey(update.homeTeam(), update.awayTeam());
+        MatchMark mark = marks.get(matchKey);
+        if (mark == null) {
+            mark = new MatchMark();
+            marks.put(matchKey, mark);
+        } else if (update.timestamp() <= mark.highWaterMark) {
+            stale++;
+            return false;
+        }
+        mark.highWaterMark = update.timestamp();
+        if (pending.put(matchKey, update) != null) {
+            coalesced++;
+        }
+        return true;
+    }
+
+    /**
+     * Applies the newest waiting update of every match to the scoreboard. Scores are compared with the match
+     * as the scoreboard shows it now, so corrections made directly on the scoreboard and restarted matches
+     * are overwritten by newer feed updates again.
+     *
+     * @return number of updates written to the scoreboard
+     */
+    public int flush() {
+        Map<String, FeedUpdate> flushed;
+        synchronized (this) {
+            flushed = pending;
+            pending = new LinkedHashMap<>();
+        }
+        List<ScoreUpdate> updates = new ArrayList<>();
+        int skipped = 0;
+        for (FeedUpdate update : flushed.values()) {
+            FootballMatch match = scoreboard.getMatch(update.homeTeam(), update.awayTeam());
+            if (match != null) {
+                long score = match.getScoreSnapshot();
+                if (FootballMatch.homeScoreOf(score) == update.homeScore() && FootballMatch.awayScoreOf(score) == update.awayScore()) {
+                    skipped++;
+                    continue;
+                }
+            }
+            updates.add(new ScoreUpdate(update.homeTeam(), update.awayTeam(), update.homeScore(), update.awayScore()));
+        }
+        if (updates.isEmpty()) {
+            synchronized (this) {
+                unchanged += skipped;
+            }
+            return 0;
+        }
+        boolean[] accepted = new boolean[updates.size()];
+        try {
+            scoreboard.applyBatch(updates);
+            Arrays.fill(accepted, true);
+        } catch (IllegalStateException | IllegalArgumentException e) {
+            for (int i = 0; i < updates.size(); i++) {
+                ScoreUpdate update = updates.get(i);
+                try {
+                    scoreboard.updateScore(update.homeTeam(), update.awayTeam(), update.homeScore(), update.awayScore());
+                    accepted[i] = true;
+                } catch (IllegalStateException | IllegalArgumentException rejection) {
+                    accepted[i] = false;
+                }
+            }
+        }
+        int written = 0;
+        for (boolean accept : accepted) {
+            if (accept) {
+                written++;
+            }
+        }
+        synchronized (this) {
+            unchanged += skipped;
+            applied += written;
+            rejected += updates.size() - written;
+        }
+        return written;
+    }
+
+    /**
+     * Returns the number of matches with an update waiting for the next flush.
+     */
+    public synchronized int getPendingCount() {
+        return pending.size();
+    }
+
+    public synchronized Stats getStats() {
+        return new Stats(received, stale, coalesced, unchanged, applied, rejected);
+    }
+
+    /**
+     * Newest timestamp offered for a match.
+     */
+    private static final class MatchMark {
+        private long highWaterMark;
+    }
+}
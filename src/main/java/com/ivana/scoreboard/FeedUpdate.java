@@ -0,0 +1,11 @@
+package com.ivana.scoreboard;
+
+/**
+ * Absolute score of a match as reported by a data provider, ingested by {@link FeedIngestor}.
+ *
+ * @param source    name of the provider, e.g. "provider-a"
+ * @param timestamp time of the score at the provider, comparable between providers, e.g. epoch milliseconds;
+ *                  a later timestamp means a newer score
+ */
+public record FeedUpdate(String source, long timestamp, String homeTeam, String awayTeam, int homeScore, int awayScore) {
+}
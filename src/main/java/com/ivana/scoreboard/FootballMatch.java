@@ -1,5 +1,7 @@
 package com.ivana.scoreboard;
 
+import java.util.concurrent.atomic.AtomicLong;
+
 /**
  * Represents a football match between two teams.
  * Tracks team names, scores, and start time.
@@ -7,8 +9,36 @@ package com.ivana.scoreboard;
 public class FootballMatch implements Comparable<FootballMatch> {
     private final String homeTeam;
     private final String awayTeam;
-    private int homeScore;
-    private int awayScore;
+    /**
+     * Both scores and an update counter packed into one long, so a score change is a single atomic transition:
+     * bits 0-15 away score, bits 16-31 home score, bits 32-63 version (incremented by every change).
+     */
+    private final AtomicLong scoreState;
+    private static final int MAX_PACKED_SCORE = 0xFFFF;
+    private final long startSequence;
+
+    /**
+     * Position of this match in the scoreboard summary index, packed from the total score and start sequence.
+     * Maintained by the owning {@link Scoreboard} only while the match is out of its index.
+     */
+    private long summaryKey;
+
+    /**
+     * Summary line rendered for the score snapshot it was created from, replaced when the score changes.
+     */
+    private volatile SummaryLine summaryLine;
+
+    /**
+     * Links of the {@link SummaryIndex} tree, stored in the match so that indexing a match allocates nothing.
+     */
+    FootballMatch indexLeft;
+    FootballMatch indexRight;
+    int indexSize;
+
+    /**
+     * Score transitions of this match, only kept while the owning {@link Scoreboard} has a {@link GoalTimeline}.
+     */
+    GoalTimeline.MatchTimeline timeline;
 
     private String normalizeTeamName(String name) {
         return name == null ? null : name.trim();
@@ -33,6 +63,15 @@ public class FootballMatch implements Comparable<FootballMatch> {
      */
 
     public FootballMatch(String homeTeam, String awayTeam) {
+        this(homeTeam, awayTeam, 0);
+    }
+
+    /**
+     * Creates a new FootballMatch that remembers the order in which it was started on a scoreboard.
+     *
+     * @param startSequence increasing number assigned by the scoreboard, later started matches get higher numbers
+     */
+    FootballMatch(String homeTeam, String awayTeam, long startSequence) {
         homeTeam = normalizeTeamName(homeTeam);
         awayTeam = normalizeTeamName(awayTeam);
 
@@ -42,8 +81,9 @@ public class FootballMatch implements Comparable<FootballMatch> {
 
         this.homeTeam = homeTeam;
         this.awayTeam = awayTeam;
-        this.awayScore = 0;
-        this.homeScore = 0;
+        this.scoreState = new AtomicLong(0);
+        this.startSequence = startSequence;
+        this.summaryKey = summaryKey(0, startSequence);
     }
 
     public String getHomeTeam() {
@@ -55,23 +95,129 @@ public class FootballMatch implements Comparable<FootballMatch> {
     }
 
     public int getHomeScore() {
-        return homeScore;
+        return homeScoreOf(scoreState.get());
     }
 
     public int getAwayScore() {
-        return awayScore;
+        return awayScoreOf(scoreState.get());
     }
 
     public void setHomeScore(int homeScore) {
-        this.homeScore = homeScore;
+        validatePackedScore(homeScore);
+        long current;
+        do {
+            current = scoreState.get();
+        } while (!scoreState.compareAndSet(current, packScore(versionOf(current) + 1, homeScore, awayScoreOf(current))));
     }
 
     public void setAwayScore(int awayScore) {
-        this.awayScore = awayScore;
+        validatePackedScore(awayScore);
+        long current;
+        do {
+            current = scoreState.get();
+        } while (!scoreState.compareAndSet(current, packScore(versionOf(current) + 1, homeScoreOf(current), awayScore)));
+    }
+
+    /**
+     * Sets both scores in one atomic step, readers either see the old or the new pair of scores, never a mix.
+     *
+     * @throws IllegalArgumentException if a score can not be stored
+     */
+    public void setScore(int homeScore, int awayScore) {
+        validatePackedScore(homeScore);
+        validatePackedScore(awayScore);
+        long current;
+        do {
+            current = scoreState.get();
+        } while (!scoreState.compareAndSet(current, packScore(versionOf(current) + 1, homeScore, awayScore)));
+    }
+
+    private void validatePackedScore(int score) {
+        if (score < 0 || score > MAX_PACKED_SCORE) {
+            throw new IllegalArgumentException("Score can not be stored, it must be between 0 and " + MAX_PACKED_SCORE);
+        }
+    }
+
+    /**
+     * Returns both scores and the version as one consistent value, decode it with
+     * {@link #homeScoreOf(long)}, {@link #awayScoreOf(long)} and {@link #versionOf(long)}.
+     */
+    public long getScoreSnapshot() {
+        return scoreState.get();
+    }
+
+    public static int homeScoreOf(long scoreSnapshot) {
+        return (int) (scoreSnapshot >>> 16) & MAX_PACKED_SCORE;
+    }
+
+    public static int awayScoreOf(long scoreSnapshot) {
+        return (int) scoreSnapshot & MAX_PACKED_SCORE;
+    }
+
+    public static int totalScoreOf(long scoreSnapshot) {
+        return homeScoreOf(scoreSnapshot) + awayScoreOf(scoreSnapshot);
+    }
+
+    public static long versionOf(long scoreSnapshot) {
+        return scoreSnapshot >>> 32;
+    }
+
+    private static long packScore(long version, int homeScore, int awayScore) {
+        return (version << 32) | ((long) homeScore << 16) | awayScore;
+    }
+
+    /**
+     * Returns the line shown for this match in the scoreboard summary, e.g. "Spain 10 - Brazil 2".
+     * The line is built once per score change and reused until the score changes again.
+     */
+    public String getSummaryLine() {
+        return getSummaryLine(scoreState.get());
+    }
+
+    /**
+     * Returns the summary line for a score snapshot taken from this match earlier.
+     */
+    String getSummaryLine(long score) {
+        SummaryLine line = summaryLine;
+        if (line == null || line.scoreSnapshot() != score) {
+            line = new SummaryLine(score, homeTeam + " " + homeScoreOf(score) + " - " + awayTeam + " " + awayScoreOf(score));
+            summaryLine = line;
+        }
+        return line.text();
+    }
+
+    private record SummaryLine(long scoreSnapshot, String text) {
     }
 
     private int getTotalScore(){
-        return this.homeScore + this.awayScore;
+        return totalScoreOf(scoreState.get());
+    }
+
+    long getStartSequence() {
+        return startSequence;
+    }
+
+    long getSummaryKey() {
+        return summaryKey;
+    }
+
+    /**
+     * Recomputes the summary key from the current scores. Must only be called while the match is not in a summary index.
+     */
+    void refreshSummaryKey() {
+        this.summaryKey = summaryKey(getTotalScore(), startSequence);
+    }
+
+    /**
+     * Packs the total score into the high bits and the start sequence into the low 48 bits,
+     * so that comparing keys gives the same result as {@link #compareTo} followed by the start order tie-break.
+     */
+    static long summaryKey(int totalScore, long startSequence) {
+        return ((long) totalScore << 48) | (startSequence & 0xFFFF_FFFF_FFFFL);
+    }
+
+    static long startSequenceOf(long summaryKey) {
+        return summaryKey & 0xFFFF_FFFF_FFFFL;
     }
 
     @Override
@@ -0,0 +1,200 @@
+package com.ivana.scoreboard;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Score history of a scoreboard, filled once enabled with {@link Scoreboard#enableTimeline()}.
+ * <p>
+ * Every ongoing match keeps its own ring of score transitions (time, scores, correction flag) in two primitive
+ * arrays, so a match with more transitions than the ring holds drops its oldest ones and memory stays bounded.
+ * A transition where a score went down is flagged as a correction.
+ * All score changes of all matches are also appended to one shared ring in time order, so
+ * "what happened in the last N minutes" is a binary search in that ring instead of a scan over every match.
+ * <p>
+ * Timestamps come from the clock given to the scoreboard and never go backwards, a clock that does is held
+ * at its latest time. Like the scoreboard, the timeline is not thread-safe.
+ */
+public class GoalTimeline {
+    private static final int CORRECTION = 1 << 31;
+
+    private final TeamRegistry teams;
+    private final MatchTable matches;
+    private final Clock clock;
+    private final int matchCapacity;
+
+    /**
+     * Shared ring of recent score changes, the oldest change is at {@code recentStart}.
+     */
+    private final long[] recentTimestamps;
+    private final long[] recentMatchKeys;
+    private final int[] recentScores;
+    private int recentStart;
+    private int recentSize;
+    private long lastTimestamp = Long.MIN_VALUE;
+
+    /**
+     * Score of a match after a transition, the first transition of a match is its start at 0:0.
+     */
+    public record Transition(long timestampMillis, int homeScore, int awayScore, boolean correction) {
+    }
+
+    /**
+     * Score change of any match, team names are the normalized (trimmed, lower cased) names.
+     */
+    public record ScoreChange(String homeTeam, String awayTeam, long timestampMillis,
+                              int homeScore, int awayScore, boolean correction) {
+    }
+
+    GoalTimeline(TeamRegistry teams, MatchTable matches, Clock clock, int matchCapacity, int recentCapacity) {
+        if (clock == null) {
+            throw new IllegalArgumentException("Clock can not be null");
+        }
+        if (matchCapacity <= 0 || recentCapacity <= 0) {
+            throw new IllegalArgumentException("Timeline capacity must be positive");
+        }
+        this.teams = teams;
+        this.matches = matches;
+        this.clock = clock;
+        this.matchCapacity = matchCapacity;
+        this.recentTimestamps = new long[recentCapacity];
+        this.recentMatchKeys = new long[recentCapacity];
+        this.recentScores = new int[recentCapacity];
+    }
+
+    /**
+     * Starts the timeline of a new match at 0:0.
+     */
+    void recordStart(FootballMatch match) {
+        match.timeline = new MatchTimeline(matchCapacity);
+        match.timeline.add(now(), 0);
+    }
+
+    /**
+     * Records the new score of a match if it differs from the previous one.
+     */
+    void recordScore(long matchKey, FootballMatch match, long previousScore, int homeScore, int awayScore) {
+        int previousHome = FootballMatch.homeScoreOf(previousScore);
+        int previousAway = FootballMatch.awayScoreOf(previousScore);
+        if (previousHome == homeScore && previousAway == awayScore) {
+            return;
+        }
+        int state = (homeScore << 16) | awayScore;
+        if (homeScore < previousHome || awayScore < previousAway) {
+            state |= CORRECTION;
+        }
+        long timestamp = now();
+        if (match.timeline == null) {
+            match.timeline = new MatchTimeline(matchCapacity);
+        }
+        match.timeline.add(timestamp, state);
+        int index = (recentStart + recentSize) % recentTimestamps.length;
+        if (recentSize == recentTimestamps.length) {
+            recentStart = (recentStart + 1) % recentTimestamps.length;
+        } else {
+            recentSize++;
+        }
+        recentTimestamps[index] = timestamp;
+        recentMatchKeys[index] = matchKey;
+        recentScores[index] = state;
+    }
+
+    /**
+     * Returns the transitions of an ongoing match, oldest first. Matches that were already running
+     * when the timeline was enabled start with their first score change after that.
+     *
+     * @throws IllegalStateException if the match is not ongoing
+     */
+    public List<Transition> getMatchTimeline(String homeTeam, String awayTeam) {
+        int homeTeamId = teams.find(homeTeam);
+        int awayTeamId = teams.find(awayTeam);
+        FootballMatch match = homeTeamId < 0 || awayTeamId < 0 ? null : matches.get(MatchTable.matchKey(homeTeamId, awayTeamId));
+        if (match == null) {
+            throw new IllegalStateException("Can not get the timeline of a match that is not ongoing");
+        }
+        return match.timeline == null ? List.of() : match.timeline.transitions();
+    }
+
+    /**
+     * Returns the score changes of all matches at or after the timestamp, oldest first.
+     * Only the most recent changes are kept, as many as the capacity given when the timeline was enabled.
+     */
+    public List<ScoreChange> getScoreChangesSince(long timestampMillis) {
+        int low = 0;
+        int high = recentSize;
+        while (low < high) {
+            int middle = (low + high) >>> 1;
+            if (recentTimestamps[(recentStart + middle) % recentTimestamps.length] < timestampMillis) {
+                low = middle + 1;
+            } else {
+                high = middle;
+            }
+        }
+        List<ScoreChange> changes = new ArrayList<>(recentSize - low);
+        for (int i = low; i < recentSize; i++) {
+            int index = (recentStart + i) % recentTimestamps.length;
+            long matchKey = recentMatchKeys[index];
+            int state = recentScores[index];
+            changes.add(new ScoreChange(teams.getName(MatchTable.homeTeamIdOf(matchKey)),
+                    teams.getName(MatchTable.awayTeamIdOf(matchKey)), recentTimestamps[index],
+                    homeScoreOf(state), awayScoreOf(state), (state & CORRECTION) != 0));
+        }
+        return changes;
+    }
+
+    /**
+     * Returns the score changes of all matches within the window before now, e.g. {@code Duration.ofMinutes(10)}.
+     */
+    public List<ScoreChange> getRecentScoreChanges(Duration window) {
+        return getScoreChangesSince(clock.millis() - window.toMillis());
+    }
+
+    private long now() {
+        lastTimestamp = Math.max(lastTimestamp, clock.millis());
+        return lastTimestamp;
+    }
+
+    private static int homeScoreOf(int state) {
+        return (state >>> 16) & 0x7FFF;
+    }
+
+    private static int awayScoreOf(int state) {
+        return state & 0xFFFF;
+    }
+
+    /**
+     * Ring of the last transitions of one match: timestamps and scores packed as home score (bits 16-30),
+     * away score (bits 0-15) and the correction flag (bit 31).
+     */
+    static final class MatchTimeline {
+        private final long[] timestamps;
+        private final int[] states;
+        private long count;
+
+        MatchTimeline(int capacity) {
+            this.timestamps = new long[capacity];
+            this.states = new int[capacity];
+        }
+
+        void add(long timestamp, int state) {
+            int index = (int) (count % timestamps.length);
+            timestamps[index] = timestamp;
+            states[index] = state;
+            count++;
+        }
+
+        List<Transition> transitions() {
+            int size = (int) Math.min(count, timestamps.length);
+            List<Transition> transitions = new ArrayList<>(size);
+            for (long i = count - size; i < count; i++) {
+                int index = (int) (i % timestamps.length);
+                int state = states[index];
+                transitions.add(new Transition(timestamps[index], homeScoreOf(state), awayScoreOf(state),
+                        (state & CORRECTION) != 0));
+            }
+            return transitions;
+        }
+    }
+}
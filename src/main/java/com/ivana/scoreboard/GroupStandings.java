@@ -0,0 +1,327 @@
+package com.ivana.scoreboard;
+
+import java.util.*;
+import java.util.concurrent.Flow;
+import java.util.function.LongSupplier;
+import java.util.function.Supplier;
+
+/**
+ * Live group-stage tables "as it stands", fed by the events of a scoreboard
+ * ({@code scoreboard.getEvents().subscribe(standings)}) or by calling {@link #apply(ScoreboardEvent)} directly.
+ * <p>
+ * A started match counts as a 0:0 draw, every score update replaces the provisional result of the match and
+ * a finished match keeps its final result. Each event only changes the two teams of the match: their previous
+ * provisional result is taken back and the new one is added, so an update costs the same no matter how many
+ * groups and matches there are. Matches between teams of different groups, or teams without a group, are ignored.
+ * <p>
+ * Teams are ordered by points, goal difference, goals scored and then by name. The ordering of a group is cached
+ * and only sorted again when one of its teams changed since it was last read.
+ * All methods are thread-safe, reading tables while events are applied on the publisher's thread is fine.
+ * <p>
+ * The publisher drops events for a subscriber whose buffer is full. A missing sequence number sets
+ * {@link #hasMissedEvents()}, and {@link #rebuild(LiveScoreboard, LongSupplier)} then resynchronizes the provisional results
+ * with the matches currently on the scoreboard.
+ */
+public class GroupStandings implements Flow.Subscriber<ScoreboardEvent> {
+    private static final int POINTS_FOR_WIN = 3;
+    private static final int POINTS_FOR_DRAW = 1;
+    private static final Comparator<TeamStanding> TABLE_ORDER = Comparator
+            .comparingInt((TeamStanding team) -> team.points).reversed()
+            .thenComparing(Comparator.comparingInt((TeamStanding team) -> team.goalsFor - team.goalsAgainst).reversed())
+            .thenComparing(Comparator.comparingInt((TeamStanding team) -> team.goalsFor).reversed())
+            .thenComparing(team -> team.name);
+
+    private final Map<String, Group> groups;
+    private final Map<String, TeamStanding> teams;
+
+    /**
+     * Provisional score of every match in progress by match key, home score in the upper 16 bits.
+     */
+    private final Map<String, Integer> liveScores;
+
+    /**
+     * Matches a rebuild found finished without having seen their finish, by match key with the last known score
+     * that counts as their final result. Their late events replace that result instead of adding another one.
+     */
+    private final Map<String, Integer> unseenFinishes;
+    private long lastSequence;
+
+    /**
+     * Sequence the tables were last rebuilt at, older events are already contained and skipped.
+     */
+    private long rebuiltSequence;
+    private boolean missedEvents;
+
+    /**
+     * Row of a group table.
+     */
+    public record Standing(String team, int played, int wins, int draws, int losses,
+                           int goalsFor, int goalsAgainst, int points) {
+
+        public int goalDifference() {
+            return goalsFor - goalsAgainst;
+        }
+    }
+
+    public GroupStandings() {
+        this.groups = new LinkedHashMap<>();
+        this.teams = new HashMap<>();
+        this.liveScores = new HashMap<>();
+        this.unseenFinishes = new HashMap<>();
+    }
+
+    /**
+     * Defines a group and its teams, team names are matched to scoreboard events ignoring case and surrounding spaces.
+     *
+     * @throws IllegalArgumentException if a name is null or empty, or the group or one of the teams is already defined
+     */
+    public synchronized void defineGroup(String group, Collection<String> groupTeams) {
+        if (group == null || group.isBlank()) {
+            throw new IllegalArgumentException("Group name can not be null or empty");
+        }
+        if (groups.containsKey(group)) {
+            throw new IllegalArgumentException("Group is already defined");
+        }
+        Set<String> names = new HashSet<>();
+        for (String team : groupTeams) {
+            if (team == null || team.isBlank()) {
+                throw new IllegalArgumentException("Team name can not be null or empty");
+            }
+            String name = normalize(team);
+            if (teams.containsKey(name) || !names.add(name)) {
+                throw new IllegalArgumentException("Team is already in a group");
+            }
+        }
+        Group defined = new Group();
+        for (String team : groupTeams) {
+            TeamStanding standing = new TeamStanding(team.trim(), defined);
+            defined.teams.add(standing);
+            teams.put(normalize(team), standing);
+        }
+        groups.put(group, defined);
+    }
+
+    /**
+     * Returns the table of the group, the leader first.
+     *
+     * @throws IllegalArgumentException if the group is not defined
+     */
+    public synchronized List<Standing> getTable(String group) {
+        Group table = groups.get(group);
+        if (table == null) {
+            throw new IllegalArgumentException("Unknown group " + group);
+        }
+        return table.standings();
+    }
+
+    /**
+     * Returns the tables of all groups in the order they were defined.
+     */
+    public synchronized Map<String, List<Standing>> getTables() {
+        Map<String, List<Standing>> tables = new LinkedHashMap<>();
+        for (Map.Entry<String, Group> group : groups.entrySet()) {
+            tables.put(group.getKey(), group.getValue().standings());
+        }
+        return tables;
+    }
+
+    /**
+     * Returns the sequence of the last applied event, a subscriber that sees a gap in the sequences missed events.
+     */
+    public synchronized long getLastSequence() {
+        return lastSequence;
+    }
+
+    /**
+     * Returns true if an event was skipped in the sequence since the tables were created or last rebuilt.
+     */
+    public synchronized boolean hasMissedEvents() {
+        return missedEvents;
+    }
+
+    /**
+     * Resynchronizes the tables with the scoreboard after missed events, e.g.
+     * {@code standings.rebuild(scoreboard, scoreboard::getVersion)}: the provisional result of every match is
+     * replaced by the score it has on the scoreboard now, and events up to the version that are still queued are
+     * skipped when they arrive. The version is read before the matches, so a change made meanwhile is contained
+     * in the matches and applied again by its event, which replaces the result instead of adding it twice.
+     * A match that finished while its events were missed keeps its last known score as the final result
+     * until its finish event arrives, the scoreboard no longer knows the score it finished with.
+     * A {@link Scoreboard} is not thread-safe, rebuild from it on the thread that changes it.
+     */
+    public void rebuild(LiveScoreboard scoreboard, LongSupplier version) {
+        rebuild(version, scoreboard::getScoreboard);
+    }
+
+    /**
+     * Resynchronizes the tables with a single writer scoreboard after missed events, see
+     * {@link #rebuild(LiveScoreboard, LongSupplier)}. Safe to call from any thread.
+     */
+    public void rebuild(SingleWriterScoreboard scoreboard) {
+        rebuild(scoreboard::getVersion, scoreboard::getScoreboard);
+    }
+
+    private synchronized void rebuild(LongSupplier version, Supplier<Map<String, FootballMatch>> currentMatches) {
+        long rebuiltAt = version.getAsLong();
+        Map<String, FootballMatch> matches = currentMatches.get();
+        for (Iterator<Map.Entry<String, Integer>> live = liveScores.entrySet().iterator(); live.hasNext(); ) {
+            Map.Entry<String, Integer> entry = live.next();
+            live.remove();
+            if (matches.containsKey(entry.getKey())) {
+                FootballMatch match = matches.get(entry.getKey());
+                int previous = entry.getValue();
+                TeamStanding home = teams.get(normalize(match.getHomeTeam()));
+                TeamStanding away = teams.get(normalize(match.getAwayTeam()));
+                addResult(home, away, previous >>> 16, previous & 0xFFFF, -1);
+                home.group.dirty = true;
+            } else {
+                unseenFinishes.put(entry.getKey(), entry.getValue());
+            }
+        }
+        for (Map.Entry<String, FootballMatch> entry : matches.entrySet()) {
+            FootballMatch match = entry.getValue();
+            TeamStanding home = teams.get(normalize(match.getHomeTeam()));
+            TeamStanding away = teams.get(normalize(match.getAwayTeam()));
+            if (home == null || away == null || home.group != away.group) {
+                continue;
+            }
+            long score = match.getScoreSnapshot();
+            int homeScore = FootballMatch.homeScoreOf(score);
+            int awayScore = FootballMatch.awayScoreOf(score);
+            // a match with this key was started again, so the earlier one is finished with its assumed result
+            unseenFinishes.remove(entry.getKey());
+            liveScores.put(entry.getKey(), (homeScore << 16) | awayScore);
+            addResult(home, away, homeScore, awayScore, 1);
+            home.group.dirty = true;
+        }
+        lastSequence = Math.max(lastSequence, rebuiltAt);
+        rebuiltSequence = rebuiltAt;
+        missedEvents = false;
+    }
+
+    /**
+     * Applies a scoreboard event to the tables. An update or finish of a match that was never seen started,
+     * e.g. because the standings subscribed late, is applied as if the match had just started.
+     */
+    public synchronized void apply(ScoreboardEvent event) {
+        if (event.sequence() <= rebuiltSequence) {
+            return;
+        }
+        if (lastSequence != 0 && event.sequence() > lastSequence + 1) {
+            missedEvents = true;
+        }
+        lastSequence = event.sequence();
+        TeamStanding home = teams.get(normalize(event.homeTeam()));
+        TeamStanding away = teams.get(normalize(event.awayTeam()));
+        if (home == null || away == null || home.group != away.group) {
+            return;
+        }
+        if (event instanceof ScoreboardEvent.MatchStarted) {
+            unseenFinishes.remove(event.matchKey());
+            if (liveScores.putIfAbsent(event.matchKey(), 0) == null) {
+                addResult(home, away, 0, 0, 1);
+                home.group.dirty = true;
+            }
+            return;
+        }
+        Integer previous = liveScores.remove(event.matchKey());
+        if (previous == null && !unseenFinishes.isEmpty()) {
+            previous = unseenFinishes.remove(event.matchKey());
+        }
+        if (previous != null) {
+            addResult(home, away, previous >>> 16, previous & 0xFFFF, -1);
+        }
+        if (event instanceof ScoreboardEvent.ScoreUpdated updated) {
+            liveScores.put(event.matchKey(), (updated.homeScore() << 16) | updated.awayScore());
+            addResult(home, away, updated.homeScore(), updated.awayScore(), 1);
+        } else if (event instanceof ScoreboardEvent.MatchFinished finished) {
+            addResult(home, away, finished.homeScore(), finished.awayScore(), 1);
+        }
+        home.group.dirty = true;
+    }
+
+    @Override
+    public void onSubscribe(Flow.Subscription subscription) {
+        subscription.request(Long.MAX_VALUE);
+    }
+
+    @Override
+    public void onNext(ScoreboardEvent event) {
+        apply(event);
+    }
+
+    @Override
+    public void onError(Throwable throwable) {
+    }
+
+    @Override
+    public void onComplete() {
+    }
+
+    /**
+     * Adds (sign 1) or takes back (sign -1) the result of one match for both teams.
+     */
+    private static void addResult(TeamStanding home, TeamStanding away, int homeScore, int awayScore, int sign) {
+        home.add(homeScore, awayScore, sign);
+        away.add(awayScore, homeScore, sign);
+    }
+
+    private static String normalize(String team) {
+        return team == null ? "" : team.trim().toLowerCase();
+    }
+
+    private static final class Group {
+        private final List<TeamStanding> teams = new ArrayList<>();
+        private List<Standing> cachedStandings = List.of();
+        private boolean dirty = true;
+
+        List<Standing> standings() {
+            if (dirty) {
+                teams.sort(TABLE_ORDER);
+                List<Standing> standings = new ArrayList<>(teams.size());
+                for (TeamStanding team : teams) {
+                    standings.add(team.toStanding());
+                }
+                cachedStandings = Collections.unmodifiableList(standings);
+                dirty = false;
+            }
+            return cachedStandings;
+        }
+    }
+
+    private static final class TeamStanding {
+        private final String name;
+        private final Group group;
+        private int played;
+        private int wins;
+        private int draws;
+        private int losses;
+        private int goalsFor;
+        private int goalsAgainst;
+        private int points;
+
+        TeamStanding(String name, Group group) {
+            this.name = name;
+            this.group = group;
+        }
+
+        void add(int scored, int conceded, int sign) {
+            played += sign;
+            goalsFor += sign * scored;
+            goalsAgainst += sign * conceded;
+            if (scored > conceded) {
+                wins += sign;
+                points += sign * POINTS_FOR_WIN;
+            } else if (scored == conceded) {
+                draws += sign;
+                points += sign * POINTS_FOR_DRAW;
+            } else {
+                losses += sign;
+            }
+        }
+
+        Standing toStanding() {
+            return new Standing(name, played, wins, draws, losses, goalsFor, goalsAgainst, points);
+        }
+    }
+}
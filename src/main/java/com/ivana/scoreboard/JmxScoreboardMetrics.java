@@ -0,0 +1,185 @@
+package com.ivana.scoreboard;
+
+import javax.management.JMException;
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+import java.lang.management.ManagementFactory;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.IntSupplier;
+import java.util.function.ToLongFunction;
+
+/**
+ * Metrics kept in counters and {@link LatencyHistogram}s and exposed as an MXBean named
+ * {@code com.ivana.scoreboard:type=ScoreboardMetrics,name=<name>} on the platform MBean server.
+ * Recording an operation is a counter increment and a histogram increment, so the metrics can stay on in production.
+ */
+public class JmxScoreboardMetrics implements ScoreboardMetrics, ScoreboardMetricsMXBean, AutoCloseable {
+    private static final ScoreboardMetrics.Operation[] OPERATIONS = ScoreboardMetrics.Operation.values();
+
+    private final ObjectName objectName;
+    private final LongAdder[] operationCounts;
+    private final LatencyHistogram[] latencies;
+
+    /**
+     * Rejection counts per operation by exception message, the scoreboard's messages are constants,
+     * so counting a rejection builds no string.
+     */
+    private final ConcurrentHashMap<String, LongAdder>[] rejectionCounts;
+    private volatile IntSupplier activeMatches = () -> 0;
+    private volatile IntSupplier activeTeams = () -> 0;
+
+    private JmxScoreboardMetrics(ObjectName objectName) {
+        this.objectName = objectName;
+        this.operationCounts = new LongAdder[OPERATIONS.length];
+        this.latencies = new LatencyHistogram[OPERATIONS.length];
+        for (int i = 0; i < OPERATIONS.length; i++) {
+            operationCounts[i] = new LongAdder();
+            latencies[i] = new LatencyHistogram();
+        }
+        this.rejectionCounts = newRejectionCounts();
+    }
+
+    @SuppressWarnings("unchecked")
+    private static ConcurrentHashMap<String, LongAdder>[] newRejectionCounts() {
+        ConcurrentHashMap<String, LongAdder>[] counts = new ConcurrentHashMap[OPERATIONS.length];
+        for (int i = 0; i < OPERATIONS.length; i++) {
+            counts[i] = new ConcurrentHashMap<>();
+        }
+        return counts;
+    }
+
+    /**
+     * Creates the metrics and registers them on the platform MBean server once they are fully constructed.
+     *
+     * @throws IllegalArgumentException if the name can not be used in an object name
+     * @throws IllegalStateException if metrics with this name are already registered
+     */
+    public static JmxScoreboardMetrics register(String name) {
+        ObjectName objectName;
+        try {
+            objectName = new ObjectName("com.ivana.scoreboard:type=ScoreboardMetrics,name=" + ObjectName.quote(name));
+        } catch (JMException e) {
+            throw new IllegalArgumentException("Invalid metrics name " + name, e);
+        }
+        JmxScoreboardMetrics metrics = new JmxScoreboardMetrics(objectName);
+        try {
+            ManagementFactory.getPlatformMBeanServer().registerMBean(metrics, objectName);
+        } catch (JMException e) {
+            throw new IllegalStateException("Can not register scoreboard metrics " + objectName, e);
+        }
+        return metrics;
+    }
+
+    public ObjectName getObjectName() {
+        return objectName;
+    }
+
+    @Override
+    public void recordOperation(Operation operation, long startNanos) {
+        long elapsed = System.nanoTime() - startNanos;
+        operationCounts[operation.ordinal()].increment();
+        latencies[operation.ordinal()].record(elapsed);
+    }
+
+    @Override
+    public void recordRejection(Operation operation, RuntimeException reason) {
+        String message = reason.getMessage();
+        rejectionCounts[operation.ordinal()].computeIfAbsent(message == null ? reason.getClass().getName() : message,
+                key -> new LongAdder()).increment();
+    }
+
+    @Override
+    public void registerGauges(IntSupplier activeMatches, IntSupplier activeTeams) {
+        this.activeMatches = activeMatches;
+        this.activeTeams = activeTeams;
+    }
+
+    /**
+     * Returns the latency histogram of the operation for reading percentiles in code.
+     */
+    public LatencyHistogram getLatencies(Operation operation) {
+        return latencies[operation.ordinal()];
+    }
+
+    @Override
+    public Map<String, Long> getOperationCounts() {
+        return perOperation(operation -> operationCounts[operation.ordinal()].sum());
+    }
+
+    @Override
+    public Map<String, Long> getRejectionCounts() {
+        Map<String, Long> counts = new TreeMap<>();
+        for (Operation operation : OPERATIONS) {
+            rejectionCounts[operation.ordinal()].forEach((reason, count) -> counts.put(operation + ": " + reason, count.sum()));
+        }
+        return counts;
+    }
+
+    @Override
+    public Map<String, Long> getLatencyP50() {
+        return perOperation(operation -> getLatencies(operation).getValueAtPercentile(50));
+    }
+
+    @Override
+    public Map<String, Long> getLatencyP99() {
+        return perOperation(operation -> getLatencies(operation).getValueAtPercentile(99));
+    }
+
+    @Override
+    public Map<String, Long> getLatencyP999() {
+        return perOperation(operation -> getLatencies(operation).getValueAtPercentile(99.9));
+    }
+
+    @Override
+    public Map<String, Long> getLatencyMax() {
+        return perOperation(operation -> getLatencies(operation).getMax());
+    }
+
+    @Override
+    public int getActiveMatches() {
+        return activeMatches.getAsInt();
+    }
+
+    @Override
+    public int getActiveTeams() {
+        return activeTeams.getAsInt();
+    }
+
+    @Override
+    public void reset() {
+        for (int i = 0; i < OPERATIONS.length; i++) {
+            operationCounts[i].reset();
+            latencies[i].reset();
+        }
+        for (ConcurrentHashMap<String, LongAdder> counts : rejectionCounts) {
+            counts.clear();
+        }
+    }
+
+    /**
+     * Unregisters the MXBean, recording keeps working afterwards.
+     */
+    @Override
+    public void close() {
+        MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+        try {
+            if (server.isRegistered(objectName)) {
+                server.unregisterMBean(objectName);
+            }
+        } catch (JMException e) {
+            throw new IllegalStateException("Can not unregister scoreboard metrics " + objectName, e);
+        }
+    }
+
+    private static Map<String, Long> perOperation(ToLongFunction<Operation> value) {
+        Map<String, Long> values = new LinkedHashMap<>();
+        for (Operation operation : OPERATIONS) {
+            values.put(operation.name(), value.applyAsLong(operation));
+        }
+        return values;
+    }
+}
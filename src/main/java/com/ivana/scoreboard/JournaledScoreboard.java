@@ -0,0 +1,172 @@
+package com.ivana.scoreboard;
+
+import java.io.UncheckedIOException;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Scoreboard that survives restarts: every start, update and finish is validated, appended to a journal
+ * in the given directory and only then applied to the board, and creating a JournaledScoreboard on the same directory restores the board
+ * from the last snapshot and the journal written after it, including the order the matches were started in.
+ * <p>
+ * Journal records are made durable in groups: after {@code syncBatchSize} records or at the latest after
+ * {@code syncIntervalMillis}, whichever comes first, or when {@link #sync()} is called. Every
+ * {@code snapshotInterval} records a compacted snapshot replaces the journal written so far.
+ * If writing or syncing the journal fails, also in the background, every later change, {@link #sync()} and
+ * {@link #close()} throws {@link java.io.UncheckedIOException}. A change the journal can not append, like a team name
+ * longer than 65535 UTF-8 bytes, is rejected before it reaches the board.
+ * Like {@link Scoreboard}, this class is not thread-safe.
+ */
+public class JournaledScoreboard implements LiveScoreboard, AutoCloseable {
+    private static final int DEFAULT_SYNC_BATCH_SIZE = 256;
+    private static final long DEFAULT_SYNC_INTERVAL_MILLIS = 10;
+    private static final int DEFAULT_SNAPSHOT_INTERVAL = 1_000_000;
+
+    private final Scoreboard scoreboard;
+    private final ScoreboardJournal journal;
+    private final ScheduledExecutorService syncer;
+    private final int snapshotInterval;
+    private int recordsSinceSnapshot;
+
+    /**
+     * Opens or creates a journaled scoreboard in the directory with the default group commit and snapshot settings.
+     *
+     * @throws java.io.UncheckedIOException if the journal can not be read or created
+     */
+    public JournaledScoreboard(Path directory) {
+        this(directory, DEFAULT_SYNC_BATCH_SIZE, DEFAULT_SYNC_INTERVAL_MILLIS, DEFAULT_SNAPSHOT_INTERVAL);
+    }
+
+    /**
+     * Opens or creates a journaled scoreboard in the directory.
+     *
+     * @param syncBatchSize      maximum number of records written before they are forced to disk
+     * @param syncIntervalMillis maximum time a record waits before it is forced to disk
+     * @param snapshotInterval   number of records after which a snapshot replaces the journal
+     * @throws IllegalArgumentException if a setting is not positive
+     * @throws java.io.UncheckedIOException if the journal can not be read or created
+     */
+    public JournaledScoreboard(Path directory, int syncBatchSize, long syncIntervalMillis, int snapshotInterval) {
+        if (syncBatchSize <= 0 || syncIntervalMillis <= 0 || snapshotInterval <= 0) {
+            throw new IllegalArgumentException("Journal settings must be positive");
+        }
+        this.scoreboard = new Scoreboard();
+        this.journal = new ScoreboardJournal(directory, syncBatchSize, scoreboard);
+        scoreboard.setJournal(journal);
+        this.snapshotInterval = snapshotInterval;
+        this.syncer = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "scoreboard-journal-sync");
+            thread.setDaemon(true);
+            return thread;
+        });
+        syncer.scheduleWithFixedDelay(this::syncInBackground, syncIntervalMillis, syncIntervalMillis, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * Returns the in-memory scoreboard for read operations such as {@link Scoreboard#getSummaryDelta(long)}.
+     * Changes must go through this class, changes made directly on the returned scoreboard are journaled
+     * but don't count towards the snapshot interval.
+     */
+    public Scoreboard getBoard() {
+        return scoreboard;
+    }
+
+    @Override
+    public void startMatch(String homeTeam, String awayTeam) {
+        journal.checkNotFailed();
+        scoreboard.startMatch(homeTeam, awayTeam);
+        journaled();
+    }
+
+    @Override
+    public void updateScore(String homeTeam, String awayTeam, int homeScore, int awayScore) {
+        journal.checkNotFailed();
+        scoreboard.updateScore(homeTeam, awayTeam, homeScore, awayScore);
+        journaled();
+    }
+
+    /**
+     * Applies the batch like {@link Scoreboard#applyBatch(List)} and journals it as a single record,
+     * so after a crash the batch is recovered either completely or not at all.
+     */
+    @Override
+    public void applyBatch(List<ScoreUpdate> updates) {
+        journal.checkNotFailed();
+        scoreboard.applyBatch(updates);
+        if (!updates.isEmpty()) {
+            journaled();
+        }
+    }
+
+    @Override
+    public void finishMatch(String homeTeam, String awayTeam) {
+        journal.checkNotFailed();
+        scoreboard.finishMatch(homeTeam, awayTeam);
+        journaled();
+    }
+
+    @Override
+    public List<String> getSummary() {
+        return scoreboard.getSummary();
+    }
+
+    @Override
+    public Map<String, FootballMatch> getScoreboard() {
+        return scoreboard.getScoreboard();
+    }
+
+    @Override
+    public Set<String> getActiveTeams() {
+        return scoreboard.getActiveTeams();
+    }
+
+    /**
+     * Forces all journaled operations to disk now instead of waiting for the group commit.
+     */
+    public void sync() {
+        journal.sync();
+    }
+
+    /**
+     * Writes a snapshot of the current board and drops the journal it replaces.
+     */
+    public void snapshot() {
+        journal.snapshot(scoreboard);
+        recordsSinceSnapshot = 0;
+    }
+
+    /**
+     * Forces the journal to disk and closes it.
+     */
+    @Override
+    public void close() {
+        syncer.shutdownNow();
+        journal.close();
+    }
+
+    /**
+     * Group commit task. A failure is kept by the journal and thrown to the next caller, it must not escape
+     * here because the executor would silently cancel all later runs.
+     */
+    private void syncInBackground() {
+        try {
+            journal.sync();
+        } catch (UncheckedIOException e) {
+            // rethrown by the next change, sync or close
+        }
+    }
+
+    /**
+     * Counts a change the board appended to the journal and snapshots when the interval is reached.
+     */
+    private void journaled() {
+        if (++recordsSinceSnapshot >= snapshotInterval) {
+            snapshot();
+        }
+    }
+}
@@ -0,0 +1,68 @@
+package com.ivana.scoreboard;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Operations supported by every scoreboard implementation.
+ * Team names are case-insensitive and trimmed, matches are keyed as "hometeam_vs_awayteam".
+ */
+public interface LiveScoreboard {
+
+    /**
+     * Starts a new football match between the specified teams with initial score 0 - 0.
+     *
+     * @throws IllegalStateException if the match already exists or one of the teams is already in an active match
+     * @throws IllegalArgumentException if team names are invalid
+     */
+    void startMatch(String homeTeam, String awayTeam);
+
+    /**
+     * Updates the score of an ongoing match with absolute scores.
+     *
+     * @throws IllegalStateException if the match doesn't exist
+     * @throws IllegalArgumentException if scores are invalid
+     */
+    void updateScore(String homeTeam, String awayTeam, int homeScore, int awayScore);
+
+    /**
+     * Applies all score updates as one unit. Every update is validated before any score is changed,
+     * so if one of them is rejected none of them is applied. When a match is updated more than once,
+     * the last update in the list wins.
+     *
+     * @throws IllegalStateException if one of the matches doesn't exist
+     * @throws IllegalArgumentException if one of the scores is invalid
+     */
+    void applyBatch(List<ScoreUpdate> updates);
+
+    /**
+     * Finishes an ongoing match and removes it from the scoreboard.
+     *
+     * @throws IllegalStateException if the match doesn't exist
+     */
+    void finishMatch(String homeTeam, String awayTeam);
+
+    /**
+     * Returns the ongoing matches ordered by total score, ties broken by the most recently started match.
+     */
+    List<String> getSummary();
+
+    /**
+     * Returns an unmodifiable view of the ongoing matches in the order they were started.
+     */
+    Map<String, FootballMatch> getScoreboard();
+
+    /**
+     * Returns the ongoing match between the teams, or null if it is not ongoing.
+     * Implementations may return a detached copy, so the match should only be read.
+     */
+    default FootballMatch getMatch(String homeTeam, String awayTeam) {
+        return getScoreboard().get(Scoreboard.createMatchKey(homeTeam, awayTeam));
+    }
+
+    /**
+     * Returns the normalized (trimmed, lower cased) names of the teams currently playing.
+     */
+    Set<String> getActiveTeams();
+}
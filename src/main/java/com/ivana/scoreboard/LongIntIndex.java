@@ -0,0 +1,117 @@
+package com.ivana.scoreboard;
+
+/**
+ * Open addressing hash map from long keys to non-negative int values in two primitive arrays,
+ * so lookups, inserts and removals never box or allocate. Grows when half full, removals use
+ * backward shift deletion like {@link MatchTable}, so no tombstones are left behind.
+ */
+class LongIntIndex {
+    private static final int INITIAL_CAPACITY = 32;
+
+    private long[] keys;
+    /**
+     * Value + 1 per slot, 0 marks an empty slot.
+     */
+    private int[] values;
+    private int size;
+
+    LongIntIndex() {
+        this.keys = new long[INITIAL_CAPACITY];
+        this.values = new int[INITIAL_CAPACITY];
+    }
+
+    int size() {
+        return size;
+    }
+
+    /**
+     * Returns the value of the key, or -1 if the key is not in the index.
+     */
+    int get(long key) {
+        int mask = keys.length - 1;
+        for (int slot = slotOf(key, mask); values[slot] != 0; slot = (slot + 1) & mask) {
+            if (keys[slot] == key) {
+                return values[slot] - 1;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Maps the key to the value, replacing the previous value of the key.
+     */
+    void put(long key, int value) {
+        if (2 * (size + 1) > keys.length) {
+            resize(keys.length * 2);
+        }
+        int mask = keys.length - 1;
+        int slot = slotOf(key, mask);
+        while (values[slot] != 0) {
+            if (keys[slot] == key) {
+                values[slot] = value + 1;
+                return;
+            }
+            slot = (slot + 1) & mask;
+        }
+        keys[slot] = key;
+        values[slot] = value + 1;
+        size++;
+    }
+
+    /**
+     * Removes the key and returns its value, or returns -1 if the key is not in the index.
+     */
+    int remove(long key) {
+        int mask = keys.length - 1;
+        for (int slot = slotOf(key, mask); values[slot] != 0; slot = (slot + 1) & mask) {
+            if (keys[slot] == key) {
+                int value = values[slot] - 1;
+                deleteSlot(slot, mask);
+                size--;
+                return value;
+            }
+        }
+        return -1;
+    }
+
+    private static int slotOf(long key, int mask) {
+        long hash = key * 0x9E37_79B9_7F4A_7C15L;
+        return (int) (hash >>> 32) & mask;
+    }
+
+    private void deleteSlot(int freed, int mask) {
+        int slot = freed;
+        while (true) {
+            slot = (slot + 1) & mask;
+            if (values[slot] == 0) {
+                values[freed] = 0;
+                return;
+            }
+            int home = slotOf(keys[slot], mask);
+            boolean canMove = freed <= slot ? (home <= freed || home > slot) : (home <= freed && home > slot);
+            if (canMove) {
+                keys[freed] = keys[slot];
+                values[freed] = values[slot];
+                freed = slot;
+            }
+        }
+    }
+
+    private void resize(int capacity) {
+        long[] oldKeys = keys;
+        int[] oldValues = values;
+        keys = new long[capacity];
+        values = new int[capacity];
+        int mask = capacity - 1;
+        for (int i = 0; i < oldKeys.length; i++) {
+            if (oldValues[i] != 0) {
+                int slot = slotOf(oldKeys[i], mask);
+                while (values[slot] != 0) {
+                    slot = (slot + 1) & mask;
+                }
+                keys[slot] = oldKeys[i];
+                values[slot] = oldValues[i];
+            }
+        }
+    }
+}
@@ -0,0 +1,215 @@
+package com.ivana.scoreboard;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.*;
+
+/**
+ * Read-only scoreboard snapshot stored in a compact fixed-layout file and read through a memory mapping.
+ * Opening a snapshot only maps the file and checks its header, nothing is parsed or allocated per match,
+ * and {@link #getSummary()} reads the summary lines straight from the mapped file.
+ * <p>
+ * Layout: header (int magic, int format, long scoreboard version, int team count, int match count),
+ * team dictionary (team count + 1 int offsets followed by the UTF-8 team names),
+ * then one 20 byte record per match in summary order: int home team, int away team,
+ * short home score, short away score, long start sequence.
+ */
+public class MappedScoreboardSnapshot {
+    private static final int MAGIC = 0x5342_4D31;
+    private static final int FORMAT = 1;
+    private static final int HEADER_SIZE = 24;
+    private static final int MATCH_RECORD_SIZE = 20;
+
+    private final ByteBuffer data;
+    private final long version;
+    private final int teamCount;
+    private final int matchCount;
+    private final int namesStart;
+    private final int matchesStart;
+
+    private MappedScoreboardSnapshot(ByteBuffer data) throws IOException {
+        if (data.capacity() < HEADER_SIZE || data.getInt(0) != MAGIC || data.getInt(4) != FORMAT) {
+            throw new IOException("Not a scoreboard snapshot");
+        }
+        this.data = data;
+        this.version = data.getLong(8);
+        this.teamCount = data.getInt(16);
+        this.matchCount = data.getInt(20);
+        if (teamCount < 0 || matchCount < 0 || HEADER_SIZE + (teamCount + 1L) * Integer.BYTES > data.capacity()) {
+            throw new IOException("Scoreboard snapshot is truncated or corrupt");
+        }
+        this.namesStart = HEADER_SIZE + (teamCount + 1) * Integer.BYTES;
+        this.matchesStart = namesStart + data.getInt(HEADER_SIZE + teamCount * Integer.BYTES);
+        if ((long) matchesStart + (long) matchCount * MATCH_RECORD_SIZE != data.capacity()) {
+            throw new IOException("Scoreboard snapshot is truncated or corrupt");
+        }
+    }
+
+    /**
+     * Writes the current state of the scoreboard to the file, replacing it atomically.
+     *
+     * @throws UncheckedIOException if the file can not be written
+     */
+    public static void write(Scoreboard scoreboard, Path file) {
+        Map<String, Integer> teamIds = new HashMap<>();
+        List<byte[]> teamNames = new ArrayList<>();
+        List<FootballMatch> matches = new ArrayList<>();
+        int namesSize = 0;
+        for (FootballMatch match : scoreboard.summaryOrder()) {
+            matches.add(match);
+            for (String team : new String[]{match.getHomeTeam(), match.getAwayTeam()}) {
+                if (!teamIds.containsKey(team)) {
+                    byte[] name = team.getBytes(StandardCharsets.UTF_8);
+                    teamIds.put(team, teamNames.size());
+                    teamNames.add(name);
+                    namesSize += name.length;
+                }
+            }
+        }
+        int size = HEADER_SIZE + (teamNames.size() + 1) * Integer.BYTES + namesSize + matches.size() * MATCH_RECORD_SIZE;
+        ByteBuffer buffer = ByteBuffer.allocate(size);
+        buffer.putInt(MAGIC).putInt(FORMAT).putLong(scoreboard.getVersion()).putInt(teamNames.size()).putInt(matches.size());
+        int offset = 0;
+        for (byte[] name : teamNames) {
+            buffer.putInt(offset);
+            offset += name.length;
+        }
+        buffer.putInt(offset);
+        for (byte[] name : teamNames) {
+            buffer.put(name);
+        }
+        for (FootballMatch match : matches) {
+            long score = match.getScoreSnapshot();
+            buffer.putInt(teamIds.get(match.getHomeTeam()))
+                    .putInt(teamIds.get(match.getAwayTeam()))
+                    .putShort((short) FootballMatch.homeScoreOf(score))
+                    .putShort((short) FootballMatch.awayScoreOf(score))
+                    .putLong(match.getStartSequence());
+        }
+        buffer.flip();
+        try {
+            Path temporary = file.resolveSibling(file.getFileName() + ".tmp");
+            try (FileChannel channel = FileChannel.open(temporary, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                    StandardOpenOption.TRUNCATE_EXISTING)) {
+                while (buffer.hasRemaining()) {
+                    channel.write(buffer);
+                }
+                channel.force(true);
+            }
+            Files.move(temporary, file, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Can not write scoreboard snapshot " + file, e);
+        }
+    }
+
+    /**
+     * Maps the snapshot file into memory.
+     *
+     * @throws UncheckedIOException if the file can not be read or is not a scoreboard snapshot
+     */
+    public static MappedScoreboardSnapshot open(Path file) {
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            MappedByteBuffer mapped = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+            return new MappedScoreboardSnapshot(mapped);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Can not open scoreboard snapshot " + file, e);
+        }
+    }
+
+    /**
+     * Returns the version the scoreboard had when the snapshot was written.
+     */
+    public long getVersion() {
+        return version;
+    }
+
+    public int size() {
+        return matchCount;
+    }
+
+    /**
+     * Returns the summary as a list backed by the mapped file, every line is decoded when it is read.
+     */
+    public List<String> getSummary() {
+        return new SummaryView();
+    }
+
+    /**
+     * Returns the summary line at the given position, e.g. "Spain 10 - Brazil 2".
+     *
+     * @throws IndexOutOfBoundsException if there is no match at this position
+     */
+    public String getSummaryLine(int position) {
+        int record = recordOffset(position);
+        return teamName(data.getInt(record)) + " " + data.getShort(record + 8) + " - " +
+                teamName(data.getInt(record + 4)) + " " + data.getShort(record + 10);
+    }
+
+    /**
+     * Creates a detached match for the given summary position, changing it doesn't change the snapshot.
+     *
+     * @throws IndexOutOfBoundsException if there is no match at this position
+     */
+    public FootballMatch getMatch(int position) {
+        int record = recordOffset(position);
+        FootballMatch match = new FootballMatch(teamName(data.getInt(record)), teamName(data.getInt(record + 4)),
+                data.getLong(record + 12));
+        match.setScore(data.getShort(record + 8), data.getShort(record + 10));
+        return match;
+    }
+
+    /**
+     * Loads the snapshot into a new scoreboard, starting the matches in their original order.
+     */
+    public Scoreboard toScoreboard() {
+        Integer[] startOrder = new Integer[matchCount];
+        for (int i = 0; i < matchCount; i++) {
+            startOrder[i] = i;
+        }
+        Arrays.sort(startOrder, Comparator.comparingLong(position -> data.getLong(recordOffset(position) + 12)));
+        Scoreboard scoreboard = new Scoreboard();
+        for (int position : startOrder) {
+            int record = recordOffset(position);
+            String homeTeam = teamName(data.getInt(record));
+            String awayTeam = teamName(data.getInt(record + 4));
+            scoreboard.startMatch(homeTeam, awayTeam);
+            scoreboard.updateScore(homeTeam, awayTeam, data.getShort(record + 8), data.getShort(record + 10));
+        }
+        return scoreboard;
+    }
+
+    private int recordOffset(int position) {
+        if (position < 0 || position >= matchCount) {
+            throw new IndexOutOfBoundsException("No match at position " + position);
+        }
+        return matchesStart + position * MATCH_RECORD_SIZE;
+    }
+
+    private String teamName(int teamId) {
+        int start = data.getInt(HEADER_SIZE + teamId * Integer.BYTES);
+        int end = data.getInt(HEADER_SIZE + (teamId + 1) * Integer.BYTES);
+        byte[] name = new byte[end - start];
+        data.get(namesStart + start, name);
+        return new String(name, StandardCharsets.UTF_8);
+    }
+
+    private class SummaryView extends AbstractList<String> implements RandomAccess {
+        @Override
+        public String get(int index) {
+            return getSummaryLine(index);
+        }
+
+        @Override
+        public int size() {
+            return matchCount;
+        }
+    }
+}
@@ -0,0 +1,298 @@
+package com.ivana.scoreboard;
+
+import java.util.*;
+import java.util.concurrent.ForkJoinPool;
+import java.util.function.BiConsumer;
+import java.util.function.ObjIntConsumer;
+import java.util.function.Supplier;
+import java.util.stream.IntStream;
+
+/**
+ * Finished matches of a scoreboard, stored column by column in primitive arrays (team IDs, scores,
+ * start and finish sequence) instead of one object per match, about 28 bytes per match.
+ * Aggregate queries split the columns into one chunk per worker of the common pool and run the chunks in parallel,
+ * so they scale to millions of archived matches.
+ * Team names in results are the normalized (trimmed, lower cased) names.
+ * <p>
+ * Filled by {@link Scoreboard#finishMatch(String, String)} once enabled with {@link Scoreboard#enableArchive()}.
+ * Like the scoreboard, the archive is not thread-safe: queries must not run while matches are being finished.
+ */
+public class MatchArchive {
+    private static final int INITIAL_CAPACITY = 64;
+
+    private final TeamRegistry teams;
+    private int[] homeTeamIds;
+    private int[] awayTeamIds;
+    private short[] homeScores;
+    private short[] awayScores;
+    private long[] startSequences;
+    private long[] finishSequences;
+    private int size;
+
+    /**
+     * Archived match with its final score.
+     *
+     * @param startSequence  order in which the match was started on the scoreboard
+     * @param finishSequence scoreboard version after the match was finished
+     */
+    public record ArchivedMatch(String homeTeam, String awayTeam, int homeScore, int awayScore,
+                                long startSequence, long finishSequence) {
+    }
+
+    /**
+     * Results of a team over all archived matches.
+     */
+    public record TeamRecord(String team, int played, int wins, int draws, int losses, long goalsFor, long goalsAgainst) {
+
+        public long goalDifference() {
+            return goalsFor - goalsAgainst;
+        }
+    }
+
+    MatchArchive(TeamRegistry teams) {
+        this.teams = teams;
+        this.homeTeamIds = new int[INITIAL_CAPACITY];
+        this.awayTeamIds = new int[INITIAL_CAPACITY];
+        this.homeScores = new short[INITIAL_CAPACITY];
+        this.awayScores = new short[INITIAL_CAPACITY];
+        this.startSequences = new long[INITIAL_CAPACITY];
+        this.finishSequences = new long[INITIAL_CAPACITY];
+    }
+
+    /**
+     * Appends a finished match. Scores are stored as shorts, the scoreboard never accepts scores above 100.
+     */
+    void add(int homeTeamId, int awayTeamId, int homeScore, int awayScore, long startSequence, long finishSequence) {
+        if (size == homeTeamIds.length) {
+            int capacity = size * 2;
+            homeTeamIds = Arrays.copyOf(homeTeamIds, capacity);
+            awayTeamIds = Arrays.copyOf(awayTeamIds, capacity);
+            homeScores = Arrays.copyOf(homeScores, capacity);
+            awayScores = Arrays.copyOf(awayScores, capacity);
+            startSequences = Arrays.copyOf(startSequences, capacity);
+            finishSequences = Arrays.copyOf(finishSequences, capacity);
+        }
+        homeTeamIds[size] = homeTeamId;
+        awayTeamIds[size] = awayTeamId;
+        homeScores[size] = (short) homeScore;
+        awayScores[size] = (short) awayScore;
+        startSequences[size] = startSequence;
+        finishSequences[size] = finishSequence;
+        size++;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Returns the archived match at the index, 0 being the first finished match.
+     *
+     * @throws IndexOutOfBoundsException if there is no match at this index
+     */
+    public ArchivedMatch get(int index) {
+        Objects.checkIndex(index, size);
+        return new ArchivedMatch(teams.getName(homeTeamIds[index]), teams.getName(awayTeamIds[index]),
+                homeScores[index], awayScores[index], startSequences[index], finishSequences[index]);
+    }
+
+    /**
+     * Returns the record of one team, with all counts 0 if it never finished a match.
+     */
+    public TeamRecord getTeamRecord(String team) {
+        int teamId = teams.find(team);
+        if (teamId < 0) {
+            return new TeamRecord(team == null ? null : team.trim().toLowerCase(), 0, 0, 0, 0, 0, 0);
+        }
+        int[] home = homeTeamIds;
+        int[] away = awayTeamIds;
+        short[] homeGoals = homeScores;
+        short[] awayGoals = awayScores;
+        long[] totals = collectInChunks(() -> new long[RecordColumn.COUNT], (record, i) -> {
+            if (home[i] == teamId) {
+                RecordColumn.add(record, 0, homeGoals[i], awayGoals[i]);
+            } else if (away[i] == teamId) {
+                RecordColumn.add(record, 0, awayGoals[i], homeGoals[i]);
+            }
+        }, RecordColumn::merge);
+        return RecordColumn.toRecord(teams.getName(teamId), totals, 0);
+    }
+
+    /**
+     * Returns the records of all teams that finished at least one match, ordered by team name.
+     * Every chunk of matches accumulates into its own per-team columns, which are summed at the end, so a query
+     * allocates one array of {@code teams * 6} counts per worker of the common pool.
+     */
+    public List<TeamRecord> getTeamRecords() {
+        int teamCount = teams.size();
+        int[] home = homeTeamIds;
+        int[] away = awayTeamIds;
+        short[] homeGoals = homeScores;
+        short[] awayGoals = awayScores;
+        long[] totals = collectInChunks(() -> new long[teamCount * RecordColumn.COUNT], (records, i) -> {
+            RecordColumn.add(records, home[i] * RecordColumn.COUNT, homeGoals[i], awayGoals[i]);
+            RecordColumn.add(records, away[i] * RecordColumn.COUNT, awayGoals[i], homeGoals[i]);
+        }, RecordColumn::merge);
+        List<TeamRecord> records = new ArrayList<>();
+        for (int teamId = 0; teamId < teamCount; teamId++) {
+            if (totals[teamId * RecordColumn.COUNT + RecordColumn.PLAYED] > 0) {
+                records.add(RecordColumn.toRecord(teams.getName(teamId), totals, teamId * RecordColumn.COUNT));
+            }
+        }
+        records.sort(Comparator.comparing(TeamRecord::team));
+        return records;
+    }
+
+    /**
+     * Returns the {@code limit} matches with the most goals, ties broken by the most recently finished match first.
+     *
+     * @throws IllegalArgumentException if the limit is negative
+     */
+    public List<ArchivedMatch> getHighestScoringMatches(int limit) {
+        if (limit < 0) {
+            throw new IllegalArgumentException("Limit can not be a negative number");
+        }
+        int capped = Math.min(limit, size);
+        if (capped == 0) {
+            return List.of();
+        }
+        short[] homeGoals = homeScores;
+        short[] awayGoals = awayScores;
+        TopMatches top = collectInChunks(() -> new TopMatches(capped),
+                (matches, i) -> matches.offer(((long) (homeGoals[i] + awayGoals[i]) << 32) | i), TopMatches::merge);
+        long[] keys = top.sortedDescending();
+        List<ArchivedMatch> matches = new ArrayList<>(keys.length);
+        for (long key : keys) {
+            matches.add(get((int) key));
+        }
+        return matches;
+    }
+
+    /**
+     * Accumulates the archived matches into one container per chunk and merges the containers. Unlike
+     * {@code IntStream.parallel().collect}, which creates a container for every split of the range, the range
+     * is cut into as many chunks as the common pool has workers, so large containers are created only that often.
+     */
+    private <A> A collectInChunks(Supplier<A> supplier, ObjIntConsumer<A> accumulator, BiConsumer<A, A> combiner) {
+        int count = size;
+        int chunks = Math.max(1, Math.min(count, ForkJoinPool.getCommonPoolParallelism()));
+        return IntStream.range(0, chunks).parallel().mapToObj(chunk -> {
+            A container = supplier.get();
+            int end = (int) ((long) count * (chunk + 1) / chunks);
+            for (int i = (int) ((long) count * chunk / chunks); i < end; i++) {
+                accumulator.accept(container, i);
+            }
+            return container;
+        }).reduce((container, other) -> {
+            combiner.accept(container, other);
+            return container;
+        }).orElseGet(supplier);
+    }
+
+    /**
+     * Layout of the accumulated team record columns: played, wins, draws, losses, goals for, goals against.
+     */
+    private static final class RecordColumn {
+        static final int PLAYED = 0;
+        static final int WINS = 1;
+        static final int DRAWS = 2;
+        static final int LOSSES = 3;
+        static final int GOALS_FOR = 4;
+        static final int GOALS_AGAINST = 5;
+        static final int COUNT = 6;
+
+        static void add(long[] records, int offset, int goalsFor, int goalsAgainst) {
+            records[offset + PLAYED]++;
+            records[offset + (goalsFor > goalsAgainst ? WINS : goalsFor == goalsAgainst ? DRAWS : LOSSES)]++;
+            records[offset + GOALS_FOR] += goalsFor;
+            records[offset + GOALS_AGAINST] += goalsAgainst;
+        }
+
+        static void merge(long[] records, long[] other) {
+            for (int i = 0; i < records.length; i++) {
+                records[i] += other[i];
+            }
+        }
+
+        static TeamRecord toRecord(String team, long[] records, int offset) {
+            return new TeamRecord(team, (int) records[offset + PLAYED], (int) records[offset + WINS],
+                    (int) records[offset + DRAWS], (int) records[offset + LOSSES],
+                    records[offset + GOALS_FOR], records[offset + GOALS_AGAINST]);
+        }
+    }
+
+    /**
+     * Bounded min-heap keeping the largest (total goals, index) keys seen.
+     */
+    private static final class TopMatches {
+        private final long[] heap;
+        private int size;
+
+        TopMatches(int limit) {
+            this.heap = new long[limit];
+        }
+
+        void offer(long key) {
+            if (size < heap.length) {
+                heap[size] = key;
+                siftUp(size++);
+            } else if (key > heap[0]) {
+                heap[0] = key;
+                siftDown(0);
+            }
+        }
+
+        void merge(TopMatches other) {
+            for (int i = 0; i < other.size; i++) {
+                offer(other.heap[i]);
+            }
+        }
+
+        long[] sortedDescending() {
+            long[] keys = Arrays.copyOf(heap, size);
+            Arrays.sort(keys);
+            for (int i = 0, j = keys.length - 1; i < j; i++, j--) {
+                long swap = keys[i];
+                keys[i] = keys[j];
+                keys[j] = swap;
+            }
+            return keys;
+        }
+
+        private void siftUp(int index) {
+            while (index > 0) {
+                int parent = (index - 1) / 2;
+                if (heap[parent] <= heap[index]) {
+                    return;
+                }
+                swap(parent, index);
+                index = parent;
+            }
+        }
+
+        private void siftDown(int index) {
+            while (true) {
+                int smallest = index;
+                int left = 2 * index + 1;
+                int right = left + 1;
+                if (left < size && heap[left] < heap[smallest]) {
+                    smallest = left;
+                }
+                if (right < size && heap[right] < heap[smallest]) {
+                    smallest = right;
+                }
+                if (smallest == index) {
+                    return;
+                }
+                swap(smallest, index);
+                index = smallest;
+            }
+        }
+
+        private void swap(int i, int j) {
+            long swap = heap[i];
+            heap[i] = heap[j];
+            heap[j] = swap;
+        }
+    }
+}
@@ -0,0 +1,159 @@
+package com.ivana.scoreboard;
+
+/**
+ * Open addressing hash table of matches keyed by a packed pair of team IDs, see {@link #matchKey(int, int)}.
+ * Entries are stored in insertion order in parallel arrays and the hash slots point into them,
+ * so iteration follows the order in which matches were started and lookups never box or allocate.
+ */
+class MatchTable {
+    private static final int INITIAL_CAPACITY = 16;
+
+    private long[] keys;
+    private FootballMatch[] matches;
+    /**
+     * Linear probing slots holding entry index + 1, 0 marks an empty slot.
+     */
+    private int[] slots;
+    private int entryCount;
+    private int size;
+
+    MatchTable() {
+        this.keys = new long[INITIAL_CAPACITY];
+        this.matches = new FootballMatch[INITIAL_CAPACITY];
+        this.slots = new int[INITIAL_CAPACITY * 2];
+    }
+
+    static long matchKey(int homeTeamId, int awayTeamId) {
+        return ((long) homeTeamId << 32) | (awayTeamId & 0xFFFF_FFFFL);
+    }
+
+    static int homeTeamIdOf(long matchKey) {
+        return (int) (matchKey >>> 32);
+    }
+
+    static int awayTeamIdOf(long matchKey) {
+        return (int) matchKey;
+    }
+
+    int size() {
+        return size;
+    }
+
+    FootballMatch get(long key) {
+        int slot = findSlot(key);
+        return slot < 0 ? null : matches[slots[slot] - 1];
+    }
+
+    /**
+     * Adds a match that is not in the table yet.
+     */
+    void put(long key, FootballMatch match) {
+        if (entryCount == keys.length) {
+            resize(size < entryCount / 2 ? keys.length : keys.length * 2);
+        }
+        keys[entryCount] = key;
+        matches[entryCount] = match;
+        entryCount++;
+        size++;
+        int slot = slotOf(key);
+        while (slots[slot] != 0) {
+            slot = (slot + 1) & (slots.length - 1);
+        }
+        slots[slot] = entryCount;
+    }
+
+    /**
+     * Removes the match with the given key and returns it, or returns null if there is no such match.
+     */
+    FootballMatch remove(long key) {
+        int slot = findSlot(key);
+        if (slot < 0) {
+            return null;
+        }
+        int entry = slots[slot] - 1;
+        FootballMatch match = matches[entry];
+        matches[entry] = null;
+        size--;
+        deleteSlot(slot);
+        return match;
+    }
+
+    /**
+     * Calls the visitor for every match in the order the matches were added.
+     */
+    void forEach(MatchVisitor visitor) {
+        for (int i = 0; i < entryCount; i++) {
+            if (matches[i] != null) {
+                visitor.visit(keys[i], matches[i]);
+            }
+        }
+    }
+
+    interface MatchVisitor {
+        void visit(long key, FootballMatch match);
+    }
+
+    private int findSlot(long key) {
+        int slot = slotOf(key);
+        while (slots[slot] != 0) {
+            if (keys[slots[slot] - 1] == key) {
+                return slot;
+            }
+            slot = (slot + 1) & (slots.length - 1);
+        }
+        return -1;
+    }
+
+    private int slotOf(long key) {
+        long hash = key * 0x9E37_79B9_7F4A_7C15L;
+        return (int) (hash >>> 32) & (slots.length - 1);
+    }
+
+    /**
+     * Backward shift deletion, moves following entries of the probe sequence into the freed slot so no tombstones are needed.
+     */
+    private void deleteSlot(int freed) {
+        int mask = slots.length - 1;
+        int slot = freed;
+        while (true) {
+            slot = (slot + 1) & mask;
+            if (slots[slot] == 0) {
+                slots[freed] = 0;
+                return;
+            }
+            int home = slotOf(keys[slots[slot] - 1]);
+            boolean canMove = freed <= slot ? (home <= freed || home > slot) : (home <= freed && home > slot);
+            if (canMove) {
+                slots[freed] = slots[slot];
+                freed = slot;
+            }
+        }
+    }
+
+    /**
+     * Drops removed entries and rebuilds the slots, growing the arrays to the given capacity.
+     */
+    private void resize(int capacity) {
+        long[] newKeys = new long[capacity];
+        FootballMatch[] newMatches = new FootballMatch[capacity];
+        int live = 0;
+        for (int i = 0; i < entryCount; i++) {
+            if (matches[i] != null) {
+                newKeys[live] = keys[i];
+                newMatches[live] = matches[i];
+                live++;
+            }
+        }
+        keys = newKeys;
+        matches = newMatches;
+        entryCount = live;
+        slots = new int[capacity * 2];
+        for (int i = 0; i < live; i++) {
+            int slot = slotOf(keys[i]);
+            while (slots[slot] != 0) {
+                slot = (slot + 1) & (slots.length - 1);
+            }
+            slots[slot] = i + 1;
+        }
+    }
+}
@@ -0,0 +1,305 @@
+package com.ivana.scoreboard;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.util.*;
+
+/**
+ * Scoreboard for very large boards that keeps its matches outside the Java heap.
+ * Every match is a fixed 24 byte record in a direct memory slab: int home team ID, int away team ID,
+ * short home score, short away score, int state, long start sequence. Matches are found through primitive
+ * open addressing indexes (team IDs to record, start sequence to record), so an ongoing match costs no
+ * objects at all and the garbage collector never has to trace it. Records of finished matches are reused.
+ * <p>
+ * {@link FootballMatch} objects are only created when a caller asks for them with {@link #getMatch(String, String)}
+ * or {@link #getScoreboard()}, as detached copies: changing them doesn't change the board.
+ * Validation rules and exceptions are the same as in {@link Scoreboard}. Not thread-safe.
+ */
+public class OffHeapScoreboard implements LiveScoreboard {
+    private static final int RECORD_SIZE = 24;
+    private static final int HOME_TEAM = 0;
+    private static final int AWAY_TEAM = 4;
+    private static final int HOME_SCORE = 8;
+    private static final int AWAY_SCORE = 10;
+    private static final int STATE = 12;
+    private static final int START_SEQUENCE = 16;
+    private static final int FREE = 0;
+    private static final int ACTIVE = 1;
+    private static final int INITIAL_CAPACITY = 1024;
+    private static final int MAX_CAPACITY = Integer.MAX_VALUE / RECORD_SIZE;
+
+    private final TeamRegistry teams;
+
+    /**
+     * Team names as spelled when the team's current match was started, by team ID, shown in the summary.
+     */
+    private final List<String> displayNames;
+    private final BitSet activeTeams;
+    private final LongIntIndex recordsByMatchKey;
+    private final LongIntIndex recordsByStartSequence;
+
+    private ByteBuffer slab;
+    private int capacity;
+    private int usedRecords;
+
+    /**
+     * First free record, free records are chained through their home team field, -1 if none.
+     */
+    private int firstFreeRecord = -1;
+    private long nextStartSequence;
+    private long version;
+    private List<String> cachedSummary;
+    private long cachedSummaryVersion = -1;
+    private final SummarySorter summarySorter = new SummarySorter();
+
+    public OffHeapScoreboard() {
+        this(INITIAL_CAPACITY);
+    }
+
+    /**
+     * @param initialCapacity number of matches the slab holds before it has to grow
+     * @throws IllegalArgumentException if the capacity is not positive or too large for one slab
+     */
+    public OffHeapScoreboard(int initialCapacity) {
+        if (initialCapacity <= 0 || initialCapacity > MAX_CAPACITY) {
+            throw new IllegalArgumentException("Capacity must be between 1 and " + MAX_CAPACITY);
+        }
+        this.teams = new TeamRegistry();
+        this.displayNames = new ArrayList<>();
+        this.activeTeams = new BitSet();
+        this.recordsByMatchKey = new LongIntIndex();
+        this.recordsByStartSequence = new LongIntIndex();
+        this.capacity = initialCapacity;
+        this.slab = ByteBuffer.allocateDirect(initialCapacity * RECORD_SIZE).order(ByteOrder.nativeOrder());
+    }
+
+    @Override
+    public void startMatch(String homeTeam, String awayTeam) {
+        int homeTeamId = teams.find(homeTeam);
+        int awayTeamId = teams.find(awayTeam);
+        if (homeTeamId >= 0 && awayTeamId >= 0 && recordsByMatchKey.get(MatchTable.matchKey(homeTeamId, awayTeamId)) >= 0) {
+            throw new IllegalStateException("This match is already in progress");
+        }
+        if (isTeamInActiveMatch(homeTeamId) || isTeamInActiveMatch(awayTeamId)) {
+            throw new IllegalStateException("This match can not be initialized since one of the teams is already in the game");
+        }
+        String homeName = homeTeam == null ? null : homeTeam.trim();
+        String awayName = awayTeam == null ? null : awayTeam.trim();
+        if (homeName == null || homeName.isEmpty() || awayName == null || awayName.isEmpty()) {
+            throw new IllegalArgumentException("Team name can not be null or empty");
+        }
+        if (homeName.equalsIgnoreCase(awayName)) {
+            throw new IllegalArgumentException("Team names can not be the same");
+        }
+        homeTeamId = teams.register(homeTeam);
+        awayTeamId = teams.register(awayTeam);
+        setDisplayName(homeTeamId, homeName);
+        setDisplayName(awayTeamId, awayName);
+        int record = allocateRecord();
+        int offset = record * RECORD_SIZE;
+        long startSequence = nextStartSequence++;
+        slab.putInt(offset + HOME_TEAM, homeTeamId);
+        slab.putInt(offset + AWAY_TEAM, awayTeamId);
+        slab.putShort(offset + HOME_SCORE, (short) 0);
+        slab.putShort(offset + AWAY_SCORE, (short) 0);
+        slab.putInt(offset + STATE, ACTIVE);
+        slab.putLong(offset + START_SEQUENCE, startSequence);
+        recordsByMatchKey.put(MatchTable.matchKey(homeTeamId, awayTeamId), record);
+        recordsByStartSequence.put(startSequence, record);
+        activeTeams.set(homeTeamId);
+        activeTeams.set(awayTeamId);
+        version++;
+    }
+
+    @Override
+    public void updateScore(String homeTeam, String awayTeam, int homeScore, int awayScore) {
+        int record = findRecord(homeTeam, awayTeam);
+        if (record < 0) {
+            throw new IllegalStateException("Can not update match that doesn't exist");
+        }
+        Scoreboard.validateScore(homeScore);
+        Scoreboard.validateScore(awayScore);
+        setScore(record, homeScore, awayScore);
+        version++;
+    }
+
+    @Override
+    public void applyBatch(List<ScoreUpdate> updates) {
+        int[] records = new int[updates.size()];
+        for (int i = 0; i < records.length; i++) {
+            ScoreUpdate update = updates.get(i);
+            records[i] = findRecord(update.homeTeam(), update.awayTeam());
+            if (records[i] < 0) {
+                throw new IllegalStateException("Can not update match that doesn't exist");
+            }
+            Scoreboard.validateScore(update.homeScore());
+            Scoreboard.validateScore(update.awayScore());
+        }
+        for (int i = 0; i < records.length; i++) {
+            setScore(records[i], updates.get(i).homeScore(), updates.get(i).awayScore());
+        }
+        if (records.length > 0) {
+            version++;
+        }
+    }
+
+    @Override
+    public void finishMatch(String homeTeam, String awayTeam) {
+        int homeTeamId = teams.find(homeTeam);
+        int awayTeamId = teams.find(awayTeam);
+        int record = homeTeamId < 0 || awayTeamId < 0 ? -1 : recordsByMatchKey.remove(MatchTable.matchKey(homeTeamId, awayTeamId));
+        if (record < 0) {
+            throw new IllegalStateException("Can not finish the match that is not ongoing");
+        }
+        int offset = record * RECORD_SIZE;
+        recordsByStartSequence.remove(slab.getLong(offset + START_SEQUENCE));
+        activeTeams.clear(homeTeamId);
+        activeTeams.clear(awayTeamId);
+        slab.putInt(offset + STATE, FREE);
+        slab.putInt(offset + HOME_TEAM, firstFreeRecord);
+        firstFreeRecord = record;
+        version++;
+    }
+
+    /**
+     * Same as {@link ConcurrentScoreboard#setParallelSummaryThreshold(int)}.
+     */
+    public void setParallelSummaryThreshold(int threshold) {
+        summarySorter.setThreshold(threshold);
+    }
+
+    /**
+     * Returns the summary, built from the records by sorting their packed summary keys
+     * (total score and start sequence in one long) and reused until the board changes.
+     * Large boards are sorted and rendered in parallel, see {@link #setParallelSummaryThreshold(int)}.
+     */
+    @Override
+    public List<String> getSummary() {
+        if (cachedSummaryVersion == version) {
+            return cachedSummary;
+        }
+        long[] summaryKeys = new long[recordsByMatchKey.size()];
+        int count = 0;
+        for (int record = 0; record < usedRecords; record++) {
+            int offset = record * RECORD_SIZE;
+            if (slab.getInt(offset + STATE) == ACTIVE) {
+                int total = slab.getShort(offset + HOME_SCORE) + slab.getShort(offset + AWAY_SCORE);
+                summaryKeys[count++] = FootballMatch.summaryKey(total, slab.getLong(offset + START_SEQUENCE));
+            }
+        }
+        cachedSummary = summarySorter.sortAndRender(summaryKeys, count, this::summaryLine);
+        cachedSummaryVersion = version;
+        return cachedSummary;
+    }
+
+    private String summaryLine(long summaryKey) {
+        int offset = recordsByStartSequence.get(FootballMatch.startSequenceOf(summaryKey)) * RECORD_SIZE;
+        return displayNames.get(slab.getInt(offset + HOME_TEAM)) + " " + slab.getShort(offset + HOME_SCORE) + " - " +
+                displayNames.get(slab.getInt(offset + AWAY_TEAM)) + " " + slab.getShort(offset + AWAY_SCORE);
+    }
+
+    /**
+     * Creates detached copies of all ongoing matches, in the order they were started.
+     */
+    @Override
+    public Map<String, FootballMatch> getScoreboard() {
+        long[] startSequences = new long[recordsByMatchKey.size()];
+        int count = 0;
+        for (int record = 0; record < usedRecords; record++) {
+            int offset = record * RECORD_SIZE;
+            if (slab.getInt(offset + STATE) == ACTIVE) {
+                startSequences[count++] = slab.getLong(offset + START_SEQUENCE);
+            }
+        }
+        Arrays.sort(startSequences);
+        LinkedHashMap<String, FootballMatch> matches = new LinkedHashMap<>();
+        for (long startSequence : startSequences) {
+            int offset = recordsByStartSequence.get(startSequence) * RECORD_SIZE;
+            int homeTeamId = slab.getInt(offset + HOME_TEAM);
+            int awayTeamId = slab.getInt(offset + AWAY_TEAM);
+            matches.put(teams.getName(homeTeamId) + "_vs_" + teams.getName(awayTeamId), matchOf(offset));
+        }
+        return Collections.unmodifiableMap(matches);
+    }
+
+    /**
+     * Creates a detached copy of an ongoing match, or returns null if the match is not ongoing.
+     */
+    @Override
+    public FootballMatch getMatch(String homeTeam, String awayTeam) {
+        int record = findRecord(homeTeam, awayTeam);
+        return record < 0 ? null : matchOf(record * RECORD_SIZE);
+    }
+
+    @Override
+    public Set<String> getActiveTeams() {
+        Set<String> names = new HashSet<>();
+        for (int teamId = activeTeams.nextSetBit(0); teamId >= 0; teamId = activeTeams.nextSetBit(teamId + 1)) {
+            names.add(teams.getName(teamId));
+        }
+        return Collections.unmodifiableSet(names);
+    }
+
+    public int size() {
+        return recordsByMatchKey.size();
+    }
+
+    /**
+     * Returns the size of the off-heap slab in bytes.
+     */
+    public long getOffHeapBytes() {
+        return (long) capacity * RECORD_SIZE;
+    }
+
+    private boolean isTeamInActiveMatch(int teamId) {
+        return teamId >= 0 && activeTeams.get(teamId);
+    }
+
+    private int findRecord(String homeTeam, String awayTeam) {
+        int homeTeamId = teams.find(homeTeam);
+        int awayTeamId = teams.find(awayTeam);
+        return homeTeamId < 0 || awayTeamId < 0 ? -1 : recordsByMatchKey.get(MatchTable.matchKey(homeTeamId, awayTeamId));
+    }
+
+    private void setScore(int record, int homeScore, int awayScore) {
+        int offset = record * RECORD_SIZE;
+        slab.putShort(offset + HOME_SCORE, (short) homeScore);
+        slab.putShort(offset + AWAY_SCORE, (short) awayScore);
+    }
+
+    private FootballMatch matchOf(int offset) {
+        FootballMatch match = new FootballMatch(displayNames.get(slab.getInt(offset + HOME_TEAM)),
+                displayNames.get(slab.getInt(offset + AWAY_TEAM)), slab.getLong(offset + START_SEQUENCE));
+        match.setScore(slab.getShort(offset + HOME_SCORE), slab.getShort(offset + AWAY_SCORE));
+        return match;
+    }
+
+    private void setDisplayName(int teamId, String name) {
+        while (displayNames.size() <= teamId) {
+            displayNames.add(null);
+        }
+        displayNames.set(teamId, name);
+    }
+
+    /**
+     * Takes a free record, or the next unused one, doubling the slab when it is full.
+     */
+    private int allocateRecord() {
+        if (firstFreeRecord >= 0) {
+            int record = firstFreeRecord;
+            firstFreeRecord = slab.getInt(record * RECORD_SIZE + HOME_TEAM);
+            return record;
+        }
+        if (usedRecords == capacity) {
+            if (capacity == MAX_CAPACITY) {
+                throw new IllegalStateException("Off-heap scoreboard is full");
+            }
+            int grown = (int) Math.min(2L * capacity, MAX_CAPACITY);
+            ByteBuffer larger = ByteBuffer.allocateDirect(grown * RECORD_SIZE).order(ByteOrder.nativeOrder());
+            larger.put(0, slab, 0, usedRecords * RECORD_SIZE);
+            slab = larger;
+            capacity = grown;
+        }
+        return usedRecords++;
+    }
+}
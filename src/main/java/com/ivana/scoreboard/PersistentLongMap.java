@@ -0,0 +1,229 @@
+package com.ivana.scoreboard;
+
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+/**
+ * Immutable map from non-negative long keys to values that iterates in ascending key order.
+ * Implemented as a trie that consumes 5 bits of the key per level, most significant bits first, with
+ * bitmap compressed nodes like {@link PersistentHashMap}: {@link #with} and {@link #without} copy one node
+ * per level and share all others with the old map. The trie is only as deep as the largest key needs,
+ * so keys handed out by a counter, like start sequences, keep it shallow. Null values are not supported.
+ */
+final class PersistentLongMap<V> implements Iterable<V> {
+    private static final int BITS = 5;
+    private static final int MASK = (1 << BITS) - 1;
+    private static final int MAX_SHIFT = 60;
+    private static final PersistentLongMap<?> EMPTY = new PersistentLongMap<>(Node.EMPTY, 0, 0);
+
+    private final Node root;
+
+    /**
+     * Position of the root's bits in the key, the leaves are at shift 0.
+     */
+    private final int shift;
+    private final int size;
+
+    private PersistentLongMap(Node root, int shift, int size) {
+        this.root = root;
+        this.shift = shift;
+        this.size = size;
+    }
+
+    @SuppressWarnings("unchecked")
+    static <V> PersistentLongMap<V> empty() {
+        return (PersistentLongMap<V>) EMPTY;
+    }
+
+    /**
+     * Returns a map with the key mapped to the value.
+     *
+     * @throws IllegalArgumentException if the key is negative
+     */
+    PersistentLongMap<V> with(long key, V value) {
+        if (key < 0) {
+            throw new IllegalArgumentException("Key can not be negative");
+        }
+        Node grown = root;
+        int grownShift = shift;
+        while (!covers(grownShift, key)) {
+            grown = grown.bitmap == 0 ? grown : new Node(1, new Object[]{grown});
+            grownShift += BITS;
+        }
+        boolean[] added = new boolean[1];
+        return new PersistentLongMap<>(with(grown, grownShift, key, value, added), grownShift, added[0] ? size + 1 : size);
+    }
+
+    /**
+     * Returns a map without the key, or this map if it doesn't contain the key.
+     */
+    PersistentLongMap<V> without(long key) {
+        if (key < 0 || !covers(shift, key)) {
+            return this;
+        }
+        Node changed = without(root, shift, key);
+        return changed == root ? this : new PersistentLongMap<>(changed, shift, size - 1);
+    }
+
+    @SuppressWarnings("unchecked")
+    V get(long key) {
+        if (key < 0 || !covers(shift, key)) {
+            return null;
+        }
+        Node node = root;
+        for (int level = shift; ; level -= BITS) {
+            int bit = 1 << ((key >>> level) & MASK);
+            if ((node.bitmap & bit) == 0) {
+                return null;
+            }
+            Object child = node.children[Integer.bitCount(node.bitmap & (bit - 1))];
+            if (level == 0) {
+                return (V) child;
+            }
+            node = (Node) child;
+        }
+    }
+
+    int size() {
+        return size;
+    }
+
+    /**
+     * Iterates the values in ascending key order.
+     */
+    @Override
+    public Iterator<V> iterator() {
+        return new ValueIterator<>(root, shift);
+    }
+
+    private static boolean covers(int shift, long key) {
+        return shift >= MAX_SHIFT || key >>> (shift + BITS) == 0;
+    }
+
+    private static Node with(Node node, int level, long key, Object value, boolean[] added) {
+        int bit = 1 << ((key >>> level) & MASK);
+        int index = Integer.bitCount(node.bitmap & (bit - 1));
+        if ((node.bitmap & bit) == 0) {
+            if (level == 0) {
+                added[0] = true;
+                return node.insert(bit, index, value);
+            }
+            return node.insert(bit, index, with(Node.EMPTY, level - BITS, key, value, added));
+        }
+        if (level == 0) {
+            return node.children[index] == value ? node : node.replace(index, value);
+        }
+        Node child = (Node) node.children[index];
+        Node changed = with(child, level - BITS, key, value, added);
+        return changed == child ? node : node.replace(index, changed);
+    }
+
+    private static Node without(Node node, int level, long key) {
+        int bit = 1 << ((key >>> level) & MASK);
+        if ((node.bitmap & bit) == 0) {
+            return node;
+        }
+        int index = Integer.bitCount(node.bitmap & (bit - 1));
+        if (level == 0) {
+            return node.remove(bit, index);
+        }
+        Node child = (Node) node.children[index];
+        Node changed = without(child, level - BITS, key);
+        if (changed == child) {
+            return node;
+        }
+        return changed.bitmap == 0 ? node.remove(bit, index) : node.replace(index, changed);
+    }
+
+    /**
+     * Node of the trie, its children are sub-nodes or, at shift 0, the values.
+     */
+    private static final class Node {
+        static final Node EMPTY = new Node(0, new Object[0]);
+
+        final int bitmap;
+        final Object[] children;
+
+        Node(int bitmap, Object[] children) {
+            this.bitmap = bitmap;
+            this.children = children;
+        }
+
+        Node insert(int bit, int index, Object child) {
+            Object[] copy = new Object[children.length + 1];
+            System.arraycopy(children, 0, copy, 0, index);
+            copy[index] = child;
+            System.arraycopy(children, index, copy, index + 1, children.length - index);
+            return new Node(bitmap | bit, copy);
+        }
+
+        Node replace(int index, Object child) {
+            Object[] copy = children.clone();
+            copy[index] = child;
+            return new Node(bitmap, copy);
+        }
+
+        Node remove(int bit, int index) {
+            if (bitmap == bit) {
+                return EMPTY;
+            }
+            Object[] copy = new Object[children.length - 1];
+            System.arraycopy(children, 0, copy, 0, index);
+            System.arraycopy(children, index + 1, copy, index, children.length - index - 1);
+            return new Node(bitmap ^ bit, copy);
+        }
+    }
+
+    /**
+     * Depth-first iterator keeping its path in fixed arrays, a 63 bit key needs at most 13 levels.
+     */
+    private static final class ValueIterator<V> implements Iterator<V> {
+        private final Node[] nodes = new Node[MAX_SHIFT / BITS + 1];
+        private final int[] positions = new int[MAX_SHIFT / BITS + 1];
+        private final int leafDepth;
+        private int depth;
+        private Object next;
+
+        ValueIterator(Node root, int shift) {
+            nodes[0] = root;
+            leafDepth = shift / BITS;
+            advance();
+        }
+
+        @Override
+        public boolean hasNext() {
+            return next != null;
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public V next() {
+            Object current = next;
+            if (current == null) {
+                throw new NoSuchElementException();
+            }
+            advance();
+            return (V) current;
+        }
+
+        private void advance() {
+            next = null;
+            while (depth >= 0) {
+                Object[] children = nodes[depth].children;
+                int position = positions[depth];
+                if (position >= children.length) {
+                    positions[depth] = 0;
+                    nodes[depth--] = null;
+                    continue;
+                }
+                positions[depth] = position + 1;
+                if (depth == leafDepth) {
+                    next = children[position];
+                    return;
+                }
+                nodes[++depth] = (Node) children[position];
+                positions[depth] = 0;
+            }
+        }
+    }
+}
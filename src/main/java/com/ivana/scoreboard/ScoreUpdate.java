@@ -0,0 +1,7 @@
+package com.ivana.scoreboard;
+
+/**
+ * Absolute score of an ongoing match, applied together with other updates by {@link LiveScoreboard#applyBatch(java.util.List)}.
+ */
+public record ScoreUpdate(String homeTeam, String awayTeam, int homeScore, int awayScore) {
+}
@@ -1,44 +1,232 @@
 package com.ivana.scoreboard;
 
+import java.nio.file.Path;
+import java.time.Clock;
 import java.util.*;
-import java.util.concurrent.atomic.AtomicInteger;
-import java.util.stream.Collectors;
+import java.util.concurrent.atomic.AtomicLong;
 
-public class Scoreboard {
+public class Scoreboard implements LiveScoreboard {
     /**
-     * Map storing active matches, preserving insertion order for tie-breaking.
-     * Key format: "hometeam_vs_awayteam" (normalized to lowercase)
-     * Set of team names currently participating in active matches.
-     * Team names are normalized to lowercase for case-insensitive comparison.
+     * Team names are normalized once by the registry and afterwards identified by their int ID.
+     * Table storing active matches by packed (home team ID, away team ID) key, preserving insertion order.
+     * Set of IDs of the teams currently participating in active matches.
      */
-    private final LinkedHashMap<String, FootballMatch> scoreboard;
-    private final HashSet<String> activeTeams;
+    private final TeamRegistry teams;
+    private final MatchTable scoreboard;
+    private final BitSet activeTeams;
+
+    /**
+     * Active matches kept in summary order (highest total score first, then most recently started),
+     * so the summary never has to be sorted. Updated in O(log n) by every start, update and finish.
+     */
+    private final SummaryIndex summaryIndex;
+    private long nextStartSequence;
+
+    /**
+     * Start sequence shared with other scoreboards, so their summary keys can be compared, or null if not shared.
+     */
+    private final AtomicLong sharedStartSequence;
+
+    /**
+     * Modification version, increased by every successful start, update and finish.
+     * The last generated summary is reused as long as the version stays the same.
+     */
+    private long version;
+    private List<String> cachedSummary;
+    private long cachedSummaryVersion = -1;
+
+    private final ScoreboardEventPublisher events;
+    private ScoreboardMetrics metrics = ScoreboardMetrics.NOOP;
+
+    /**
+     * Immutable matches and active teams, replaced through this single reference by every start and finish.
+     * The new snapshot shares all unchanged nodes with the previous one, so publishing costs O(log n).
+     */
+    private volatile PublishedBoard published = PublishedBoard.EMPTY;
+
+    /**
+     * Archive of finished matches, null until {@link #enableArchive()} is called.
+     */
+    private MatchArchive archive;
+
+    /**
+     * Score history of the ongoing matches, null until {@link #enableTimeline()} is called.
+     */
+    private GoalTimeline timeline;
+
+    /**
+     * Write-ahead journal of a {@link JournaledScoreboard}, every change is appended after it was validated
+     * and before it changes the board. Null for a scoreboard that isn't journaled.
+     */
+    private ScoreboardJournal journal;
+
+    /**
+     * Ring of the last changes, the change that produced version v is stored at index v % history size.
+     * Keeps the changed match, its key and whether the change started the match, used for summary deltas.
+     */
+    static final int DEFAULT_HISTORY_SIZE = 1024;
+    private final FootballMatch[] historyMatches;
+    private final long[] historyMatchKeys;
+    private final boolean[] historyStarts;
 
     /**
      * Constructs a new empty Scoreboard with no active matches.
      */
     public Scoreboard() {
-        this.scoreboard = new LinkedHashMap<>();
-        this.activeTeams = new HashSet<>();
+        this(DEFAULT_HISTORY_SIZE);
+    }
+
+    /**
+     * Constructs a new empty Scoreboard that remembers the given number of changes for {@link #getSummaryDelta(long)}.
+     *
+     * @throws IllegalArgumentException if the history size is not positive
+     */
+    public Scoreboard(int historySize) {
+        this(historySize, null);
     }
 
+    /**
+     * Constructs a new empty Scoreboard that takes the start sequence of its matches from the shared counter,
+     * so that summary keys of matches on different scoreboards are ordered like on a single scoreboard.
+     */
+    Scoreboard(int historySize, AtomicLong sharedStartSequence) {
+        if (historySize <= 0) {
+            throw new IllegalArgumentException("History size must be positive");
+        }
+        this.teams = new TeamRegistry();
+        this.scoreboard = new MatchTable();
+        this.activeTeams = new BitSet();
+        this.summaryIndex = new SummaryIndex();
+        this.events = new ScoreboardEventPublisher();
+        this.historyMatches = new FootballMatch[historySize];
+        this.historyMatchKeys = new long[historySize];
+        this.historyStarts = new boolean[historySize];
+        this.sharedStartSequence = sharedStartSequence;
+    }
+
+    /**
+     * Returns the normalized names of the teams currently playing as an immutable set that is never copied,
+     * it can be read from other threads while the scoreboard changes.
+     */
+    @Override
     public Set<String> getActiveTeams() {
-        return Collections.unmodifiableSet(new HashSet<>(activeTeams));
+        return published.teamNames;
     }
 
+    /**
+     * Returns the ongoing matches in the order they were started, keyed as "hometeam_vs_awayteam" (normalized to lowercase).
+     * The map is an immutable snapshot taken after the last start or finish, returned without copying and safe to read
+     * from other threads; its matches are the live match objects, so their scores are always current.
+     */
+    @Override
     public Map<String, FootballMatch> getScoreboard() {
-        return Collections.unmodifiableMap(new LinkedHashMap<>(scoreboard));
+        return published.matches;
+    }
+
+    /**
+     * Returns the publisher of start, score update and finish events of this scoreboard.
+     * Subscribers are notified asynchronously, a slow subscriber never delays the scoreboard.
+     */
+    public ScoreboardEventPublisher getEvents() {
+        return events;
+    }
+
+    /**
+     * Starts keeping every match finished from now on in the returned archive, instead of discarding it.
+     * Calling it again returns the same archive.
+     */
+    public MatchArchive enableArchive() {
+        if (archive == null) {
+            archive = new MatchArchive(teams);
+        }
+        return archive;
+    }
+
+    /**
+     * Starts recording the score transitions of every match with the system clock, keeping the last 64 transitions
+     * per match and the last 65536 score changes of all matches. Calling it again returns the same timeline.
+     */
+    public GoalTimeline enableTimeline() {
+        if (timeline == null) {
+            timeline = new GoalTimeline(teams, scoreboard, Clock.systemUTC(), 64, 65_536);
+        }
+        return timeline;
+    }
+
+    /**
+     * Starts recording the score transitions of every match with the given clock and capacities.
+     *
+     * @param matchCapacity  number of transitions kept per match
+     * @param recentCapacity number of score changes of all matches kept for recent change queries
+     * @throws IllegalArgumentException if the clock is null or a capacity is not positive
+     * @throws IllegalStateException    if the timeline is already enabled
+     */
+    public GoalTimeline enableTimeline(Clock clock, int matchCapacity, int recentCapacity) {
+        if (timeline != null) {
+            throw new IllegalStateException("Timeline is already enabled");
+        }
+        timeline = new GoalTimeline(teams, scoreboard, clock, matchCapacity, recentCapacity);
+        return timeline;
     }
+
+    /**
+     * Appends every validated change to the journal before it is applied, so a change the journal rejects
+     * leaves the board unchanged.
+     */
+    void setJournal(ScoreboardJournal journal) {
+        this.journal = journal;
+    }
+
+    /**
+     * Sets the metrics that record every start, update, finish, batch and summary of this scoreboard,
+     * {@link ScoreboardMetrics#NOOP} switches recording off.
+     *
+     * @throws IllegalArgumentException if the metrics are null
+     */
+    public void setMetrics(ScoreboardMetrics metrics) {
+        if (metrics == null) {
+            throw new IllegalArgumentException("Metrics can not be null, use ScoreboardMetrics.NOOP instead");
+        }
+        this.metrics = metrics;
+        // read from the volatile published board, the match table must not be read from other threads
+        metrics.registerGauges(() -> published.matchesByKey.size(), () -> published.teamNames.size());
+    }
+
+    /**
+     * Returns the ID of the team, which can be passed to {@link #updateScore(int, int, int, int)}
+     * to skip resolving team names on every update. Teams are registered on first use.
+     *
+     * @throws IllegalArgumentException if the team name is null or empty
+     */
+    public int getTeamId(String teamName) {
+        return teams.register(teamName);
+    }
+
     /**
      * Checks if a team is currently participating in an active match.
-     * Comparison is case-insensitive and ignores whitespace.
      *
-     * @param teamName the name of the team to check
+     * @param teamId the ID of the team to check, -1 for teams that were never registered
      * @return true if the team is currently in an active match, if not it returns false
      */
-    private boolean isTeamInActiveMatch(String teamName){
-        String teamNameNormalize =  teamName.trim().toLowerCase();
-        return this.activeTeams.contains(teamNameNormalize);
+    private boolean isTeamInActiveMatch(int teamId){
+        return teamId >= 0 && this.activeTeams.get(teamId);
+    }
+
+    /**
+     * Formats a match key as "hometeam_vs_awayteam" (normalized to lowercase).
+     */
+    private String matchKeyName(long matchKey) {
+        return teams.getName(MatchTable.homeTeamIdOf(matchKey)) + "_vs_" + teams.getName(MatchTable.awayTeamIdOf(matchKey));
+    }
+
+    /**
+     * Looks up the key of a match between two teams, or returns -1 if one of the teams was never registered.
+     * Comparison is case-insensitive and ignores whitespace.
+     */
+    private long findMatchKey(String homeTeam, String awayTeam) {
+        int homeTeamId = teams.find(homeTeam);
+        int awayTeamId = teams.find(awayTeam);
+        return homeTeamId < 0 || awayTeamId < 0 ? -1 : MatchTable.matchKey(homeTeamId, awayTeamId);
     }
 
     /**
@@ -48,7 +236,7 @@ public class Scoreboard {
      * @param awayTeam the away team name
      * @return formatted match key in the format "hometeam_vs_awayteam"
      */
-    private String createMatchKey(String homeTeam, String awayTeam) {
+    static String createMatchKey(String homeTeam, String awayTeam) {
         return homeTeam.trim().toLowerCase() + "_vs_" + awayTeam.trim().toLowerCase();
     }
 
@@ -57,25 +245,60 @@ public class Scoreboard {
      * Starts a new football match between the specified teams.
      * Both teams must not be currently participating in any other active matches.
      */
+    @Override
     public void startMatch(String homeTeam, String awayTeam){
-        String matchKey = createMatchKey(homeTeam,awayTeam);
-        if (scoreboard.containsKey(matchKey)){
+        long started = metrics.startTimer();
+        try {
+            start(homeTeam, awayTeam);
+        } catch (RuntimeException e) {
+            metrics.recordRejection(ScoreboardMetrics.Operation.START_MATCH, e);
+            throw e;
+        } finally {
+            metrics.recordOperation(ScoreboardMetrics.Operation.START_MATCH, started);
+        }
+    }
+
+    private void start(String homeTeam, String awayTeam){
+        int homeTeamId = teams.find(homeTeam);
+        int awayTeamId = teams.find(awayTeam);
+        if (homeTeamId >= 0 && awayTeamId >= 0 && scoreboard.get(MatchTable.matchKey(homeTeamId, awayTeamId)) != null){
             throw new IllegalStateException("This match is already in progress");
         }
-        if (isTeamInActiveMatch(homeTeam) || isTeamInActiveMatch(awayTeam)){
+        if (isTeamInActiveMatch(homeTeamId) || isTeamInActiveMatch(awayTeamId)){
             throw new IllegalStateException("This match can not be initialized since one of the teams is already in the game");
         }
-        FootballMatch footballMatch = new FootballMatch(homeTeam,awayTeam);
+        long startSequence = sharedStartSequence == null ? nextStartSequence++ : sharedStartSequence.getAndIncrement();
+        FootballMatch footballMatch = new FootballMatch(homeTeam,awayTeam,startSequence);
+        if (journal != null) {
+            journal.append(ScoreboardJournal.START, homeTeam, awayTeam, 0, 0);
+        }
+        homeTeamId = teams.register(homeTeam);
+        awayTeamId = teams.register(awayTeam);
+        long matchKey = MatchTable.matchKey(homeTeamId, awayTeamId);
         scoreboard.put(matchKey,footballMatch);
-        activeTeams.add(homeTeam.trim().toLowerCase());
-        activeTeams.add(awayTeam.trim().toLowerCase());
+        summaryIndex.add(footballMatch);
+        activeTeams.set(homeTeamId);
+        activeTeams.set(awayTeamId);
+        PublishedBoard board = published;
+        String matchKeyName = matchKeyName(matchKey);
+        published = new PublishedBoard(board.matchesByKey.with(matchKeyName, footballMatch),
+                board.matchesByStart.with(startSequence, new AbstractMap.SimpleImmutableEntry<>(matchKeyName, footballMatch)),
+                board.teamsByName.with(teams.getName(homeTeamId), Boolean.TRUE).with(teams.getName(awayTeamId), Boolean.TRUE));
+        recordChange(matchKey, footballMatch, true);
+        if (timeline != null) {
+            timeline.recordStart(footballMatch);
+        }
+        if (events.hasSubscribers()) {
+            events.publish(new ScoreboardEvent.MatchStarted(version, matchKeyName(matchKey),
+                    footballMatch.getHomeTeam(), footballMatch.getAwayTeam()));
+        }
     }
 
     /**
      * Validates that a score value is within acceptable range.
      * Scores must be non-negative and not exceed 100 (since 100 to score in one ongoing match is unrealisitic).
      */
-    private void validateScore(int score){
+    static void validateScore(int score){
         if(score < 0){
             throw new IllegalArgumentException("Score can not be a negative number");
         }
@@ -88,57 +311,405 @@ public class Scoreboard {
     /**
      * Updates the score for an existing ongoing match.
      */
+    @Override
     public void updateScore(String homeTeam, String awayTeam, int homeScore, int awayScore){
-        String matchKey = createMatchKey(homeTeam,awayTeam);
-        if (scoreboard.containsKey(matchKey)){
-            FootballMatch match = scoreboard.get(matchKey);
+        long started = metrics.startTimer();
+        try {
+            updateScore(findMatchKey(homeTeam, awayTeam), homeScore, awayScore);
+        } catch (RuntimeException e) {
+            metrics.recordRejection(ScoreboardMetrics.Operation.UPDATE_SCORE, e);
+            throw e;
+        } finally {
+            metrics.recordOperation(ScoreboardMetrics.Operation.UPDATE_SCORE, started);
+        }
+    }
+
+    /**
+     * Updates the score for an existing ongoing match of teams resolved with {@link #getTeamId(String)}.
+     */
+    public void updateScore(int homeTeamId, int awayTeamId, int homeScore, int awayScore){
+        long started = metrics.startTimer();
+        try {
+            updateScore(MatchTable.matchKey(homeTeamId, awayTeamId), homeScore, awayScore);
+        } catch (RuntimeException e) {
+            metrics.recordRejection(ScoreboardMetrics.Operation.UPDATE_SCORE, e);
+            throw e;
+        } finally {
+            metrics.recordOperation(ScoreboardMetrics.Operation.UPDATE_SCORE, started);
+        }
+    }
+
+    private void updateScore(long matchKey, int homeScore, int awayScore){
+        FootballMatch match = scoreboard.get(matchKey);
+        if (match != null){
             validateScore(homeScore);
             validateScore(awayScore);
-            match.setHomeScore(homeScore);
-            match.setAwayScore(awayScore);
+            if (journal != null) {
+                journal.append(ScoreboardJournal.UPDATE, match.getHomeTeam(), match.getAwayTeam(), homeScore, awayScore);
+            }
+            long previousScore = match.getScoreSnapshot();
+            summaryIndex.remove(match);
+            match.setScore(homeScore, awayScore);
+            match.refreshSummaryKey();
+            summaryIndex.add(match);
+            recordChange(matchKey, match, false);
+            if (timeline != null) {
+                timeline.recordScore(matchKey, match, previousScore, homeScore, awayScore);
+            }
+            if (events.hasSubscribers()) {
+                events.publish(new ScoreboardEvent.ScoreUpdated(version, matchKeyName(matchKey),
+                        match.getHomeTeam(), match.getAwayTeam(), homeScore, awayScore));
+            }
         }else{
             throw new IllegalStateException("Can not update match that doesn't exist");
         }
     }
 
+    /**
+     * Applies all score updates as one unit, see {@link LiveScoreboard#applyBatch(List)}.
+     * Team names and scores of the whole batch are checked first, then every changed match is moved
+     * in the summary index once, no matter how many updates of it the batch contains.
+     * The version increases and an event is published once per changed match.
+     */
+    @Override
+    public void applyBatch(List<ScoreUpdate> updates){
+        long started = metrics.startTimer();
+        try {
+            apply(updates);
+        } catch (RuntimeException e) {
+            metrics.recordRejection(ScoreboardMetrics.Operation.APPLY_BATCH, e);
+            throw e;
+        } finally {
+            metrics.recordOperation(ScoreboardMetrics.Operation.APPLY_BATCH, started);
+        }
+    }
+
+    private void apply(List<ScoreUpdate> updates){
+        int size = updates.size();
+        long[] matchKeys = new long[size];
+        FootballMatch[] matches = new FootballMatch[size];
+        for (int i = 0; i < size; i++) {
+            ScoreUpdate update = updates.get(i);
+            matchKeys[i] = findMatchKey(update.homeTeam(), update.awayTeam());
+            matches[i] = scoreboard.get(matchKeys[i]);
+            if (matches[i] == null) {
+                throw new IllegalStateException("Can not update match that doesn't exist");
+            }
+            validateScore(update.homeScore());
+            validateScore(update.awayScore());
+        }
+        if (journal != null && size > 0) {
+            journal.appendBatch(updates);
+        }
+        IdentityHashMap<FootballMatch, Integer> lastUpdates = new IdentityHashMap<>(size);
+        long[] previousScores = new long[size];
+        for (int i = 0; i < size; i++) {
+            lastUpdates.put(matches[i], i);
+            previousScores[i] = matches[i].getScoreSnapshot();
+        }
+        for (int i = 0; i < size; i++) {
+            if (lastUpdates.get(matches[i]) == i) {
+                ScoreUpdate update = updates.get(i);
+                summaryIndex.remove(matches[i]);
+                matches[i].setScore(update.homeScore(), update.awayScore());
+                matches[i].refreshSummaryKey();
+            }
+        }
+        for (int i = 0; i < size; i++) {
+            if (lastUpdates.get(matches[i]) == i) {
+                summaryIndex.add(matches[i]);
+                recordChange(matchKeys[i], matches[i], false);
+                if (timeline != null) {
+                    ScoreUpdate update = updates.get(i);
+                    timeline.recordScore(matchKeys[i], matches[i], previousScores[i], update.homeScore(), update.awayScore());
+                }
+                if (events.hasSubscribers()) {
+                    ScoreUpdate update = updates.get(i);
+                    events.publish(new ScoreboardEvent.ScoreUpdated(version, matchKeyName(matchKeys[i]),
+                            matches[i].getHomeTeam(), matches[i].getAwayTeam(), update.homeScore(), update.awayScore()));
+                }
+            }
+        }
+    }
+
     /**
      * Finishes ongoing match and removes it from the scoreboard.
      */
+    @Override
     public void finishMatch(String homeTeam, String awayTeam){
-        String matchKey = createMatchKey(homeTeam,awayTeam);
-        if (scoreboard.containsKey(matchKey)){
+        long started = metrics.startTimer();
+        try {
+            finish(homeTeam, awayTeam);
+        } catch (RuntimeException e) {
+            metrics.recordRejection(ScoreboardMetrics.Operation.FINISH_MATCH, e);
+            throw e;
+        } finally {
+            metrics.recordOperation(ScoreboardMetrics.Operation.FINISH_MATCH, started);
+        }
+    }
+
+    private void finish(String homeTeam, String awayTeam){
+        long matchKey = findMatchKey(homeTeam, awayTeam);
+        FootballMatch match = scoreboard.get(matchKey);
+        if (match != null){
+            if (journal != null) {
+                journal.append(ScoreboardJournal.FINISH, homeTeam, awayTeam, 0, 0);
+            }
             scoreboard.remove(matchKey);
-            activeTeams.remove(homeTeam.trim().toLowerCase());
-            activeTeams.remove(awayTeam.trim().toLowerCase());
+            summaryIndex.remove(match);
+            activeTeams.clear(MatchTable.homeTeamIdOf(matchKey));
+            activeTeams.clear(MatchTable.awayTeamIdOf(matchKey));
+            PublishedBoard board = published;
+            published = new PublishedBoard(board.matchesByKey.without(matchKeyName(matchKey)),
+                    board.matchesByStart.without(match.getStartSequence()), board.teamsByName
+                    .without(teams.getName(MatchTable.homeTeamIdOf(matchKey)))
+                    .without(teams.getName(MatchTable.awayTeamIdOf(matchKey))));
+            recordChange(matchKey, match, false);
+            if (archive != null) {
+                long score = match.getScoreSnapshot();
+                archive.add(MatchTable.homeTeamIdOf(matchKey), MatchTable.awayTeamIdOf(matchKey),
+                        FootballMatch.homeScoreOf(score), FootballMatch.awayScoreOf(score), match.getStartSequence(), version);
+            }
+            if (events.hasSubscribers()) {
+                long score = match.getScoreSnapshot();
+                events.publish(new ScoreboardEvent.MatchFinished(version, matchKeyName(matchKey), match.getHomeTeam(),
+                        match.getAwayTeam(), FootballMatch.homeScoreOf(score), FootballMatch.awayScoreOf(score)));
+            }
         }else{
             throw new IllegalStateException("Can not finish the match that is not ongoing");
         }
     }
 
 
+    /**
+     * Returns the modification version of the scoreboard, it increases with every start, update and finish of a match.
+     */
+    public long getVersion() {
+        return version;
+    }
+
+    /**
+     * Writes the scoreboard to a memory-mappable snapshot file, see {@link MappedScoreboardSnapshot}.
+     *
+     * @throws java.io.UncheckedIOException if the file can not be written
+     */
+    public void writeSnapshot(Path file) {
+        MappedScoreboardSnapshot.write(this, file);
+    }
+
+    /**
+     * Creates a scoreboard with the matches, scores and start order stored in the snapshot file.
+     *
+     * @throws java.io.UncheckedIOException if the file can not be read or is not a scoreboard snapshot
+     */
+    public static Scoreboard loadSnapshot(Path file) {
+        return MappedScoreboardSnapshot.open(file).toScoreboard();
+    }
+
+    /**
+     * Returns the ongoing matches in summary order.
+     */
+    Iterable<FootballMatch> summaryOrder() {
+        return summaryIndex;
+    }
+
+    int matchCount() {
+        return summaryIndex.size();
+    }
+
+    /**
+     * Increases the version and remembers the changed match in the history ring.
+     */
+    private void recordChange(long matchKey, FootballMatch match, boolean start) {
+        version++;
+        int slot = (int) (version % historyMatches.length);
+        historyMatches[slot] = match;
+        historyMatchKeys[slot] = matchKey;
+        historyStarts[slot] = start;
+    }
+
+    /**
+     * Returns the summary changes since the given version, with work proportional to the number of changes.
+     * Falls back to a full snapshot when more changes happened than the scoreboard remembers.
+     *
+     * @param sinceVersion version of the summary the caller has, e.g. {@link #getVersion()} at the time it was read
+     * @throws IllegalArgumentException if the version is negative or newer than the scoreboard
+     */
+    public SummaryDelta getSummaryDelta(long sinceVersion) {
+        if (sinceVersion < 0 || sinceVersion > version) {
+            throw new IllegalArgumentException("Unknown scoreboard version " + sinceVersion);
+        }
+        if (version - sinceVersion > historyMatches.length) {
+            return getSummarySnapshot();
+        }
+        IdentityHashMap<FootballMatch, Long> firstChangeKeys = new IdentityHashMap<>();
+        Set<FootballMatch> startedSince = Collections.newSetFromMap(new IdentityHashMap<>());
+        for (long v = sinceVersion + 1; v <= version; v++) {
+            int slot = (int) (v % historyMatches.length);
+            FootballMatch match = historyMatches[slot];
+            if (!firstChangeKeys.containsKey(match)) {
+                firstChangeKeys.put(match, historyMatchKeys[slot]);
+                if (historyStarts[slot]) {
+                    startedSince.add(match);
+                }
+            }
+        }
+        List<SummaryDelta.Change> removed = new ArrayList<>();
+        List<SummaryDelta.Change> changed = new ArrayList<>();
+        for (Map.Entry<FootballMatch, Long> entry : firstChangeKeys.entrySet()) {
+            FootballMatch match = entry.getKey();
+            long matchKey = entry.getValue();
+            boolean existed = !startedSince.contains(match);
+            if (scoreboard.get(matchKey) == match) {
+                changed.add(new SummaryDelta.Change(existed ? SummaryDelta.ChangeType.UPDATED : SummaryDelta.ChangeType.INSERTED,
+                        matchKeyName(matchKey), match.getSummaryLine(), summaryIndex.positionOf(match)));
+            } else if (existed) {
+                removed.add(new SummaryDelta.Change(SummaryDelta.ChangeType.REMOVED, matchKeyName(matchKey), null, -1));
+            }
+        }
+        changed.sort(Comparator.comparingInt(SummaryDelta.Change::position));
+        removed.addAll(changed);
+        return new SummaryDelta(sinceVersion, version, false, Collections.unmodifiableList(removed));
+    }
+
+    private SummaryDelta getSummarySnapshot() {
+        Map<FootballMatch, String> keys = new IdentityHashMap<>();
+        scoreboard.forEach((key, match) -> keys.put(match, matchKeyName(key)));
+        List<SummaryDelta.Change> changes = new ArrayList<>(summaryIndex.size());
+        for (FootballMatch m : summaryIndex) {
+            changes.add(new SummaryDelta.Change(SummaryDelta.ChangeType.INSERTED, keys.get(m), m.getSummaryLine(), changes.size()));
+        }
+        return new SummaryDelta(0, version, true, Collections.unmodifiableList(changes));
+    }
+
     /**
      * Generates a summary of all active matches, sorted first by the highest total score,
-     * but if there is a tie than the match tthat started the most recently is going to be shown first
+     * but if there is a tie than the match that started the most recently is going to be shown first.
+     * The matches are read from the summary index in order, so no sorting is done here.
+     * The returned list is unmodifiable and the same instance is returned until the scoreboard changes.
      */
+    @Override
     public List<String> getSummary() {
-        AtomicInteger insertionOrder = new AtomicInteger(0);
-        return scoreboard.values().stream()
-                .map(footballMatch -> new Object() {
-                    final FootballMatch match = footballMatch;
-                    final int order = insertionOrder.getAndIncrement();
-                })
-                .sorted((obj1, obj2) -> {
-                    int scoreComp = obj1.match.compareTo(obj2.match);
-                    if (scoreComp != 0) {
-                        return scoreComp;
-                    }
-                    return Integer.compare(obj2.order, obj1.order);
-                })
-                .map(obj -> {
-                    FootballMatch m = obj.match;
-                    return m.getHomeTeam() + " " + m.getHomeScore() + " - " +
-                            m.getAwayTeam() + " " + m.getAwayScore();
-                })
-                .collect(Collectors.toList());
+        long started = metrics.startTimer();
+        if (cachedSummaryVersion != version) {
+            List<String> summary = new ArrayList<>(summaryIndex.size());
+            for (FootballMatch m : summaryIndex) {
+                summary.add(m.getSummaryLine());
+            }
+            cachedSummary = Collections.unmodifiableList(summary);
+            cachedSummaryVersion = version;
+        }
+        metrics.recordOperation(ScoreboardMetrics.Operation.GET_SUMMARY, started);
+        return cachedSummary;
+    }
+
+    /**
+     * Returns the first {@code n} lines of the summary, or the whole summary if it has fewer matches.
+     * Same ordering as {@link #getSummary()}, with work proportional to {@code n} and not to the board size.
+     *
+     * @throws IllegalArgumentException if n is negative
+     */
+    public List<String> getTopN(int n) {
+        if (n < 0) {
+            throw new IllegalArgumentException("Number of matches can not be a negative number");
+        }
+        return getSummaryPage(0, n);
+    }
+
+    /**
+     * Returns up to {@code limit} lines of the summary starting at position {@code offset} (0 is the first line).
+     * The start of the page is found in the summary index in O(log n), so only the lines of the page are generated.
+     * The returned list is unmodifiable, it is empty if the offset is past the end of the summary.
+     *
+     * @throws IllegalArgumentException if offset or limit is negative
+     */
+    public List<String> getSummaryPage(int offset, int limit) {
+        if (offset < 0 || limit < 0) {
+            throw new IllegalArgumentException("Offset and limit can not be negative numbers");
+        }
+        int count = Math.min(limit, Math.max(summaryIndex.size() - offset, 0));
+        if (count == 0) {
+            return List.of();
+        }
+        if (cachedSummaryVersion == version) {
+            return cachedSummary.subList(offset, offset + count);
+        }
+        List<String> page = new ArrayList<>(count);
+        Iterator<FootballMatch> matches = summaryIndex.iterator(offset);
+        while (page.size() < count) {
+            page.add(matches.next().getSummaryLine());
+        }
+        return Collections.unmodifiableList(page);
+    }
+
+    /**
+     * Published state of the board, see {@link #published}.
+     */
+    private static final class PublishedBoard {
+        static final PublishedBoard EMPTY = new PublishedBoard(PersistentHashMap.empty(), PersistentLongMap.empty(),
+                PersistentHashMap.empty());
+
+        final PersistentHashMap<String, FootballMatch> matchesByKey;
+        final PersistentLongMap<Map.Entry<String, FootballMatch>> matchesByStart;
+        final PersistentHashMap<String, Boolean> teamsByName;
+        final Map<String, FootballMatch> matches;
+        final Set<String> teamNames;
+
+        PublishedBoard(PersistentHashMap<String, FootballMatch> matchesByKey,
+                       PersistentLongMap<Map.Entry<String, FootballMatch>> matchesByStart,
+                       PersistentHashMap<String, Boolean> teamsByName) {
+            this.matchesByKey = matchesByKey;
+            this.matchesByStart = matchesByStart;
+            this.teamsByName = teamsByName;
+            this.matches = new StartOrderedMatches(matchesByKey, matchesByStart);
+            this.teamNames = Collections.unmodifiableSet(teamsByName.keySet());
+        }
+    }
+
+    /**
+     * Map view of published matches: lookups go to the persistent hash map, iteration walks the persistent
+     * map keyed by start sequence, so neither copies nor sorts anything.
+     */
+    private static final class StartOrderedMatches extends AbstractMap<String, FootballMatch> {
+        private final PersistentHashMap<String, FootballMatch> matches;
+        private final PersistentLongMap<Entry<String, FootballMatch>> matchesByStart;
+        private final Set<Entry<String, FootballMatch>> entries;
+
+        StartOrderedMatches(PersistentHashMap<String, FootballMatch> matches,
+                            PersistentLongMap<Entry<String, FootballMatch>> matchesByStart) {
+            this.matches = matches;
+            this.matchesByStart = matchesByStart;
+            this.entries = new AbstractSet<>() {
+                @Override
+                public Iterator<Entry<String, FootballMatch>> iterator() {
+                    return matchesByStart.iterator();
+                }
+
+                @Override
+                public int size() {
+                    return matchesByStart.size();
+                }
+            };
+        }
+
+        @Override
+        public FootballMatch get(Object key) {
+            return matches.get(key);
+        }
+
+        @Override
+        public boolean containsKey(Object key) {
+            return matches.containsKey(key);
+        }
+
+        @Override
+        public int size() {
+            return matches.size();
+        }
+
+        @Override
+        public Set<Entry<String, FootballMatch>> entrySet() {
+            return entries;
+        }
     }
 }
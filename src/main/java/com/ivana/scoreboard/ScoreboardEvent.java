@@ -0,0 +1,33 @@
+package com.ivana.scoreboard;
+
+/**
+ * Change of a scoreboard, published to the subscribers of {@link ScoreboardEventPublisher}.
+ * The sequence is the scoreboard version after the change, so subscribers can detect events they missed.
+ */
+public sealed interface ScoreboardEvent {
+
+    long sequence();
+
+    /**
+     * Match key in the format "hometeam_vs_awayteam" (normalized to lowercase).
+     */
+    String matchKey();
+
+    String homeTeam();
+
+    String awayTeam();
+
+    record MatchStarted(long sequence, String matchKey, String homeTeam, String awayTeam) implements ScoreboardEvent {
+    }
+
+    record ScoreUpdated(long sequence, String matchKey, String homeTeam, String awayTeam,
+                        int homeScore, int awayScore) implements ScoreboardEvent {
+    }
+
+    /**
+     * Published when a match is finished, with the final score of the match.
+     */
+    record MatchFinished(long sequence, String matchKey, String homeTeam, String awayTeam,
+                         int homeScore, int awayScore) implements ScoreboardEvent {
+    }
+}
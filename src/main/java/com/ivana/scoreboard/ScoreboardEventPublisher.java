@@ -0,0 +1,109 @@
+package com.ivana.scoreboard;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Flow;
+import java.util.concurrent.SubmissionPublisher;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.BiPredicate;
+
+/**
+ * Publishes scoreboard changes to any number of {@link Flow.Subscriber}s.
+ * Every subscriber gets a bounded buffer and is served on a virtual thread that drains the buffer in batches,
+ * respecting how many events the subscriber requested. Publishing never blocks: when the buffer of a slow
+ * subscriber is full the event is dropped for that subscriber only and counted in {@link #getDroppedEvents()},
+ * subscribers notice the gap from the event sequence numbers.
+ */
+public class ScoreboardEventPublisher implements Flow.Publisher<ScoreboardEvent>, AutoCloseable {
+    private final int maxBufferCapacity;
+    private final LongAdder droppedEvents;
+    private final BiPredicate<Flow.Subscriber<? super ScoreboardEvent>, ScoreboardEvent> onDrop;
+
+    /**
+     * Created on the first subscription, so a scoreboard nobody listens to doesn't pay for publishing.
+     */
+    private volatile SubmissionPublisher<ScoreboardEvent> publisher;
+    private ExecutorService executor;
+    private volatile boolean closed;
+
+    public ScoreboardEventPublisher() {
+        this(Flow.defaultBufferSize());
+    }
+
+    /**
+     * @param maxBufferCapacity maximum number of buffered events per subscriber, rounded up to a power of two
+     */
+    public ScoreboardEventPublisher(int maxBufferCapacity) {
+        if (maxBufferCapacity <= 0) {
+            throw new IllegalArgumentException("Buffer capacity must be positive");
+        }
+        this.maxBufferCapacity = maxBufferCapacity;
+        this.droppedEvents = new LongAdder();
+        this.onDrop = (subscriber, event) -> {
+            droppedEvents.increment();
+            return false;
+        };
+    }
+
+    @Override
+    public void subscribe(Flow.Subscriber<? super ScoreboardEvent> subscriber) {
+        publisher().subscribe(subscriber);
+    }
+
+    /**
+     * Returns true if there is at least one subscriber, events don't have to be created otherwise.
+     */
+    public boolean hasSubscribers() {
+        SubmissionPublisher<ScoreboardEvent> current = publisher;
+        return current != null && current.hasSubscribers();
+    }
+
+    public int getNumberOfSubscribers() {
+        SubmissionPublisher<ScoreboardEvent> current = publisher;
+        return current == null ? 0 : current.getNumberOfSubscribers();
+    }
+
+    /**
+     * Returns how many events were dropped in total because subscriber buffers were full.
+     */
+    public long getDroppedEvents() {
+        return droppedEvents.sum();
+    }
+
+    /**
+     * Hands the event to all subscribers without waiting for any of them.
+     */
+    void publish(ScoreboardEvent event) {
+        SubmissionPublisher<ScoreboardEvent> current = publisher;
+        if (current != null && !closed) {
+            current.offer(event, onDrop);
+        }
+    }
+
+    /**
+     * Completes all subscriptions, later subscribers are completed immediately.
+     */
+    @Override
+    public void close() {
+        closed = true;
+        publisher().close();
+        synchronized (this) {
+            executor.shutdown();
+        }
+    }
+
+    private SubmissionPublisher<ScoreboardEvent> publisher() {
+        SubmissionPublisher<ScoreboardEvent> current = publisher;
+        if (current == null) {
+            synchronized (this) {
+                current = publisher;
+                if (current == null) {
+                    executor = Executors.newVirtualThreadPerTaskExecutor();
+                    current = new SubmissionPublisher<>(executor, maxBufferCapacity);
+                    publisher = current;
+                }
+            }
+        }
+        return current;
+    }
+}
@@ -0,0 +1,407 @@
+package com.ivana.scoreboard;
+
+import java.io.*;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.*;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.zip.CRC32;
+
+/**
+ * Append-only binary journal of scoreboard operations, stored as numbered segment files next to a snapshot.
+ * Records are buffered and made durable together (group commit) once a batch is full or when {@link #sync()} is called.
+ * A snapshot covers all segments before the segment number stored in it, so after writing a snapshot
+ * older segments are deleted and recovery only replays the segments written after it.
+ * <p>
+ * Record layout: int payload length, payload, int CRC32 of the payload. Payload: byte operation,
+ * short length + UTF-8 home team, short length + UTF-8 away team, and for score updates byte home score, byte away score.
+ * A batch of score updates is a single record, so it is recovered completely or not at all: byte operation,
+ * int number of updates, then per update the teams and scores in the same format as a single score update.
+ * Recovery stops at the first incomplete or corrupt record, which can only be the tail of the last segment.
+ * The snapshot stores team names the same way, so a name that fits a record always fits the snapshot.
+ * <p>
+ * After the first failed write, sync or snapshot the journal is broken: buffered records may be lost, so every
+ * later append, sync, snapshot and close throws that failure again instead of acknowledging new records.
+ */
+class ScoreboardJournal implements Closeable {
+    static final byte START = 1;
+    static final byte UPDATE = 2;
+    static final byte FINISH = 3;
+    static final byte BATCH = 4;
+
+    private static final int SNAPSHOT_MAGIC = 0x5342_5332;
+
+    /**
+     * Snapshots written before team names were stored like in journal records, read with {@link DataInputStream#readUTF()}.
+     */
+    private static final int SNAPSHOT_MAGIC_MODIFIED_UTF = 0x5342_5331;
+    private static final String SNAPSHOT_FILE = "scoreboard.snapshot";
+    private static final String SEGMENT_PREFIX = "journal-";
+    private static final String SEGMENT_SUFFIX = ".log";
+    private static final int WRITE_BUFFER_SIZE = 64 * 1024;
+
+    private final Path directory;
+    private final int syncBatchSize;
+    private final ByteBuffer writeBuffer;
+    private final CRC32 crc;
+    private byte[] payload;
+    private FileChannel channel;
+    private long segment;
+    private int pendingRecords;
+    private UncheckedIOException failure;
+
+    /**
+     * Opens the journal in the directory, replays the snapshot and all segments into the scoreboard
+     * and starts a new segment for the records appended from now on.
+     */
+    ScoreboardJournal(Path directory, int syncBatchSize, Scoreboard scoreboard) {
+        this.directory = directory;
+        this.syncBatchSize = syncBatchSize;
+        this.writeBuffer = ByteBuffer.allocateDirect(WRITE_BUFFER_SIZE);
+        this.crc = new CRC32();
+        this.payload = new byte[256];
+        try {
+            Files.createDirectories(directory);
+            long firstSegment = readSnapshot(scoreboard);
+            long lastSegment = firstSegment - 1;
+            for (long replayed : listSegments()) {
+                if (replayed < firstSegment) {
+                    Files.delete(segmentPath(replayed));
+                } else {
+                    replaySegment(segmentPath(replayed), scoreboard);
+                    lastSegment = replayed;
+                }
+            }
+            openSegment(lastSegment + 1);
+            syncDirectory();
+        } catch (IOException e) {
+            throw new UncheckedIOException("Can not open scoreboard journal in " + directory, e);
+        }
+    }
+
+    synchronized void append(byte operation, String homeTeam, String awayTeam, int homeScore, int awayScore) {
+        checkNotFailed();
+        byte[] home = homeTeam.getBytes(StandardCharsets.UTF_8);
+        byte[] away = awayTeam.getBytes(StandardCharsets.UTF_8);
+        int length = 1 + 2 + home.length + 2 + away.length + (operation == UPDATE ? 2 : 0);
+        if (payload.length < length) {
+            payload = new byte[Math.max(length, payload.length * 2)];
+        }
+        int position = 0;
+        payload[position++] = operation;
+        position = putBytes(home, position);
+        position = putBytes(away, position);
+        if (operation == UPDATE) {
+            payload[position++] = (byte) homeScore;
+            payload[position++] = (byte) awayScore;
+        }
+        writeRecord(length);
+    }
+
+    synchronized void appendBatch(List<ScoreUpdate> updates) {
+        checkNotFailed();
+        List<byte[]> names = new ArrayList<>(updates.size() * 2);
+        int length = 1 + 4;
+        for (ScoreUpdate update : updates) {
+            byte[] home = update.homeTeam().getBytes(StandardCharsets.UTF_8);
+            byte[] away = update.awayTeam().getBytes(StandardCharsets.UTF_8);
+            names.add(home);
+            names.add(away);
+            length += 2 + home.length + 2 + away.length + 2;
+        }
+        if (payload.length < length) {
+            payload = new byte[Math.max(length, payload.length * 2)];
+        }
+        int position = 0;
+        payload[position++] = BATCH;
+        payload[position++] = (byte) (updates.size() >>> 24);
+        payload[position++] = (byte) (updates.size() >>> 16);
+        payload[position++] = (byte) (updates.size() >>> 8);
+        payload[position++] = (byte) updates.size();
+        for (int i = 0; i < updates.size(); i++) {
+            position = putBytes(names.get(2 * i), position);
+            position = putBytes(names.get(2 * i + 1), position);
+            payload[position++] = (byte) updates.get(i).homeScore();
+            payload[position++] = (byte) updates.get(i).awayScore();
+        }
+        writeRecord(length);
+    }
+
+    private void writeRecord(int length) {
+        crc.reset();
+        crc.update(payload, 0, length);
+        try {
+            if (writeBuffer.remaining() < length + 8) {
+                flushBuffer();
+            }
+            if (writeBuffer.remaining() < length + 8) {
+                writeLargeRecord(length);
+            } else {
+                writeBuffer.putInt(length).put(payload, 0, length).putInt((int) crc.getValue());
+            }
+            if (++pendingRecords >= syncBatchSize) {
+                sync();
+            }
+        } catch (IOException e) {
+            throw fail(new UncheckedIOException("Can not write scoreboard journal", e));
+        }
+    }
+
+    /**
+     * Throws the failure that broke the journal, if any.
+     */
+    synchronized void checkNotFailed() {
+        if (failure != null) {
+            throw new UncheckedIOException("Scoreboard journal failed earlier: " + failure.getMessage(), failure.getCause());
+        }
+    }
+
+    private UncheckedIOException fail(UncheckedIOException e) {
+        failure = e;
+        return e;
+    }
+
+    /**
+     * Writes all buffered records and forces them to disk with a single fsync.
+     */
+    synchronized void sync() {
+        checkNotFailed();
+        if (pendingRecords == 0) {
+            return;
+        }
+        try {
+            flushBuffer();
+            channel.force(false);
+            pendingRecords = 0;
+        } catch (IOException e) {
+            throw fail(new UncheckedIOException("Can not sync scoreboard journal", e));
+        }
+    }
+
+    /**
+     * Writes a snapshot of the scoreboard covering everything journaled so far, then continues with a new segment
+     * and deletes the segments the snapshot replaces.
+     */
+    synchronized void snapshot(Scoreboard scoreboard) {
+        try {
+            sync();
+            long nextSegment = segment + 1;
+            Path temporary = directory.resolve(SNAPSHOT_FILE + ".tmp");
+            try (FileOutputStream file = new FileOutputStream(temporary.toFile());
+                 DataOutputStream out = new DataOutputStream(new BufferedOutputStream(file))) {
+                Collection<FootballMatch> matches = scoreboard.getScoreboard().values();
+                out.writeInt(SNAPSHOT_MAGIC);
+                out.writeLong(nextSegment);
+                out.writeInt(matches.size());
+                for (FootballMatch match : matches) {
+                    long score = match.getScoreSnapshot();
+                    writeName(out, match.getHomeTeam());
+                    writeName(out, match.getAwayTeam());
+                    out.writeByte(FootballMatch.homeScoreOf(score));
+                    out.writeByte(FootballMatch.awayScoreOf(score));
+                }
+                out.flush();
+                file.getFD().sync();
+            }
+            Files.move(temporary, directory.resolve(SNAPSHOT_FILE), StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+            channel.close();
+            long replaced = segment;
+            openSegment(nextSegment);
+            // the rename and the new segment must be durable before the segments they replace are deleted
+            syncDirectory();
+            for (long old : listSegments()) {
+                if (old <= replaced) {
+                    Files.delete(segmentPath(old));
+                }
+            }
+        } catch (IOException e) {
+            throw fail(new UncheckedIOException("Can not write scoreboard snapshot", e));
+        }
+    }
+
+    /**
+     * Forces buffered records to disk and closes the segment, the channel is closed even if the journal failed.
+     */
+    @Override
+    public synchronized void close() {
+        UncheckedIOException error = null;
+        try {
+            sync();
+        } catch (UncheckedIOException e) {
+            error = e;
+        }
+        try {
+            channel.close();
+        } catch (IOException e) {
+            if (error == null) {
+                error = new UncheckedIOException("Can not close scoreboard journal", e);
+            } else {
+                error.addSuppressed(e);
+            }
+        }
+        if (error != null) {
+            throw error;
+        }
+    }
+
+    private int putBytes(byte[] bytes, int position) {
+        checkNameLength(bytes);
+        payload[position++] = (byte) (bytes.length >>> 8);
+        payload[position++] = (byte) bytes.length;
+        System.arraycopy(bytes, 0, payload, position, bytes.length);
+        return position + bytes.length;
+    }
+
+    private static void checkNameLength(byte[] name) {
+        if (name.length > 0xFFFF) {
+            throw new IllegalArgumentException("Team name is too long to be journaled");
+        }
+    }
+
+    private static void writeName(DataOutputStream out, String name) throws IOException {
+        byte[] bytes = name.getBytes(StandardCharsets.UTF_8);
+        checkNameLength(bytes);
+        out.writeShort(bytes.length);
+        out.write(bytes);
+    }
+
+    private static String readName(DataInputStream in, boolean modifiedUtf) throws IOException {
+        if (modifiedUtf) {
+            return in.readUTF();
+        }
+        byte[] bytes = new byte[in.readUnsignedShort()];
+        in.readFully(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    private void writeLargeRecord(int length) throws IOException {
+        ByteBuffer record = ByteBuffer.allocate(length + 8);
+        record.putInt(length).put(payload, 0, length).putInt((int) crc.getValue()).flip();
+        while (record.hasRemaining()) {
+            channel.write(record);
+        }
+    }
+
+    private void flushBuffer() throws IOException {
+        writeBuffer.flip();
+        while (writeBuffer.hasRemaining()) {
+            channel.write(writeBuffer);
+        }
+        writeBuffer.clear();
+    }
+
+    private void openSegment(long number) throws IOException {
+        segment = number;
+        channel = FileChannel.open(segmentPath(number), StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                StandardOpenOption.TRUNCATE_EXISTING);
+    }
+
+    /**
+     * Forces the directory entries (created segments, renamed snapshot) to disk. Windows can not open
+     * a directory as a channel, NTFS journals the entries itself.
+     */
+    private void syncDirectory() throws IOException {
+        try (FileChannel entries = FileChannel.open(directory, StandardOpenOption.READ)) {
+            entries.force(true);
+        } catch (AccessDeniedException e) {
+            if (!System.getProperty("os.name").startsWith("Windows")) {
+                throw e;
+            }
+        }
+    }
+
+    private Path segmentPath(long number) {
+        return directory.resolve(SEGMENT_PREFIX + String.format("%019d", number) + SEGMENT_SUFFIX);
+    }
+
+    private List<Long> listSegments() throws IOException {
+        List<Long> segments = new ArrayList<>();
+        try (DirectoryStream<Path> files = Files.newDirectoryStream(directory, SEGMENT_PREFIX + "*" + SEGMENT_SUFFIX)) {
+            for (Path file : files) {
+                String name = file.getFileName().toString();
+                segments.add(Long.parseLong(name.substring(SEGMENT_PREFIX.length(), name.length() - SEGMENT_SUFFIX.length())));
+            }
+        }
+        segments.sort(null);
+        return segments;
+    }
+
+    /**
+     * Loads the snapshot into the scoreboard, matches are stored in start order so the tie-break order is kept.
+     *
+     * @return number of the first segment written after the snapshot
+     */
+    private long readSnapshot(Scoreboard scoreboard) throws IOException {
+        Path file = directory.resolve(SNAPSHOT_FILE);
+        if (!Files.exists(file)) {
+            return 0;
+        }
+        try (DataInputStream in = new DataInputStream(new BufferedInputStream(Files.newInputStream(file)))) {
+            int magic = in.readInt();
+            if (magic != SNAPSHOT_MAGIC && magic != SNAPSHOT_MAGIC_MODIFIED_UTF) {
+                throw new IOException("Not a scoreboard snapshot: " + file);
+            }
+            boolean modifiedUtf = magic == SNAPSHOT_MAGIC_MODIFIED_UTF;
+            long nextSegment = in.readLong();
+            int matches = in.readInt();
+            for (int i = 0; i < matches; i++) {
+                String homeTeam = readName(in, modifiedUtf);
+                String awayTeam = readName(in, modifiedUtf);
+                int homeScore = in.readUnsignedByte();
+                int awayScore = in.readUnsignedByte();
+                scoreboard.startMatch(homeTeam, awayTeam);
+                if (homeScore != 0 || awayScore != 0) {
+                    scoreboard.updateScore(homeTeam, awayTeam, homeScore, awayScore);
+                }
+            }
+            return nextSegment;
+        }
+    }
+
+    private void replaySegment(Path file, Scoreboard scoreboard) throws IOException {
+        ByteBuffer data = ByteBuffer.wrap(Files.readAllBytes(file));
+        CRC32 check = new CRC32();
+        while (data.remaining() >= 4) {
+            int length = data.getInt();
+            if (length <= 0 || data.remaining() < length + 4) {
+                return;
+            }
+            int start = data.position();
+            check.reset();
+            check.update(data.array(), start, length);
+            if (data.getInt(start + length) != (int) check.getValue()) {
+                return;
+            }
+            byte operation = data.get();
+            if (operation == BATCH) {
+                int count = data.getInt();
+                List<ScoreUpdate> updates = new ArrayList<>(count);
+                for (int i = 0; i < count; i++) {
+                    updates.add(new ScoreUpdate(readString(data), readString(data), data.get() & 0xFF, data.get() & 0xFF));
+                }
+                scoreboard.applyBatch(updates);
+                data.position(start + length + 4);
+                continue;
+            }
+            String homeTeam = readString(data);
+            String awayTeam = readString(data);
+            switch (operation) {
+                case START -> scoreboard.startMatch(homeTeam, awayTeam);
+                case UPDATE -> scoreboard.updateScore(homeTeam, awayTeam, data.get() & 0xFF, data.get() & 0xFF);
+                case FINISH -> scoreboard.finishMatch(homeTeam, awayTeam);
+                default -> throw new IOException("Unknown journal operation " + operation + " in " + file);
+            }
+            data.position(start + length + 4);
+        }
+    }
+
+    private static String readString(ByteBuffer data) {
+        int length = data.getShort() & 0xFFFF;
+        String value = new String(data.array(), data.position(), length, StandardCharsets.UTF_8);
+        data.position(data.position() + length);
+        return value;
+    }
+}
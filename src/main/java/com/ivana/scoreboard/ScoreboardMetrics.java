@@ -0,0 +1,58 @@
+package com.ivana.scoreboard;
+
+import java.util.function.IntSupplier;
+
+/**
+ * Receives measurements of scoreboard operations, set with {@link Scoreboard#setMetrics(ScoreboardMetrics)}.
+ * Called on the thread performing the operation, so implementations must be cheap and thread-safe.
+ * The default {@link #NOOP} implementation doesn't even read the clock.
+ */
+public interface ScoreboardMetrics {
+
+    enum Operation {
+        START_MATCH,
+        UPDATE_SCORE,
+        FINISH_MATCH,
+        APPLY_BATCH,
+        GET_SUMMARY
+    }
+
+    ScoreboardMetrics NOOP = new ScoreboardMetrics() {
+        @Override
+        public long startTimer() {
+            return 0;
+        }
+
+        @Override
+        public void recordOperation(Operation operation, long startNanos) {
+        }
+
+        @Override
+        public void recordRejection(Operation operation, RuntimeException reason) {
+        }
+    };
+
+    /**
+     * Returns the start time of an operation, passed back to {@link #recordOperation(Operation, long)}.
+     */
+    default long startTimer() {
+        return System.nanoTime();
+    }
+
+    /**
+     * Records an operation that started at the given {@link #startTimer()} time, also when it was rejected.
+     */
+    void recordOperation(Operation operation, long startNanos);
+
+    /**
+     * Records an operation rejected with the exception, e.g. an {@link IllegalStateException} for a match that doesn't exist.
+     */
+    void recordRejection(Operation operation, RuntimeException reason);
+
+    /**
+     * Called when the metrics are set on a scoreboard, with gauges of its current number of matches and playing teams.
+     * The gauges may be read from any thread and return the latest value the reading thread can see.
+     */
+    default void registerGauges(IntSupplier activeMatches, IntSupplier activeTeams) {
+    }
+}
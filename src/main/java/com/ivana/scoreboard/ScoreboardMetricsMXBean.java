@@ -0,0 +1,34 @@
+package com.ivana.scoreboard;
+
+import java.util.Map;
+
+/**
+ * JMX view of {@link JmxScoreboardMetrics}. Maps are keyed by {@link ScoreboardMetrics.Operation} name,
+ * latencies are in nanoseconds.
+ */
+public interface ScoreboardMetricsMXBean {
+
+    Map<String, Long> getOperationCounts();
+
+    /**
+     * Number of rejected operations keyed by "OPERATION: exception message".
+     */
+    Map<String, Long> getRejectionCounts();
+
+    Map<String, Long> getLatencyP50();
+
+    Map<String, Long> getLatencyP99();
+
+    Map<String, Long> getLatencyP999();
+
+    Map<String, Long> getLatencyMax();
+
+    int getActiveMatches();
+
+    int getActiveTeams();
+
+    /**
+     * Clears all counters and latencies.
+     */
+    void reset();
+}
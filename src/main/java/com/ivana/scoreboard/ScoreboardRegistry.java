@@ -0,0 +1,269 @@
+package com.ivana.scoreboard;
+
+import java.util.*;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Hosts an independent {@link Scoreboard} per competition, e.g. "world-cup" and "copa-america".
+ * A team can play in one match per competition, matches of different competitions don't affect each other.
+ * <p>
+ * Competitions are spread over shards by their ID, and every shard is guarded by its own lock,
+ * so operations on competitions in different shards run in parallel. All boards take the start sequence
+ * from one shared counter, which lets {@link #getTopSummary(int)} merge their summaries without sorting.
+ */
+public class ScoreboardRegistry {
+    private final Shard[] shards;
+    private final AtomicLong startSequence;
+
+    /**
+     * Constructs an empty registry with one shard per available processor.
+     */
+    public ScoreboardRegistry() {
+        this(Runtime.getRuntime().availableProcessors());
+    }
+
+    /**
+     * Constructs an empty registry with the given number of shards.
+     *
+     * @throws IllegalArgumentException if the shard count is not positive
+     */
+    public ScoreboardRegistry(int shardCount) {
+        if (shardCount <= 0) {
+            throw new IllegalArgumentException("Shard count must be positive");
+        }
+        this.shards = new Shard[shardCount];
+        for (int i = 0; i < shardCount; i++) {
+            shards[i] = new Shard();
+        }
+        this.startSequence = new AtomicLong();
+    }
+
+    /**
+     * Starts a match in the competition, the competition is created with its first match.
+     *
+     * @throws IllegalStateException if the match already exists or one of the teams is already playing in the competition
+     * @throws IllegalArgumentException if the competition ID or team names are invalid
+     */
+    public void startMatch(String competitionId, String homeTeam, String awayTeam) {
+        Shard shard = shardFor(competitionId);
+        shard.lock.lock();
+        try {
+            Scoreboard board = shard.boards.get(competitionId);
+            if (board == null) {
+                board = new Scoreboard(Scoreboard.DEFAULT_HISTORY_SIZE, startSequence);
+                board.startMatch(homeTeam, awayTeam);
+                shard.boards.put(competitionId, board);
+            } else {
+                board.startMatch(homeTeam, awayTeam);
+            }
+        } finally {
+            shard.lock.unlock();
+        }
+    }
+
+    /**
+     * Updates the score of an ongoing match in the competition.
+     *
+     * @throws IllegalStateException if the match doesn't exist in the competition
+     * @throws IllegalArgumentException if the competition ID or scores are invalid
+     */
+    public void updateScore(String competitionId, String homeTeam, String awayTeam, int homeScore, int awayScore) {
+        Shard shard = shardFor(competitionId);
+        shard.lock.lock();
+        try {
+            existingBoard(shard, competitionId, "Can not update match that doesn't exist")
+                    .updateScore(homeTeam, awayTeam, homeScore, awayScore);
+        } finally {
+            shard.lock.unlock();
+        }
+    }
+
+    /**
+     * Applies the score updates to the competition as one unit, see {@link LiveScoreboard#applyBatch(List)}.
+     *
+     * @throws IllegalStateException if one of the matches doesn't exist in the competition
+     * @throws IllegalArgumentException if the competition ID or one of the scores is invalid
+     */
+    public void applyBatch(String competitionId, List<ScoreUpdate> updates) {
+        Shard shard = shardFor(competitionId);
+        shard.lock.lock();
+        try {
+            existingBoard(shard, competitionId, "Can not update match that doesn't exist").applyBatch(updates);
+        } finally {
+            shard.lock.unlock();
+        }
+    }
+
+    /**
+     * Finishes an ongoing match in the competition.
+     *
+     * @throws IllegalStateException if the match doesn't exist in the competition
+     * @throws IllegalArgumentException if the competition ID is invalid
+     */
+    public void finishMatch(String competitionId, String homeTeam, String awayTeam) {
+        Shard shard = shardFor(competitionId);
+        shard.lock.lock();
+        try {
+            existingBoard(shard, competitionId, "Can not finish the match that is not ongoing").finishMatch(homeTeam, awayTeam);
+        } finally {
+            shard.lock.unlock();
+        }
+    }
+
+    /**
+     * Returns the summary of the competition, empty if the competition has no matches.
+     *
+     * @throws IllegalArgumentException if the competition ID is invalid
+     */
+    public List<String> getSummary(String competitionId) {
+        Shard shard = shardFor(competitionId);
+        shard.lock.lock();
+        try {
+            Scoreboard board = shard.boards.get(competitionId);
+            return board == null ? List.of() : board.getSummary();
+        } finally {
+            shard.lock.unlock();
+        }
+    }
+
+    /**
+     * Removes a competition that has no ongoing matches and frees its board, a later match with the same ID
+     * starts a new competition. Competitions are never removed automatically.
+     *
+     * @return true if the competition was removed, false if it doesn't exist
+     * @throws IllegalStateException if the competition still has ongoing matches
+     * @throws IllegalArgumentException if the competition ID is invalid
+     */
+    public boolean removeCompetition(String competitionId) {
+        Shard shard = shardFor(competitionId);
+        shard.lock.lock();
+        try {
+            Scoreboard board = shard.boards.get(competitionId);
+            if (board == null) {
+                return false;
+            }
+            if (board.matchCount() > 0) {
+                throw new IllegalStateException("Can not remove a competition with ongoing matches");
+            }
+            shard.boards.remove(competitionId);
+            return true;
+        } finally {
+            shard.lock.unlock();
+        }
+    }
+
+    /**
+     * Returns the IDs of all competitions that had a match and were not removed since.
+     */
+    public Set<String> getCompetitions() {
+        Set<String> competitions = new HashSet<>();
+        for (Shard shard : shards) {
+            shard.lock.lock();
+            try {
+                competitions.addAll(shard.boards.keySet());
+            } finally {
+                shard.lock.unlock();
+            }
+        }
+        return Collections.unmodifiableSet(competitions);
+    }
+
+    /**
+     * Returns the best {@code limit} matches over all competitions, ordered like a single summary:
+     * highest total score first, ties broken by the most recently started match.
+     * The top of every board is copied under its shard lock and the copies are combined with a k-way merge,
+     * so the cost depends on the limit and the number of competitions, not on the number of matches.
+     * Each competition is read consistently, but shards are read one after the other.
+     *
+     * @throws IllegalArgumentException if the limit is negative
+     */
+    public List<RankedMatch> getTopSummary(int limit) {
+        if (limit < 0) {
+            throw new IllegalArgumentException("Limit can not be a negative number");
+        }
+        PriorityQueue<BoardTop> queue = new PriorityQueue<>();
+        for (Shard shard : shards) {
+            shard.lock.lock();
+            try {
+                for (Map.Entry<String, Scoreboard> entry : shard.boards.entrySet()) {
+                    BoardTop top = BoardTop.copy(entry.getKey(), entry.getValue(), limit);
+                    if (top.size > 0) {
+                        queue.add(top);
+                    }
+                }
+            } finally {
+                shard.lock.unlock();
+            }
+        }
+        List<RankedMatch> merged = new ArrayList<>(limit);
+        while (merged.size() < limit && !queue.isEmpty()) {
+            BoardTop top = queue.poll();
+            merged.add(new RankedMatch(top.competitionId, top.lines[top.position]));
+            if (++top.position < top.size) {
+                queue.add(top);
+            }
+        }
+        return Collections.unmodifiableList(merged);
+    }
+
+    private Shard shardFor(String competitionId) {
+        if (competitionId == null || competitionId.isBlank()) {
+            throw new IllegalArgumentException("Competition id can not be null or empty");
+        }
+        return shards[(competitionId.hashCode() & 0x7fff_ffff) % shards.length];
+    }
+
+    private static Scoreboard existingBoard(Shard shard, String competitionId, String missingMatchMessage) {
+        Scoreboard board = shard.boards.get(competitionId);
+        if (board == null) {
+            throw new IllegalStateException(missingMatchMessage);
+        }
+        return board;
+    }
+
+    /**
+     * Summary line of a match together with the competition it belongs to.
+     */
+    public record RankedMatch(String competitionId, String summaryLine) {
+    }
+
+    private static final class Shard {
+        final ReentrantLock lock = new ReentrantLock();
+        final Map<String, Scoreboard> boards = new HashMap<>();
+    }
+
+    /**
+     * Copy of the first summary lines of one board with their summary keys, and the merge position in them.
+     */
+    private static final class BoardTop implements Comparable<BoardTop> {
+        final String competitionId;
+        final long[] keys;
+        final String[] lines;
+        int size;
+        int position;
+
+        private BoardTop(String competitionId, int capacity) {
+            this.competitionId = competitionId;
+            this.keys = new long[capacity];
+            this.lines = new String[capacity];
+        }
+
+        static BoardTop copy(String competitionId, Scoreboard board, int limit) {
+            BoardTop top = new BoardTop(competitionId, Math.min(limit, board.matchCount()));
+            for (FootballMatch match : board.summaryOrder()) {
+                if (top.size == top.keys.length) {
+                    break;
+                }
+                top.keys[top.size] = match.getSummaryKey();
+                top.lines[top.size++] = match.getSummaryLine();
+            }
+            return top;
+        }
+
+        @Override
+        public int compareTo(BoardTop other) {
+            return Long.compare(other.keys[other.position], keys[position]);
+        }
+    }
+}
@@ -0,0 +1,253 @@
+package com.ivana.scoreboard;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Consumer;
+
+/**
+ * Scoreboard where all changes are queued and applied by one dedicated writer thread, so writers never contend
+ * for locks on the board and reads never wait for writers.
+ * <p>
+ * The writer takes the queued changes in batches, applies them to an internal {@link Scoreboard} one by one
+ * with the usual validation, publishes an immutable {@link Snapshot} and only then completes the futures
+ * of the batch. A completed future therefore guarantees the change is visible to every reader.
+ * A rejected change completes its future exceptionally with the same {@link IllegalStateException}
+ * or {@link IllegalArgumentException} the scoreboard throws, and doesn't affect other changes of the batch.
+ * Any other exception or error thrown while a change is applied fails only that change, the writer keeps running.
+ * <p>
+ * Futures are completed on the writer thread, so dependent stages attached with the non-async methods
+ * ({@code thenRun}, {@code whenComplete}, ...) run there too and delay all later changes while they run.
+ * Slow callbacks should use the {@code ...Async} variants.
+ * <p>
+ * Reads are served from the last published snapshot and are safe from any number of threads,
+ * e.g. one virtual thread per client.
+ */
+public class SingleWriterScoreboard implements AutoCloseable {
+    private static final int DEFAULT_QUEUE_CAPACITY = 65_536;
+    private static final int MAX_BATCH_SIZE = 1024;
+    private static final Command CLOSE = new Command(board -> { }, null);
+
+    private final Scoreboard scoreboard;
+    private final BlockingQueue<Command> queue;
+    private final Thread writer;
+
+    /**
+     * Submitters hold the read lock while they check for close and enqueue, close takes the write lock,
+     * so no change can be queued behind the close command and be left without a result.
+     */
+    private final ReentrantReadWriteLock closeLock;
+    private boolean closed;
+    private volatile Snapshot snapshot;
+
+    /**
+     * Scoreboard state as published by the writer thread after a batch of changes.
+     *
+     * @param version     scoreboard version, see {@link Scoreboard#getVersion()}
+     * @param summary     unmodifiable summary, see {@link Scoreboard#getSummary()}
+     * @param activeTeams unmodifiable normalized names of the teams currently playing
+     */
+    public record Snapshot(long version, List<String> summary, Set<String> activeTeams) {
+    }
+
+    /**
+     * Constructs an empty scoreboard with a queue of 65536 pending changes and starts its writer thread.
+     */
+    public SingleWriterScoreboard() {
+        this(DEFAULT_QUEUE_CAPACITY);
+    }
+
+    /**
+     * Constructs an empty scoreboard and starts its writer thread.
+     *
+     * @param queueCapacity maximum number of pending changes, submitting more blocks until the writer catches up
+     * @throws IllegalArgumentException if the capacity is not positive
+     */
+    public SingleWriterScoreboard(int queueCapacity) {
+        if (queueCapacity <= 0) {
+            throw new IllegalArgumentException("Queue capacity must be positive");
+        }
+        this.scoreboard = new Scoreboard();
+        this.queue = new ArrayBlockingQueue<>(queueCapacity);
+        this.closeLock = new ReentrantReadWriteLock();
+        this.snapshot = new Snapshot(0, List.of(), Set.of());
+        this.writer = new Thread(this::runWriter, "scoreboard-writer");
+        writer.setDaemon(true);
+        writer.start();
+    }
+
+    public CompletableFuture<Void> startMatch(String homeTeam, String awayTeam) {
+        return submit(board -> board.startMatch(homeTeam, awayTeam));
+    }
+
+    public CompletableFuture<Void> updateScore(String homeTeam, String awayTeam, int homeScore, int awayScore) {
+        return submit(board -> board.updateScore(homeTeam, awayTeam, homeScore, awayScore));
+    }
+
+    public CompletableFuture<Void> finishMatch(String homeTeam, String awayTeam) {
+        return submit(board -> board.finishMatch(homeTeam, awayTeam));
+    }
+
+    /**
+     * Queues the updates as one unit, see {@link LiveScoreboard#applyBatch(List)}.
+     */
+    public CompletableFuture<Void> applyBatch(List<ScoreUpdate> updates) {
+        List<ScoreUpdate> copy = List.copyOf(updates);
+        return submit(board -> board.applyBatch(copy));
+    }
+
+    /**
+     * Returns the last published state of the scoreboard.
+     */
+    public Snapshot getSnapshot() {
+        return snapshot;
+    }
+
+    public List<String> getSummary() {
+        return snapshot.summary();
+    }
+
+    public Set<String> getActiveTeams() {
+        return snapshot.activeTeams();
+    }
+
+    public long getVersion() {
+        return snapshot.version();
+    }
+
+    /**
+     * Returns the ongoing matches in start order, see {@link Scoreboard#getScoreboard()}. The map is safe to read
+     * from any thread and can already contain changes of the batch being applied, which are not yet in the snapshot.
+     */
+    public Map<String, FootballMatch> getScoreboard() {
+        return scoreboard.getScoreboard();
+    }
+
+    /**
+     * Returns the publisher of the board's change events, events are published from the writer thread.
+     */
+    public ScoreboardEventPublisher getEvents() {
+        return scoreboard.getEvents();
+    }
+
+    /**
+     * Stops accepting changes, waits until the writer has applied all queued changes and stops it.
+     */
+    @Override
+    public void close() {
+        closeLock.writeLock().lock();
+        try {
+            if (closed) {
+                return;
+            }
+            closed = true;
+            putUninterruptibly(CLOSE);
+        } finally {
+            closeLock.writeLock().unlock();
+        }
+        boolean interrupted = false;
+        while (writer.isAlive()) {
+            try {
+                writer.join();
+            } catch (InterruptedException e) {
+                interrupted = true;
+            }
+        }
+        if (interrupted) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * Queues a change to be applied by the writer thread.
+     */
+    CompletableFuture<Void> submit(Consumer<Scoreboard> change) {
+        Command command = new Command(change, new CompletableFuture<>());
+        closeLock.readLock().lock();
+        try {
+            if (closed) {
+                return CompletableFuture.failedFuture(new IllegalStateException("Scoreboard is closed"));
+            }
+            queue.put(command);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return CompletableFuture.failedFuture(e);
+        } finally {
+            closeLock.readLock().unlock();
+        }
+        return command.result();
+    }
+
+    private void putUninterruptibly(Command command) {
+        boolean interrupted = false;
+        while (true) {
+            try {
+                queue.put(command);
+                break;
+            } catch (InterruptedException e) {
+                interrupted = true;
+            }
+        }
+        if (interrupted) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private void runWriter() {
+        List<Command> batch = new ArrayList<>(MAX_BATCH_SIZE);
+        Throwable[] failures = new Throwable[MAX_BATCH_SIZE];
+        boolean running = true;
+        while (running) {
+            try {
+                batch.add(queue.take());
+            } catch (InterruptedException e) {
+                continue;
+            }
+            queue.drainTo(batch, MAX_BATCH_SIZE - 1);
+            for (int i = 0; i < batch.size(); i++) {
+                Command command = batch.get(i);
+                if (command == CLOSE) {
+                    running = false;
+                    continue;
+                }
+                try {
+                    command.change().accept(scoreboard);
+                } catch (Throwable e) {
+                    // an error must not kill the writer, every queued and later future would never complete
+                    failures[i] = e;
+                }
+            }
+            try {
+                if (scoreboard.getVersion() != snapshot.version()) {
+                    snapshot = new Snapshot(scoreboard.getVersion(), scoreboard.getSummary(), scoreboard.getActiveTeams());
+                }
+            } catch (Throwable e) {
+                for (int i = 0; i < batch.size(); i++) {
+                    if (failures[i] == null) {
+                        failures[i] = e;
+                    }
+                }
+            }
+            for (int i = 0; i < batch.size(); i++) {
+                Command command = batch.get(i);
+                if (command != CLOSE) {
+                    if (failures[i] == null) {
+                        command.result().complete(null);
+                    } else {
+                        command.result().completeExceptionally(failures[i]);
+                    }
+                }
+                failures[i] = null;
+            }
+            batch.clear();
+        }
+    }
+
+    private record Command(Consumer<Scoreboard> change, CompletableFuture<Void> result) {
+    }
+}
@@ -0,0 +1,33 @@
+package com.ivana.scoreboard;
+
+import java.util.List;
+
+/**
+ * Changes of the scoreboard summary between two versions, returned by {@link Scoreboard#getSummaryDelta(long)}.
+ * A client applies a delta to the summary it got for {@code fromVersion} by removing the matches of all changes
+ * and then inserting the inserted and updated matches at their positions, in the order of the changes.
+ * Matches that didn't change keep their relative order, so they are moved only by these inserts and removals.
+ * When the client's version is too old, the delta is a full snapshot: the client clears its summary and
+ * inserts all matches of the delta.
+ *
+ * @param fromVersion  version the delta starts from, 0 for full snapshots
+ * @param toVersion    current version of the scoreboard
+ * @param fullSnapshot true if the delta contains all ongoing matches instead of changes
+ * @param changes      removed matches first, then inserted and updated matches ordered by position
+ */
+public record SummaryDelta(long fromVersion, long toVersion, boolean fullSnapshot, List<Change> changes) {
+
+    public enum ChangeType {
+        INSERTED,
+        UPDATED,
+        REMOVED
+    }
+
+    /**
+     * @param matchKey    key of the match in the format "hometeam_vs_awayteam"
+     * @param summaryLine current summary line, null for removed matches
+     * @param position    current position in the summary (0 is the first line), -1 for removed matches
+     */
+    public record Change(ChangeType type, String matchKey, String summaryLine, int position) {
+    }
+}
@@ -0,0 +1,223 @@
+package com.ivana.scoreboard;
+
+import java.util.ArrayDeque;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+/**
+ * Matches ordered for the summary: highest summary key first, i.e. highest total score and then most recently started.
+ * Implemented as a treap whose links are stored in the matches themselves, so adding and removing a match
+ * is O(log n) and allocates nothing. Every node also knows the size of its subtree, which allows
+ * looking up the match at a given position in O(log n).
+ * A match has to be removed from the index before its summary key changes and added again afterwards.
+ */
+class SummaryIndex implements Iterable<FootballMatch> {
+    private FootballMatch root;
+
+    /**
+     * Result of the last split, kept in fields so splitting doesn't have to allocate a pair.
+     */
+    private FootballMatch splitBefore;
+    private FootballMatch splitAfter;
+
+    int size() {
+        return sizeOf(root);
+    }
+
+    void add(FootballMatch match) {
+        match.indexLeft = null;
+        match.indexRight = null;
+        match.indexSize = 1;
+        root = insert(root, match);
+    }
+
+    void remove(FootballMatch match) {
+        root = remove(root, match);
+    }
+
+    /**
+     * Returns the match at the given position of the summary, 0 being the first one.
+     *
+     * @throws IndexOutOfBoundsException if there is no match at this position
+     */
+    FootballMatch get(int position) {
+        if (position < 0 || position >= size()) {
+            throw new IndexOutOfBoundsException("No match at position " + position);
+        }
+        FootballMatch node = root;
+        while (true) {
+            int leftSize = sizeOf(node.indexLeft);
+            if (position < leftSize) {
+                node = node.indexLeft;
+            } else if (position == leftSize) {
+                return node;
+            } else {
+                position -= leftSize + 1;
+                node = node.indexRight;
+            }
+        }
+    }
+
+    /**
+     * Returns the position of a match that is in the index.
+     */
+    int positionOf(FootballMatch match) {
+        int position = 0;
+        FootballMatch node = root;
+        while (node != match) {
+            if (ranksBefore(match, node)) {
+                node = node.indexLeft;
+            } else {
+                position += sizeOf(node.indexLeft) + 1;
+                node = node.indexRight;
+            }
+        }
+        return position + sizeOf(match.indexLeft);
+    }
+
+    /**
+     * Iterates the matches in summary order starting at the given position.
+     */
+    Iterator<FootballMatch> iterator(int fromPosition) {
+        ArrayDeque<FootballMatch> path = new ArrayDeque<>();
+        FootballMatch node = root;
+        int skip = fromPosition;
+        while (node != null) {
+            int leftSize = sizeOf(node.indexLeft);
+            if (skip < leftSize) {
+                path.push(node);
+                node = node.indexLeft;
+            } else if (skip == leftSize) {
+                path.push(node);
+                node = null;
+            } else {
+                skip -= leftSize + 1;
+                node = node.indexRight;
+            }
+        }
+        return new Iterator<>() {
+            @Override
+            public boolean hasNext() {
+                return !path.isEmpty();
+            }
+
+            @Override
+            public FootballMatch next() {
+                if (path.isEmpty()) {
+                    throw new NoSuchElementException();
+                }
+                FootballMatch next = path.pop();
+                for (FootballMatch node = next.indexRight; node != null; node = node.indexLeft) {
+                    path.push(node);
+                }
+                return next;
+            }
+        };
+    }
+
+    @Override
+    public Iterator<FootballMatch> iterator() {
+        return iterator(0);
+    }
+
+    private FootballMatch insert(FootballMatch node, FootballMatch match) {
+        if (node == null) {
+            return match;
+        }
+        if (priorityOf(match) > priorityOf(node)) {
+            split(node, match);
+            match.indexLeft = splitBefore;
+            match.indexRight = splitAfter;
+            updateSize(match);
+            return match;
+        }
+        if (ranksBefore(match, node)) {
+            node.indexLeft = insert(node.indexLeft, match);
+        } else {
+            node.indexRight = insert(node.indexRight, match);
+        }
+        updateSize(node);
+        return node;
+    }
+
+    private FootballMatch remove(FootballMatch node, FootballMatch match) {
+        if (node == null) {
+            return null;
+        }
+        if (node == match) {
+            FootballMatch merged = merge(match.indexLeft, match.indexRight);
+            match.indexLeft = null;
+            match.indexRight = null;
+            return merged;
+        }
+        if (ranksBefore(match, node)) {
+            node.indexLeft = remove(node.indexLeft, match);
+        } else {
+            node.indexRight = remove(node.indexRight, match);
+        }
+        updateSize(node);
+        return node;
+    }
+
+    /**
+     * Splits the subtree into matches ranking before and after the given match.
+     */
+    private void split(FootballMatch node, FootballMatch match) {
+        if (node == null) {
+            splitBefore = null;
+            splitAfter = null;
+        } else if (ranksBefore(node, match)) {
+            split(node.indexRight, match);
+            node.indexRight = splitBefore;
+            updateSize(node);
+            splitBefore = node;
+        } else {
+            split(node.indexLeft, match);
+            node.indexLeft = splitAfter;
+            updateSize(node);
+            splitAfter = node;
+        }
+    }
+
+    /**
+     * Joins two subtrees where all matches of the first rank before all matches of the second.
+     */
+    private FootballMatch merge(FootballMatch before, FootballMatch after) {
+        if (before == null) {
+            return after;
+        }
+        if (after == null) {
+            return before;
+        }
+        if (priorityOf(before) > priorityOf(after)) {
+            before.indexRight = merge(before.indexRight, after);
+            updateSize(before);
+            return before;
+        }
+        after.indexLeft = merge(before, after.indexLeft);
+        updateSize(after);
+        return after;
+    }
+
+    private static boolean ranksBefore(FootballMatch match, FootballMatch other) {
+        return match.getSummaryKey() > other.getSummaryKey();
+    }
+
+    /**
+     * Pseudo random heap priority derived from the start sequence, keeps the treap balanced without a random generator.
+     */
+    private static long priorityOf(FootballMatch match) {
+        long z = match.getStartSequence() + 0x9E37_79B9_7F4A_7C15L;
+        z = (z ^ (z >>> 30)) * 0xBF58_476D_1CE4_E5B9L;
+        z = (z ^ (z >>> 27)) * 0x94D0_49BB_1331_11EBL;
+        return z ^ (z >>> 31);
+    }
+
+    private static int sizeOf(FootballMatch node) {
+        return node == null ? 0 : node.indexSize;
+    }
+
+    private static void updateSize(FootballMatch node) {
+        node.indexSize = sizeOf(node.indexLeft) + sizeOf(node.indexRight) + 1;
+    }
+}
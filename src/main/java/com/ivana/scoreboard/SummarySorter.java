@@ -0,0 +1,48 @@
+package com.ivana.scoreboard;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.function.LongFunction;
+
+/**
+ * Turns the packed summary keys of a board (see {@link FootballMatch#summaryKey(int, long)}) into its summary:
+ * sorts them, highest key first, and renders one line per key. Boards with at least {@code threshold} matches
+ * are sorted and rendered in parallel on the common fork/join pool. Keys are unique, so both paths give the
+ * same list. The default threshold of 20 000 matches is an estimate, not a measurement; find the crossover
+ * of a machine with {@code ParallelSummaryBenchmark}.
+ */
+final class SummarySorter {
+    static final int DEFAULT_THRESHOLD = 20_000;
+
+    private volatile int threshold = DEFAULT_THRESHOLD;
+
+    /**
+     * @throws IllegalArgumentException if the threshold is negative
+     */
+    void setThreshold(int threshold) {
+        if (threshold < 0) {
+            throw new IllegalArgumentException("Parallel summary threshold can not be negative");
+        }
+        this.threshold = threshold;
+    }
+
+    /**
+     * Sorts the first {@code count} keys in place and returns the unmodifiable summary.
+     * {@code lineOf} may be called from several threads at once, it must only read the board.
+     */
+    List<String> sortAndRender(long[] summaryKeys, int count, LongFunction<String> lineOf) {
+        String[] lines = new String[count];
+        int last = count - 1;
+        if (count >= threshold) {
+            Arrays.parallelSort(summaryKeys, 0, count);
+            Arrays.parallelSetAll(lines, i -> lineOf.apply(summaryKeys[last - i]));
+        } else {
+            Arrays.sort(summaryKeys, 0, count);
+            for (int i = 0; i < count; i++) {
+                lines[i] = lineOf.apply(summaryKeys[last - i]);
+            }
+        }
+        return Collections.unmodifiableList(Arrays.asList(lines));
+    }
+}
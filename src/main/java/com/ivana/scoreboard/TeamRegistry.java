@@ -0,0 +1,93 @@
+package com.ivana.scoreboard;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+
+/**
+ * Assigns a compact int ID to every team name seen by a scoreboard.
+ * Names are trimmed and lower cased once, each spelling that was already resolved is remembered,
+ * so looking up a known team again is a single hash lookup without creating new strings.
+ */
+public class TeamRegistry {
+    /**
+     * Upper bound of remembered spellings, spellings beyond it are still resolved but normalized on every lookup.
+     */
+    private static final int MAX_SPELLINGS = 65_536;
+
+    private final HashMap<String, Integer> idsByName;
+    private final HashMap<String, Integer> idsBySpelling;
+    private final List<String> names;
+
+    public TeamRegistry() {
+        this.idsByName = new HashMap<>();
+        this.idsBySpelling = new HashMap<>();
+        this.names = new ArrayList<>();
+    }
+
+    /**
+     * Returns the ID of the team, registering the team first if it is not known yet.
+     *
+     * @throws IllegalArgumentException if the team name is null or empty
+     */
+    public int register(String teamName) {
+        int teamId = find(teamName);
+        if (teamId >= 0) {
+            return teamId;
+        }
+        String name = teamName == null ? "" : normalize(teamName);
+        if (name.isEmpty()) {
+            throw new IllegalArgumentException("Team name can not be null or empty");
+        }
+        teamId = names.size();
+        names.add(name);
+        idsByName.put(name, teamId);
+        rememberSpelling(teamName, teamId);
+        return teamId;
+    }
+
+    /**
+     * Returns the ID of the team or -1 if the team was never registered. Comparison is case-insensitive and ignores whitespace.
+     */
+    public int find(String teamName) {
+        Integer teamId = idsBySpelling.get(teamName);
+        if (teamId != null) {
+            return teamId;
+        }
+        if (teamName == null) {
+            return -1;
+        }
+        teamId = idsByName.get(normalize(teamName));
+        if (teamId == null) {
+            return -1;
+        }
+        rememberSpelling(teamName, teamId);
+        return teamId;
+    }
+
+    /**
+     * Returns the normalized (trimmed, lower cased) name of the team with the given ID.
+     *
+     * @throws IllegalArgumentException if no team has this ID
+     */
+    public String getName(int teamId) {
+        if (teamId < 0 || teamId >= names.size()) {
+            throw new IllegalArgumentException("Unknown team id " + teamId);
+        }
+        return names.get(teamId);
+    }
+
+    public int size() {
+        return names.size();
+    }
+
+    private void rememberSpelling(String teamName, int teamId) {
+        if (idsBySpelling.size() < MAX_SPELLINGS) {
+            idsBySpelling.put(teamName, teamId);
+        }
+    }
+
+    private static String normalize(String teamName) {
+        return teamName.trim().toLowerCase();
+    }
+}
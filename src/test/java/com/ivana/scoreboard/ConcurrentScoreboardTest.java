@@ -0,0 +1,243 @@
+package com.ivana.scoreboard;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ConcurrentScoreboardTest {
+    private ConcurrentScoreboard scoreboard;
+
+    @BeforeEach
+    void setUp(){
+        scoreboard = new ConcurrentScoreboard();
+    }
+
+    @Test
+    @DisplayName("Concurrent scoreboard should keep the same validation rules as the scoreboard")
+    void shouldKeepScoreboardValidationRules() {
+        scoreboard.startMatch("Brazil", "Croatia");
+
+        assertEquals("This match is already in progress", assertThrows(IllegalStateException.class,
+                () -> scoreboard.startMatch(" brazil", "CROATIA ")).getMessage());
+        assertEquals("This match can not be initialized since one of the teams is already in the game",
+                assertThrows(IllegalStateException.class, () -> scoreboard.startMatch("Croatia", "Brazil")).getMessage());
+        assertEquals("Team names can not be the same", assertThrows(IllegalArgumentException.class,
+                () -> scoreboard.startMatch("Spain", "spain")).getMessage());
+        assertEquals("Score can not be a negative number", assertThrows(IllegalArgumentException.class,
+                () -> scoreboard.updateScore("Brazil", "Croatia", -1, 0)).getMessage());
+        assertEquals("Can not update match that doesn't exist", assertThrows(IllegalStateException.class,
+                () -> scoreboard.updateScore("Spain", "Italy", 1, 0)).getMessage());
+        assertEquals("Can not finish the match that is not ongoing", assertThrows(IllegalStateException.class,
+                () -> scoreboard.finishMatch("Spain", "Italy")).getMessage());
+        assertEquals(Set.of("brazil", "croatia"), scoreboard.getActiveTeams());
+    }
+
+    @Test
+    @DisplayName("Concurrent scoreboard summary should be ordered like the scoreboard summary")
+    void getSummary_shouldSortLikeScoreboard() {
+        Scoreboard reference = new Scoreboard();
+        for (LiveScoreboard board : List.of(scoreboard, reference)) {
+            board.startMatch("Mexico", "Canada");
+            board.updateScore("Mexico", "Canada", 0, 5);
+            board.startMatch("Spain", "Brazil");
+            board.updateScore("Spain", "Brazil", 10, 2);
+            board.startMatch("Germany", "France");
+            board.updateScore("Germany", "France", 2, 2);
+            board.startMatch("Uruguay", "Italy");
+            board.updateScore("Uruguay", "Italy", 6, 6);
+            board.startMatch("Argentina", "Australia");
+            board.updateScore("Argentina", "Australia", 3, 1);
+        }
+
+        assertEquals(reference.getSummary(), scoreboard.getSummary());
+        assertEquals(new ArrayList<>(reference.getScoreboard().keySet()), new ArrayList<>(scoreboard.getScoreboard().keySet()));
+    }
+
+    @Test
+    @DisplayName("Concurrent scoreboard should return the same summary instance until the scoreboard changes")
+    void getSummary_shouldReuseSummaryUntilScoreboardChanges() {
+        scoreboard.startMatch("Brazil", "Croatia");
+        List<String> first = scoreboard.getSummary();
+
+        assertSame(first, scoreboard.getSummary());
+
+        scoreboard.updateScore("Brazil", "Croatia", 0, 1);
+
+        assertEquals(List.of("Brazil 0 - Croatia 1"), scoreboard.getSummary());
+        assertNotSame(first, scoreboard.getSummary());
+    }
+
+    @Test
+    @DisplayName("Concurrent scoreboard should apply a batch completely or not at all")
+    void applyBatch_shouldBeAllOrNothing() {
+        scoreboard.startMatch("Brazil", "Croatia");
+        scoreboard.startMatch("Spain", "Italy");
+
+        assertThrows(IllegalStateException.class, () -> scoreboard.applyBatch(List.of(
+                new ScoreUpdate("Brazil", "Croatia", 1, 0), new ScoreUpdate("Germany", "France", 1, 0))));
+        assertEquals(List.of("Spain 0 - Italy 0", "Brazil 0 - Croatia 0"), scoreboard.getSummary());
+
+        scoreboard.applyBatch(List.of(new ScoreUpdate("Brazil", "Croatia", 1, 0),
+                new ScoreUpdate("Spain", "Italy", 2, 1), new ScoreUpdate("Brazil", "Croatia", 2, 0)));
+        assertEquals(List.of("Spain 2 - Italy 1", "Brazil 2 - Croatia 0"), scoreboard.getSummary());
+    }
+
+    @Test
+    @DisplayName("Concurrent writers on different matches should not lose any update while readers poll the summary")
+    void shouldNotLoseUpdatesUnderConcurrentWriters() throws Exception {
+        int writers = 8;
+        int matchesPerWriter = 50;
+        int rounds = 200;
+        for (int w = 0; w < writers; w++) {
+            for (int m = 0; m < matchesPerWriter; m++) {
+                scoreboard.startMatch("Home " + w + "-" + m, "Away " + w + "-" + m);
+            }
+        }
+
+        ExecutorService executor = Executors.newFixedThreadPool(writers + 2);
+        AtomicBoolean writing = new AtomicBoolean(true);
+        List<Future<?>> readers = new ArrayList<>();
+        for (int r = 0; r < 2; r++) {
+            readers.add(executor.submit(() -> {
+                while (writing.get()) {
+                    assertEquals(writers * matchesPerWriter, scoreboard.getSummary().size());
+                }
+            }));
+        }
+        List<Future<?>> futures = new ArrayList<>();
+        for (int w = 0; w < writers; w++) {
+            int writer = w;
+            futures.add(executor.submit(() -> {
+                for (int round = 1; round <= rounds; round++) {
+                    for (int m = 0; m < matchesPerWriter; m++) {
+                        scoreboard.updateScore("Home " + writer + "-" + m, "Away " + writer + "-" + m,
+                                (round + m) % 101, (round * 7 + writer) % 101);
+                    }
+                }
+            }));
+        }
+        for (Future<?> future : futures) {
+            future.get(30, TimeUnit.SECONDS);
+        }
+        writing.set(false);
+        for (Future<?> reader : readers) {
+            reader.get(30, TimeUnit.SECONDS);
+        }
+        executor.shutdown();
+
+        Map<String, FootballMatch> matches = scoreboard.getScoreboard();
+        for (int w = 0; w < writers; w++) {
+            for (int m = 0; m < matchesPerWriter; m++) {
+                FootballMatch match = matches.get("home " + w + "-" + m + "_vs_away " + w + "-" + m);
+                assertEquals((rounds + m) % 101, match.getHomeScore());
+                assertEquals((rounds * 7 + w) % 101, match.getAwayScore());
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("Only one of the matches racing for the same team should be started")
+    void startMatch_shouldNeverDoubleBookTeam() throws Exception {
+        int contenders = 8;
+        ExecutorService executor = Executors.newFixedThreadPool(contenders);
+        for (int round = 0; round < 200; round++) {
+            ConcurrentScoreboard board = new ConcurrentScoreboard();
+            CyclicBarrier barrier = new CyclicBarrier(contenders);
+            AtomicInteger started = new AtomicInteger();
+            List<Future<?>> futures = new ArrayList<>();
+            for (int c = 0; c < contenders; c++) {
+                String opponent = "Opponent " + c;
+                futures.add(executor.submit(() -> {
+                    barrier.await();
+                    try {
+                        board.startMatch("Brazil", opponent);
+                        started.incrementAndGet();
+                    } catch (IllegalStateException expected) {
+                        // another contender booked Brazil first
+                    }
+                    return null;
+                }));
+            }
+            for (Future<?> future : futures) {
+                future.get(30, TimeUnit.SECONDS);
+            }
+
+            assertEquals(1, started.get());
+            assertEquals(1, board.getScoreboard().size());
+            assertEquals(2, board.getActiveTeams().size());
+        }
+        executor.shutdown();
+    }
+
+    @Test
+    @DisplayName("A start that fails because of its other team should never reject a concurrent start of the same team")
+    void startMatch_shouldNotRejectBecauseOfFailedStart() throws Exception {
+        scoreboard.startMatch("Germany", "France");
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+        for (int round = 0; round < 2_000; round++) {
+            CyclicBarrier barrier = new CyclicBarrier(2);
+            String opponent = "Opponent " + round;
+            Future<?> failing = executor.submit(() -> {
+                barrier.await();
+                assertThrows(IllegalStateException.class, () -> scoreboard.startMatch("Brazil", "France"));
+                return null;
+            });
+            Future<?> starting = executor.submit(() -> {
+                barrier.await();
+                scoreboard.startMatch("Brazil", opponent);
+                return null;
+            });
+            failing.get(30, TimeUnit.SECONDS);
+            starting.get(30, TimeUnit.SECONDS);
+            scoreboard.finishMatch("Brazil", opponent);
+        }
+        executor.shutdown();
+
+        assertEquals(Set.of("germany", "france"), scoreboard.getActiveTeams());
+    }
+
+    @Test
+    @DisplayName("Teams should stay consistent with matches when many threads start and finish overlapping matches")
+    void shouldKeepActiveTeamsConsistentUnderChurn() throws Exception {
+        int threads = 8;
+        int teams = 20;
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        List<Future<?>> futures = new ArrayList<>();
+        for (int t = 0; t < threads; t++) {
+            Random random = new Random(t);
+            futures.add(executor.submit(() -> {
+                for (int i = 0; i < 5_000; i++) {
+                    String home = "Team " + random.nextInt(teams);
+                    String away = "Team " + random.nextInt(teams);
+                    try {
+                        if (random.nextBoolean()) {
+                            scoreboard.startMatch(home, away);
+                        } else {
+                            scoreboard.finishMatch(home, away);
+                        }
+                    } catch (IllegalStateException | IllegalArgumentException expected) {
+                        // conflicting or invalid operation, rejected like in the scoreboard
+                    }
+                }
+            }));
+        }
+        for (Future<?> future : futures) {
+            future.get(30, TimeUnit.SECONDS);
+        }
+        executor.shutdown();
+
+        Set<String> playing = new HashSet<>();
+        for (FootballMatch match : scoreboard.getScoreboard().values()) {
+            assertTrue(playing.add(match.getHomeTeam().toLowerCase()));
+            assertTrue(playing.add(match.getAwayTeam().toLowerCase()));
+        }
+        assertEquals(playing, scoreboard.getActiveTeams());
+    }
+}
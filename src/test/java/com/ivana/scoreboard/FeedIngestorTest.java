@@ -0,0 +1,164 @@
+package com.ivana.scoreboard;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class FeedIngestorTest {
+    private Scoreboard scoreboard;
+    private FeedIngestor ingestor;
+
+    @BeforeEach
+    void setUp() {
+        scoreboard = new Scoreboard();
+        scoreboard.startMatch("Brazil", "Croatia");
+        scoreboard.startMatch("Spain", "Italy");
+        ingestor = new FeedIngestor(scoreboard);
+    }
+
+    @Test
+    @DisplayName("Duplicate and stale updates should be dropped")
+    void offer_shouldDropDuplicatesAndStaleUpdates() {
+        assertTrue(ingestor.offer(new FeedUpdate("a", 10, "Brazil", "Croatia", 1, 0)));
+        assertFalse(ingestor.offer(new FeedUpdate("b", 10, "brazil", " CROATIA", 1, 0)));
+        assertFalse(ingestor.offer(new FeedUpdate("b", 5, "Brazil", "Croatia", 0, 0)));
+        assertEquals(1, ingestor.flush());
+        assertFalse(ingestor.offer(new FeedUpdate("a", 9, "Brazil", "Croatia", 0, 0)));
+        assertEquals(0, ingestor.flush());
+
+        assertEquals(List.of("Brazil 1 - Croatia 0", "Spain 0 - Italy 0"), scoreboard.getSummary());
+        assertEquals(new FeedIngestor.Stats(4, 3, 0, 0, 1, 0), ingestor.getStats());
+    }
+
+    @Test
+    @DisplayName("A burst of updates of one match should be applied as the newest score only")
+    void flush_shouldCoalesceUpdates() {
+        ingestor.offer(new FeedUpdate("a", 1, "Spain", "Italy", 1, 0));
+        ingestor.offer(new FeedUpdate("a", 3, "Spain", "Italy", 2, 1));
+        ingestor.offer(new FeedUpdate("b", 2, "Spain", "Italy", 2, 0));
+        ingestor.offer(new FeedUpdate("a", 1, "Brazil", "Croatia", 0, 1));
+        assertEquals(2, ingestor.getPendingCount());
+        long version = scoreboard.getVersion();
+
+        assertEquals(2, ingestor.flush());
+
+        assertEquals(version + 2, scoreboard.getVersion());
+        assertEquals(List.of("Spain 2 - Italy 1", "Brazil 0 - Croatia 1"), scoreboard.getSummary());
+        assertEquals(0, ingestor.getPendingCount());
+        assertEquals(new FeedIngestor.Stats(4, 1, 1, 0, 2, 0), ingestor.getStats());
+    }
+
+    @Test
+    @DisplayName("Updates with the score the scoreboard already has should not be written")
+    void flush_shouldSkipUnchangedScores() {
+        ingestor.offer(new FeedUpdate("a", 1, "Spain", "Italy", 1, 0));
+        ingestor.flush();
+        long version = scoreboard.getVersion();
+        ingestor.offer(new FeedUpdate("b", 2, "Spain", "Italy", 1, 0));
+
+        assertEquals(0, ingestor.flush());
+        assertEquals(version, scoreboard.getVersion());
+        assertEquals(1, ingestor.getStats().unchanged());
+    }
+
+    @Test
+    @DisplayName("Feed updates should be compared with the scoreboard, not with the last score the ingestor wrote")
+    void flush_shouldCompareWithCurrentScoreboardState() {
+        ingestor.offer(new FeedUpdate("a", 1, "Spain", "Italy", 1, 0));
+        ingestor.flush();
+        scoreboard.updateScore("Spain", "Italy", 0, 0);
+        ingestor.offer(new FeedUpdate("a", 2, "Spain", "Italy", 1, 0));
+
+        assertEquals(1, ingestor.flush());
+        assertEquals(List.of("Spain 1 - Italy 0", "Brazil 0 - Croatia 0"), scoreboard.getSummary());
+
+        scoreboard.finishMatch("Spain", "Italy");
+        scoreboard.startMatch("Spain", "Italy");
+        ingestor.offer(new FeedUpdate("a", 3, "Spain", "Italy", 1, 0));
+
+        assertEquals(1, ingestor.flush());
+        assertEquals(List.of("Spain 1 - Italy 0", "Brazil 0 - Croatia 0"), scoreboard.getSummary());
+        assertEquals(0, ingestor.getStats().unchanged());
+    }
+
+    @Test
+    @DisplayName("Invalid updates should be rejected one by one without losing the valid ones")
+    void flush_shouldFallBackToSingleUpdates() {
+        ingestor.offer(new FeedUpdate("a", 1, "Spain", "Italy", 3, 0));
+        ingestor.offer(new FeedUpdate("a", 1, "Germany", "France", 1, 0));
+        ingestor.offer(new FeedUpdate("a", 1, "Brazil", "Croatia", 101, 0));
+
+        assertEquals(1, ingestor.flush());
+        assertEquals(List.of("Spain 3 - Italy 0", "Brazil 0 - Croatia 0"), scoreboard.getSummary());
+        assertEquals(2, ingestor.getStats().rejected());
+        assertThrows(IllegalArgumentException.class, () -> ingestor.offer(new FeedUpdate(" ", 1, "Spain", "Italy", 1, 0)));
+        assertThrows(IllegalArgumentException.class, () -> ingestor.offer(new FeedUpdate("a", 1, null, "Italy", 1, 0)));
+        assertThrows(IllegalArgumentException.class, () -> new FeedIngestor(scoreboard, 0));
+    }
+
+    @Test
+    @DisplayName("High-water marks should be kept for a bounded number of matches")
+    void offer_shouldForgetLeastRecentlyUpdatedMatches() {
+        FeedIngestor bounded = new FeedIngestor(scoreboard, 1);
+        bounded.offer(new FeedUpdate("a", 10, "Spain", "Italy", 1, 0));
+        bounded.offer(new FeedUpdate("a", 10, "Brazil", "Croatia", 1, 0));
+
+        assertFalse(bounded.offer(new FeedUpdate("a", 5, "Brazil", "Croatia", 0, 0)));
+        assertTrue(bounded.offer(new FeedUpdate("a", 5, "Spain", "Italy", 0, 0)));
+    }
+
+    @Test
+    @DisplayName("Two redundant out-of-order feeds should end with the newest scores and half the writes")
+    void shouldMergeRedundantFeeds() throws InterruptedException {
+        Scoreboard board = new Scoreboard();
+        for (int i = 0; i < 20; i++) {
+            board.startMatch("Home " + i, "Away " + i);
+        }
+        FeedIngestor feeds = new FeedIngestor(board);
+        List<FeedUpdate> feed = new ArrayList<>();
+        for (int step = 1; step <= 50; step++) {
+            for (int i = 0; i < 20; i++) {
+                feed.add(new FeedUpdate("a", step, "Home " + i, "Away " + i, step, i));
+            }
+        }
+        List<Thread> providers = new ArrayList<>();
+        for (String source : List.of("a", "b")) {
+            Random random = new Random(source.hashCode());
+            providers.add(new Thread(() -> {
+                for (int i = 0; i < feed.size(); i += 20) {
+                    List<FeedUpdate> tick = new ArrayList<>(feed.subList(i, i + 20));
+                    Collections.shuffle(tick, random);
+                    for (FeedUpdate update : tick) {
+                        feeds.offer(new FeedUpdate(source, update.timestamp(), update.homeTeam(), update.awayTeam(),
+                                update.homeScore(), update.awayScore()));
+                    }
+                    if (source.equals("a")) {
+                        feeds.flush();
+                    }
+                }
+            }));
+        }
+        providers.forEach(Thread::start);
+        for (Thread provider : providers) {
+            provider.join();
+        }
+        feeds.flush();
+
+        for (int i = 0; i < 20; i++) {
+            FootballMatch match = board.getScoreboard().get("home " + i + "_vs_away " + i);
+            assertEquals(50, match.getHomeScore());
+            assertEquals(i, match.getAwayScore());
+        }
+        FeedIngestor.Stats stats = feeds.getStats();
+        assertEquals(2_000, stats.received());
+        assertTrue(stats.applied() <= 1_000);
+        assertEquals(0, stats.rejected());
+    }
+}
@@ -3,6 +3,8 @@ package com.ivana.scoreboard;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 
+import java.util.concurrent.atomic.AtomicBoolean;
+
 import static org.junit.jupiter.api.Assertions.*;
 
 class FootballMatchTest {
@@ -108,4 +110,86 @@ class FootballMatchTest {
         FootballMatch match = new FootballMatch(longName, "Croatia");
         assertEquals(longName, match.getHomeTeam());
     }
-}
\ No newline at end of file
+
+    @Test
+    @DisplayName("Should set both scores at once and increase the score version")
+    void shouldSetBothScoresAtOnceAndIncreaseVersion() {
+        FootballMatch match = new FootballMatch("Brazil", "Croatia");
+        long initial = match.getScoreSnapshot();
+
+        match.setScore(3, 2);
+        long snapshot = match.getScoreSnapshot();
+
+        assertEquals(3, FootballMatch.homeScoreOf(snapshot));
+        assertEquals(2, FootballMatch.awayScoreOf(snapshot));
+        assertEquals(5, FootballMatch.totalScoreOf(snapshot));
+        assertEquals(FootballMatch.versionOf(initial) + 1, FootballMatch.versionOf(snapshot));
+        assertEquals(3, match.getHomeScore());
+        assertEquals(2, match.getAwayScore());
+    }
+
+    @Test
+    @DisplayName("Should keep the other score when only one side is set")
+    void shouldKeepOtherScoreWhenOneSideIsSet() {
+        FootballMatch match = new FootballMatch("Brazil", "Croatia");
+        match.setScore(1, 4);
+
+        match.setHomeScore(2);
+        match.setAwayScore(5);
+
+        assertEquals(2, match.getHomeScore());
+        assertEquals(5, match.getAwayScore());
+        assertEquals(3, FootballMatch.versionOf(match.getScoreSnapshot()));
+    }
+
+    @Test
+    @DisplayName("Should throw exception when score can not be stored")
+    void shouldThrowExceptionWhenScoreCanNotBeStored() {
+        FootballMatch match = new FootballMatch("Brazil", "Croatia");
+
+        assertThrows(IllegalArgumentException.class, () -> match.setScore(-1, 0));
+        assertThrows(IllegalArgumentException.class, () -> match.setAwayScore(70_000));
+        assertEquals(0, match.getScoreSnapshot());
+    }
+
+    @Test
+    @DisplayName("Readers should never see half applied score updates")
+    void shouldNeverExposeHalfAppliedScoreUpdates() throws InterruptedException {
+        FootballMatch match = new FootballMatch("Brazil", "Croatia");
+        AtomicBoolean torn = new AtomicBoolean(false);
+        Thread writer = new Thread(() -> {
+            for (int i = 0; i < 200_000; i++) {
+                match.setScore(i % 100, i % 100);
+            }
+        });
+        Thread reader = new Thread(() -> {
+            while (writer.isAlive()) {
+                long snapshot = match.getScoreSnapshot();
+                if (FootballMatch.homeScoreOf(snapshot) != FootballMatch.awayScoreOf(snapshot)) {
+                    torn.set(true);
+                }
+            }
+        });
+        writer.start();
+        reader.start();
+        writer.join();
+        reader.join();
+
+        assertFalse(torn.get());
+        assertEquals(200_000, FootballMatch.versionOf(match.getScoreSnapshot()));
+    }
+
+    @Test
+    @DisplayName("Should reuse the summary line until the score changes")
+    void shouldReuseSummaryLineUntilScoreChanges() {
+        FootballMatch match = new FootballMatch(" Brazil", "Croatia ");
+        String line = match.getSummaryLine();
+
+        assertEquals("Brazil 0 - Croatia 0", line);
+        assertSame(line, match.getSummaryLine());
+
+        match.setScore(2, 1);
+
+        assertEquals("Brazil 2 - Croatia 1", match.getSummaryLine());
+    }
+}
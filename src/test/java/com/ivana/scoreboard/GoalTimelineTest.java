@@ -0,0 +1,143 @@
+package com.ivana.scoreboard;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class GoalTimelineTest {
+    private static final long MINUTE = 60_000;
+
+    private Scoreboard scoreboard;
+    private ManualClock clock;
+    private GoalTimeline timeline;
+
+    @BeforeEach
+    void setUp() {
+        scoreboard = new Scoreboard();
+        clock = new ManualClock();
+        timeline = scoreboard.enableTimeline(clock, 4, 8);
+    }
+
+    @Test
+    @DisplayName("Match timeline should keep every score transition and flag corrections")
+    void getMatchTimeline_shouldRecordTransitions() {
+        scoreboard.startMatch("Brazil", "Croatia");
+        clock.advance(10 * MINUTE);
+        scoreboard.updateScore("Brazil", "Croatia", 1, 0);
+        clock.advance(MINUTE);
+        scoreboard.updateScore("Brazil", "Croatia", 1, 0);
+        scoreboard.updateScore("Brazil", "Croatia", 0, 0);
+
+        assertEquals(List.of(
+                new GoalTimeline.Transition(0, 0, 0, false),
+                new GoalTimeline.Transition(10 * MINUTE, 1, 0, false),
+                new GoalTimeline.Transition(11 * MINUTE, 0, 0, true)), timeline.getMatchTimeline(" brazil", "CROATIA"));
+        assertThrows(IllegalStateException.class, () -> timeline.getMatchTimeline("Croatia", "Brazil"));
+        assertThrows(IllegalStateException.class, () -> timeline.getMatchTimeline("Spain", "Italy"));
+    }
+
+    @Test
+    @DisplayName("Match timeline should keep only the most recent transitions up to its capacity")
+    void getMatchTimeline_shouldBeBounded() {
+        scoreboard.startMatch("Spain", "Brazil");
+        for (int goals = 1; goals <= 10; goals++) {
+            clock.advance(MINUTE);
+            scoreboard.updateScore("Spain", "Brazil", goals, 0);
+        }
+
+        assertEquals(List.of(7, 8, 9, 10), timeline.getMatchTimeline("Spain", "Brazil").stream()
+                .map(GoalTimeline.Transition::homeScore).toList());
+    }
+
+    @Test
+    @DisplayName("Recent score changes should cover all matches within the window in time order")
+    void getRecentScoreChanges_shouldReturnChangesInWindow() {
+        scoreboard.startMatch("Brazil", "Croatia");
+        scoreboard.startMatch("Spain", "Italy");
+        clock.advance(5 * MINUTE);
+        scoreboard.updateScore("Brazil", "Croatia", 1, 0);
+        clock.advance(5 * MINUTE);
+        scoreboard.applyBatch(List.of(new ScoreUpdate("Spain", "Italy", 0, 1), new ScoreUpdate("Brazil", "Croatia", 1, 1)));
+        clock.advance(5 * MINUTE);
+        scoreboard.updateScore("Spain", "Italy", 0, 0);
+        scoreboard.finishMatch("Brazil", "Croatia");
+
+        assertEquals(List.of(
+                new GoalTimeline.ScoreChange("spain", "italy", 10 * MINUTE, 0, 1, false),
+                new GoalTimeline.ScoreChange("brazil", "croatia", 10 * MINUTE, 1, 1, false),
+                new GoalTimeline.ScoreChange("spain", "italy", 15 * MINUTE, 0, 0, true)),
+                timeline.getRecentScoreChanges(Duration.ofMinutes(5)));
+        assertEquals(4, timeline.getScoreChangesSince(0).size());
+        assertEquals(List.of(), timeline.getScoreChangesSince(15 * MINUTE + 1));
+    }
+
+    @Test
+    @DisplayName("Recent score changes should be bounded and timestamps should never go backwards")
+    void getScoreChangesSince_shouldBeBounded() {
+        scoreboard.startMatch("Brazil", "Croatia");
+        for (int goals = 1; goals <= 20; goals++) {
+            clock.advance(goals == 15 ? -3 * MINUTE : MINUTE);
+            scoreboard.updateScore("Brazil", "Croatia", goals, 0);
+        }
+
+        List<GoalTimeline.ScoreChange> changes = timeline.getScoreChangesSince(0);
+        assertEquals(List.of(13, 14, 15, 16, 17, 18, 19, 20), changes.stream().map(GoalTimeline.ScoreChange::homeScore).toList());
+        assertEquals(14 * MINUTE, changes.get(2).timestampMillis());
+        assertEquals(14 * MINUTE, changes.get(3).timestampMillis());
+        assertEquals(List.of(19, 20), timeline.getScoreChangesSince(15 * MINUTE).stream()
+                .map(GoalTimeline.ScoreChange::homeScore).toList());
+    }
+
+    @Test
+    @DisplayName("Matches started before the timeline was enabled should record changes from then on")
+    void enableTimeline_shouldHandleRunningMatches() {
+        Scoreboard board = new Scoreboard();
+        board.startMatch("Brazil", "Croatia");
+        GoalTimeline enabled = board.enableTimeline();
+
+        assertSame(enabled, board.enableTimeline());
+        assertEquals(List.of(), enabled.getMatchTimeline("Brazil", "Croatia"));
+        board.updateScore("Brazil", "Croatia", 1, 0);
+        assertEquals(1, enabled.getMatchTimeline("Brazil", "Croatia").size());
+        assertThrows(IllegalStateException.class, () -> board.enableTimeline(clock, 1, 1));
+        assertThrows(IllegalArgumentException.class, () -> new Scoreboard().enableTimeline(clock, 0, 1));
+        assertThrows(IllegalArgumentException.class, () -> new Scoreboard().enableTimeline(null, 1, 1));
+    }
+
+    private static final class ManualClock extends Clock {
+        private long millis;
+
+        void advance(long delta) {
+            millis += delta;
+        }
+
+        @Override
+        public long millis() {
+            return millis;
+        }
+
+        @Override
+        public Instant instant() {
+            return Instant.ofEpochMilli(millis);
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return this;
+        }
+    }
+}
@@ -0,0 +1,249 @@
+package com.ivana.scoreboard;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.*;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class GroupStandingsTest {
+    private Scoreboard scoreboard;
+    private GroupStandings standings;
+    private long sequence;
+
+    @BeforeEach
+    void setUp() {
+        scoreboard = new Scoreboard();
+        standings = new GroupStandings();
+        standings.defineGroup("A", List.of("Qatar", "Ecuador", "Senegal", "Netherlands"));
+        standings.defineGroup("B", List.of("England", "Iran", "USA", "Wales"));
+    }
+
+    @Test
+    @DisplayName("Live scores should count as provisional results and be replaced by every update")
+    void apply_shouldTrackProvisionalResults() {
+        started("Qatar", "Ecuador");
+        assertEquals(new GroupStandings.Standing("Ecuador", 1, 0, 1, 0, 0, 0, 1), standings.getTable("A").get(0));
+
+        updated("QATAR", "ecuador", 0, 1);
+        updated("Qatar", "Ecuador", 0, 2);
+        List<GroupStandings.Standing> table = standings.getTable("A");
+        assertEquals(new GroupStandings.Standing("Ecuador", 1, 1, 0, 0, 2, 0, 3), table.get(0));
+        assertEquals(new GroupStandings.Standing("Qatar", 1, 0, 0, 1, 0, 2, 0), table.get(3));
+        assertEquals(-2, table.get(3).goalDifference());
+
+        finished("Qatar", "Ecuador", 0, 2);
+        assertEquals(table, standings.getTable("A"));
+        assertEquals(sequence, standings.getLastSequence());
+    }
+
+    @Test
+    @DisplayName("Teams should be ordered by points, goal difference, goals scored and name")
+    void getTable_shouldApplyTiebreakers() {
+        play("Qatar", "Ecuador", 0, 2);
+        play("Senegal", "Netherlands", 0, 2);
+        play("Qatar", "Senegal", 1, 3);
+        play("Netherlands", "Ecuador", 1, 1);
+        play("Ecuador", "Senegal", 1, 2);
+        play("Netherlands", "Qatar", 2, 0);
+
+        assertEquals(List.of("Netherlands", "Senegal", "Ecuador", "Qatar"),
+                standings.getTable("A").stream().map(GroupStandings.Standing::team).toList());
+        assertEquals(new GroupStandings.Standing("Netherlands", 3, 2, 1, 0, 5, 1, 7), standings.getTable("A").get(0));
+
+        assertEquals(List.of("England", "Iran", "USA", "Wales"),
+                standings.getTable("B").stream().map(GroupStandings.Standing::team).toList());
+        assertEquals(List.of("A", "B"), new ArrayList<>(standings.getTables().keySet()));
+    }
+
+    @Test
+    @DisplayName("Unchanged groups should return the cached table")
+    void getTable_shouldCacheUnchangedGroups() {
+        started("England", "Iran");
+        List<GroupStandings.Standing> groupA = standings.getTable("A");
+        List<GroupStandings.Standing> groupB = standings.getTable("B");
+
+        updated("England", "Iran", 1, 0);
+
+        assertSame(groupA, standings.getTable("A"));
+        assertNotSame(groupB, standings.getTable("B"));
+        assertThrows(UnsupportedOperationException.class, () -> standings.getTable("A").remove(0));
+    }
+
+    @Test
+    @DisplayName("Matches outside a group and events of matches started before subscribing should be handled")
+    void apply_shouldIgnoreMatchesOutsideGroups() {
+        started("Qatar", "England");
+        updated("Qatar", "England", 3, 0);
+        updated("Wales", "Iran", 0, 2);
+        finished("USA", "Wales", 1, 1);
+
+        assertTrue(standings.getTable("A").stream().allMatch(standing -> standing.played() == 0));
+        assertEquals(new GroupStandings.Standing("Iran", 1, 1, 0, 0, 2, 0, 3), standings.getTable("B").get(0));
+        assertEquals(new GroupStandings.Standing("USA", 1, 0, 1, 0, 1, 1, 1), standings.getTable("B").get(1));
+        assertEquals(new GroupStandings.Standing("Wales", 2, 0, 1, 1, 1, 3, 1), standings.getTable("B").get(2));
+    }
+
+    @Test
+    @DisplayName("Defining groups should reject empty names and teams that already have a group")
+    void defineGroup_shouldValidate() {
+        assertThrows(IllegalArgumentException.class, () -> standings.defineGroup(" ", List.of("Spain")));
+        assertThrows(IllegalArgumentException.class, () -> standings.defineGroup("A", List.of("Spain")));
+        assertThrows(IllegalArgumentException.class, () -> standings.defineGroup("C", List.of("Spain", "")));
+        assertThrows(IllegalArgumentException.class, () -> standings.defineGroup("C", List.of("Spain", " qatar")));
+        assertThrows(IllegalArgumentException.class, () -> standings.defineGroup("C", List.of("Spain", "SPAIN")));
+        assertThrows(IllegalArgumentException.class, () -> standings.getTable("C"));
+
+        standings.defineGroup("C", List.of("Argentina", "Mexico"));
+        assertEquals(2, standings.getTable("C").size());
+    }
+
+    @Test
+    @DisplayName("Standings subscribed to a scoreboard should equal standings computed from the final results")
+    void shouldFollowScoreboardEvents() throws InterruptedException {
+        List<String> teams = new ArrayList<>();
+        GroupStandings live = new GroupStandings();
+        for (int group = 0; group < 8; group++) {
+            List<String> groupTeams = List.of("Team " + group + "a", "Team " + group + "b", "Team " + group + "c", "Team " + group + "d");
+            live.defineGroup("Group " + group, groupTeams);
+            teams.addAll(groupTeams);
+        }
+        scoreboard.getEvents().subscribe(live);
+        Random random = new Random(18);
+        Map<String, int[]> points = new HashMap<>();
+        for (int round = 0; round < 3; round++) {
+            for (int group = 0; group < 8; group++) {
+                String home = teams.get(group * 4 + round);
+                String away = teams.get(group * 4 + 3);
+                scoreboard.startMatch(home, away);
+                int homeScore = 0;
+                int awayScore = 0;
+                for (int update = 0; update < 5; update++) {
+                    homeScore = random.nextInt(4);
+                    awayScore = random.nextInt(4);
+                    scoreboard.updateScore(home, away, homeScore, awayScore);
+                }
+                scoreboard.finishMatch(home, away);
+                points.computeIfAbsent(home, team -> new int[1])[0] += homeScore > awayScore ? 3 : homeScore == awayScore ? 1 : 0;
+                points.computeIfAbsent(away, team -> new int[1])[0] += awayScore > homeScore ? 3 : homeScore == awayScore ? 1 : 0;
+            }
+        }
+
+        long deadline = System.nanoTime() + 5_000_000_000L;
+        while (live.getLastSequence() < scoreboard.getVersion() && System.nanoTime() < deadline) {
+            Thread.sleep(10);
+        }
+        assertEquals(scoreboard.getVersion(), live.getLastSequence());
+        for (List<GroupStandings.Standing> table : live.getTables().values()) {
+            for (GroupStandings.Standing standing : table) {
+                assertEquals(points.get(standing.team())[0], standing.points());
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("Rebuilding after missed events should take the provisional results from the scoreboard")
+    void rebuild_shouldResynchronizeAfterMissedEvents() {
+        scoreboard.startMatch("Qatar", "Ecuador");
+        scoreboard.updateScore("Qatar", "Ecuador", 1, 0);
+        scoreboard.startMatch("England", "Iran");
+        scoreboard.updateScore("England", "Iran", 0, 2);
+        scoreboard.startMatch("Senegal", "Netherlands");
+        scoreboard.updateScore("Qatar", "Ecuador", 2, 1);
+        scoreboard.finishMatch("England", "Iran");
+        scoreboard.updateScore("Senegal", "Netherlands", 2, 2);
+        assertEquals(8, scoreboard.getVersion());
+
+        standings.apply(new ScoreboardEvent.MatchStarted(1, matchKey("Qatar", "Ecuador"), "Qatar", "Ecuador"));
+        standings.apply(new ScoreboardEvent.ScoreUpdated(2, matchKey("Qatar", "Ecuador"), "Qatar", "Ecuador", 1, 0));
+        standings.apply(new ScoreboardEvent.MatchStarted(3, matchKey("England", "Iran"), "England", "Iran"));
+        standings.apply(new ScoreboardEvent.ScoreUpdated(4, matchKey("England", "Iran"), "England", "Iran", 0, 2));
+        assertFalse(standings.hasMissedEvents());
+        standings.apply(new ScoreboardEvent.ScoreUpdated(8, matchKey("Senegal", "Netherlands"), "Senegal", "Netherlands", 2, 2));
+        assertTrue(standings.hasMissedEvents());
+
+        standings.rebuild(scoreboard, scoreboard::getVersion);
+        assertFalse(standings.hasMissedEvents());
+        assertEquals(8, standings.getLastSequence());
+        standings.apply(new ScoreboardEvent.ScoreUpdated(6, matchKey("Qatar", "Ecuador"), "Qatar", "Ecuador", 2, 1));
+        scoreboard.updateScore("Qatar", "Ecuador", 3, 1);
+        standings.apply(new ScoreboardEvent.ScoreUpdated(9, matchKey("Qatar", "Ecuador"), "Qatar", "Ecuador", 3, 1));
+
+        assertFalse(standings.hasMissedEvents());
+        assertEquals(new GroupStandings.Standing("Qatar", 1, 1, 0, 0, 3, 1, 3), standings.getTable("A").get(0));
+        assertEquals(new GroupStandings.Standing("Netherlands", 1, 0, 1, 0, 2, 2, 1), standings.getTable("A").get(1));
+        assertEquals(new GroupStandings.Standing("Senegal", 1, 0, 1, 0, 2, 2, 1), standings.getTable("A").get(2));
+        assertEquals(new GroupStandings.Standing("Ecuador", 1, 0, 0, 1, 1, 3, 0), standings.getTable("A").get(3));
+        assertEquals(new GroupStandings.Standing("Iran", 1, 1, 0, 0, 2, 0, 3), standings.getTable("B").get(0));
+        assertEquals(new GroupStandings.Standing("England", 1, 0, 0, 1, 0, 2, 0), standings.getTable("B").get(3));
+    }
+
+    @Test
+    @DisplayName("Events of changes made while rebuilding should replace the rebuilt results instead of adding to them")
+    void rebuild_shouldApplyLaterEventsOnceFromAnyScoreboard() {
+        ConcurrentScoreboard board = new ConcurrentScoreboard();
+        board.startMatch("Qatar", "Ecuador");
+        board.updateScore("Qatar", "Ecuador", 1, 0);
+        board.startMatch("England", "Iran");
+        board.updateScore("England", "Iran", 0, 1);
+        board.updateScore("England", "Iran", 0, 2);
+        board.updateScore("England", "Iran", 0, 3);
+        board.finishMatch("England", "Iran");
+        board.updateScore("Qatar", "Ecuador", 2, 0);
+        assertEquals(8, board.getVersion());
+
+        standings.apply(new ScoreboardEvent.MatchStarted(1, matchKey("Qatar", "Ecuador"), "Qatar", "Ecuador"));
+        standings.apply(new ScoreboardEvent.ScoreUpdated(2, matchKey("Qatar", "Ecuador"), "Qatar", "Ecuador", 1, 0));
+        standings.apply(new ScoreboardEvent.MatchStarted(3, matchKey("England", "Iran"), "England", "Iran"));
+        standings.apply(new ScoreboardEvent.ScoreUpdated(5, matchKey("England", "Iran"), "England", "Iran", 0, 2));
+        assertTrue(standings.hasMissedEvents());
+        // version 5 was read before the last three changes, whose events are still on their way
+        standings.rebuild(board, () -> 5);
+        assertEquals(new GroupStandings.Standing("Iran", 1, 1, 0, 0, 2, 0, 3), standings.getTable("B").get(0));
+
+        standings.apply(new ScoreboardEvent.ScoreUpdated(6, matchKey("England", "Iran"), "England", "Iran", 0, 3));
+        standings.apply(new ScoreboardEvent.MatchFinished(7, matchKey("England", "Iran"), "England", "Iran", 0, 3));
+        standings.apply(new ScoreboardEvent.ScoreUpdated(8, matchKey("Qatar", "Ecuador"), "Qatar", "Ecuador", 2, 0));
+
+        assertFalse(standings.hasMissedEvents());
+        assertEquals(new GroupStandings.Standing("Qatar", 1, 1, 0, 0, 2, 0, 3), standings.getTable("A").get(0));
+        assertEquals(new GroupStandings.Standing("Iran", 1, 1, 0, 0, 3, 0, 3), standings.getTable("B").get(0));
+        assertEquals(new GroupStandings.Standing("England", 1, 0, 0, 1, 0, 3, 0), standings.getTable("B").get(3));
+
+        try (SingleWriterScoreboard singleWriter = new SingleWriterScoreboard()) {
+            singleWriter.startMatch("Senegal", "Netherlands");
+            singleWriter.updateScore("Senegal", "Netherlands", 0, 2).join();
+            GroupStandings rebuilt = new GroupStandings();
+            rebuilt.defineGroup("A", List.of("Qatar", "Ecuador", "Senegal", "Netherlands"));
+            rebuilt.rebuild(singleWriter);
+            assertEquals(new GroupStandings.Standing("Netherlands", 1, 1, 0, 0, 2, 0, 3), rebuilt.getTable("A").get(0));
+            assertEquals(2, rebuilt.getLastSequence());
+        }
+    }
+
+    private void play(String homeTeam, String awayTeam, int homeScore, int awayScore) {
+        started(homeTeam, awayTeam);
+        updated(homeTeam, awayTeam, homeScore, awayScore);
+        finished(homeTeam, awayTeam, homeScore, awayScore);
+    }
+
+    private void started(String homeTeam, String awayTeam) {
+        standings.apply(new ScoreboardEvent.MatchStarted(++sequence, matchKey(homeTeam, awayTeam), homeTeam, awayTeam));
+    }
+
+    private void updated(String homeTeam, String awayTeam, int homeScore, int awayScore) {
+        standings.apply(new ScoreboardEvent.ScoreUpdated(++sequence, matchKey(homeTeam, awayTeam), homeTeam, awayTeam,
+                homeScore, awayScore));
+    }
+
+    private void finished(String homeTeam, String awayTeam, int homeScore, int awayScore) {
+        standings.apply(new ScoreboardEvent.MatchFinished(++sequence, matchKey(homeTeam, awayTeam), homeTeam, awayTeam,
+                homeScore, awayScore));
+    }
+
+    private static String matchKey(String homeTeam, String awayTeam) {
+        return homeTeam.trim().toLowerCase() + "_vs_" + awayTeam.trim().toLowerCase();
+    }
+}
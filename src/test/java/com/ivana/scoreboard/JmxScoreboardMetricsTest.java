@@ -0,0 +1,86 @@
+package com.ivana.scoreboard;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import javax.management.MBeanServer;
+import javax.management.openmbean.CompositeData;
+import javax.management.openmbean.TabularData;
+import java.lang.management.ManagementFactory;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class JmxScoreboardMetricsTest {
+    private JmxScoreboardMetrics metrics;
+    private Scoreboard scoreboard;
+
+    @BeforeEach
+    void setUp() {
+        metrics = JmxScoreboardMetrics.register("test");
+        scoreboard = new Scoreboard();
+        scoreboard.setMetrics(metrics);
+    }
+
+    @AfterEach
+    void tearDown() {
+        metrics.close();
+    }
+
+    @Test
+    @DisplayName("Metrics should count operations, rejections and latencies of the scoreboard")
+    void shouldRecordScoreboardOperations() {
+        scoreboard.startMatch("Brazil", "Croatia");
+        scoreboard.startMatch("Spain", "Italy");
+        assertEquals(4, metrics.getActiveTeams());
+        scoreboard.updateScore("Brazil", "Croatia", 1, 0);
+        assertThrows(IllegalArgumentException.class, () -> scoreboard.updateScore("Brazil", "Croatia", -1, 0));
+        assertThrows(IllegalStateException.class, () -> scoreboard.finishMatch("Germany", "France"));
+        scoreboard.finishMatch("Spain", "Italy");
+        scoreboard.getSummary();
+
+        Map<String, Long> counts = metrics.getOperationCounts();
+        assertEquals(2, counts.get("START_MATCH"));
+        assertEquals(2, counts.get("UPDATE_SCORE"));
+        assertEquals(2, counts.get("FINISH_MATCH"));
+        assertEquals(1, counts.get("GET_SUMMARY"));
+        assertEquals(Map.of("UPDATE_SCORE: Score can not be a negative number", 1L,
+                "FINISH_MATCH: Can not finish the match that is not ongoing", 1L), metrics.getRejectionCounts());
+        assertEquals(2, metrics.getLatencies(ScoreboardMetrics.Operation.START_MATCH).getCount());
+        assertTrue(metrics.getLatencyMax().get("START_MATCH") > 0);
+        assertEquals(1, metrics.getActiveMatches());
+        assertEquals(2, metrics.getActiveTeams());
+
+        metrics.reset();
+        assertEquals(0, metrics.getOperationCounts().get("START_MATCH"));
+        assertEquals(Map.of(), metrics.getRejectionCounts());
+    }
+
+    @Test
+    @DisplayName("Metrics should be readable through the platform MBean server")
+    void shouldExposeMetricsOverJmx() throws Exception {
+        scoreboard.startMatch("Brazil", "Croatia");
+        MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+
+        assertEquals(1, server.getAttribute(metrics.getObjectName(), "ActiveMatches"));
+        TabularData counts = (TabularData) server.getAttribute(metrics.getObjectName(), "OperationCounts");
+        CompositeData startMatch = counts.get(new Object[]{"START_MATCH"});
+        assertEquals(1L, startMatch.get("value"));
+        assertThrows(IllegalStateException.class, () -> JmxScoreboardMetrics.register("test"));
+
+        metrics.close();
+        assertFalse(server.isRegistered(metrics.getObjectName()));
+    }
+
+    @Test
+    @DisplayName("No-op metrics should be the default and null metrics should be rejected")
+    void setMetrics_shouldRejectNull() {
+        assertThrows(IllegalArgumentException.class, () -> scoreboard.setMetrics(null));
+        scoreboard.setMetrics(ScoreboardMetrics.NOOP);
+        scoreboard.startMatch("Brazil", "Croatia");
+
+        assertEquals(0, metrics.getOperationCounts().get("START_MATCH"));
+    }
+}
@@ -0,0 +1,188 @@
+package com.ivana.scoreboard;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class JournaledScoreboardTest {
+
+    @TempDir
+    Path directory;
+
+    @Test
+    @DisplayName("Reopened scoreboard should have the same matches, scores and start order")
+    void shouldRecoverBoardFromJournal() {
+        List<String> summary;
+        try (JournaledScoreboard scoreboard = new JournaledScoreboard(directory)) {
+            scoreboard.startMatch("Germany", "France");
+            scoreboard.updateScore("Germany", "France", 2, 2);
+            scoreboard.startMatch("Italy", "Portugal");
+            scoreboard.updateScore("Italy", "Portugal", 1, 3);
+            scoreboard.startMatch("Spain", "Brazil");
+            scoreboard.startMatch("Mexico", "Canada");
+            scoreboard.finishMatch("Spain", "Brazil");
+            summary = scoreboard.getSummary();
+        }
+
+        try (JournaledScoreboard recovered = new JournaledScoreboard(directory)) {
+            assertEquals(summary, recovered.getSummary());
+            assertEquals(List.of("Italy 1 - Portugal 3", "Germany 2 - France 2", "Mexico 0 - Canada 0"), recovered.getSummary());
+            assertEquals(6, recovered.getActiveTeams().size());
+        }
+    }
+
+    @Test
+    @DisplayName("Rejected operations should not be journaled")
+    void shouldNotJournalRejectedOperations() {
+        try (JournaledScoreboard scoreboard = new JournaledScoreboard(directory)) {
+            scoreboard.startMatch("Brazil", "Croatia");
+            assertThrows(IllegalArgumentException.class, () -> scoreboard.updateScore("Brazil", "Croatia", -1, 0));
+            assertThrows(IllegalStateException.class, () -> scoreboard.startMatch("Brazil", "Spain"));
+        }
+
+        try (JournaledScoreboard recovered = new JournaledScoreboard(directory)) {
+            assertEquals(List.of("Brazil 0 - Croatia 0"), recovered.getSummary());
+        }
+    }
+
+    @Test
+    @DisplayName("Batch of score updates should be recovered from the journal")
+    void shouldRecoverBatch() {
+        try (JournaledScoreboard scoreboard = new JournaledScoreboard(directory)) {
+            scoreboard.startMatch("Brazil", "Croatia");
+            scoreboard.startMatch("Spain", "Italy");
+            scoreboard.applyBatch(List.of(new ScoreUpdate("Brazil", "Croatia", 1, 0), new ScoreUpdate("Spain", "Italy", 3, 1)));
+            assertThrows(IllegalStateException.class, () -> scoreboard.applyBatch(List.of(
+                    new ScoreUpdate("Brazil", "Croatia", 2, 0), new ScoreUpdate("Germany", "France", 1, 0))));
+        }
+
+        try (JournaledScoreboard recovered = new JournaledScoreboard(directory)) {
+            assertEquals(List.of("Spain 3 - Italy 1", "Brazil 1 - Croatia 0"), recovered.getSummary());
+        }
+    }
+
+    @Test
+    @DisplayName("Snapshot should replace the journal and recovery should continue with records written after it")
+    void shouldRecoverFromSnapshotAndJournalTail() throws IOException {
+        try (JournaledScoreboard scoreboard = new JournaledScoreboard(directory, 16, 10, 5)) {
+            for (int i = 0; i < 10; i++) {
+                scoreboard.startMatch("Home " + i, "Away " + i);
+                scoreboard.updateScore("Home " + i, "Away " + i, i % 3, 1);
+            }
+            scoreboard.finishMatch("Home 4", "Away 4");
+            scoreboard.updateScore("Home 9", "Away 9", 5, 5);
+        }
+        try (Stream<Path> files = Files.list(directory)) {
+            assertEquals(2, files.count(), "snapshot and a single journal segment");
+        }
+
+        try (JournaledScoreboard recovered = new JournaledScoreboard(directory)) {
+            Scoreboard expected = new Scoreboard();
+            for (int i = 0; i < 10; i++) {
+                expected.startMatch("Home " + i, "Away " + i);
+                expected.updateScore("Home " + i, "Away " + i, i % 3, 1);
+            }
+            expected.finishMatch("Home 4", "Away 4");
+            expected.updateScore("Home 9", "Away 9", 5, 5);
+            assertEquals(expected.getSummary(), recovered.getSummary());
+        }
+    }
+
+    @Test
+    @DisplayName("Recovery should ignore a torn record at the end of the journal")
+    void shouldIgnoreTornTail() throws IOException {
+        try (JournaledScoreboard scoreboard = new JournaledScoreboard(directory)) {
+            scoreboard.startMatch("Brazil", "Croatia");
+            scoreboard.updateScore("Brazil", "Croatia", 1, 0);
+        }
+        Path segment;
+        try (Stream<Path> files = Files.list(directory)) {
+            segment = files.filter(file -> file.toString().endsWith(".log")).findFirst().orElseThrow();
+        }
+        try (RandomAccessFile file = new RandomAccessFile(segment.toFile(), "rw")) {
+            file.setLength(file.length() - 3);
+        }
+
+        try (JournaledScoreboard recovered = new JournaledScoreboard(directory)) {
+            assertEquals(List.of("Brazil 0 - Croatia 0"), recovered.getSummary());
+            recovered.updateScore("Brazil", "Croatia", 2, 0);
+        }
+        try (JournaledScoreboard recovered = new JournaledScoreboard(directory)) {
+            assertEquals(List.of("Brazil 2 - Croatia 0"), recovered.getSummary());
+        }
+    }
+
+    @Test
+    @DisplayName("A failed journal sync should be thrown again by every later change, sync and close")
+    void shouldKeepFailingAfterSyncFailure() {
+        JournaledScoreboard scoreboard = new JournaledScoreboard(directory, 1_000, 60_000, 1_000);
+        scoreboard.startMatch("Brazil", "Croatia");
+
+        // an interrupted file channel closes itself, so the sync fails with an I/O error
+        Thread.currentThread().interrupt();
+        try {
+            assertThrows(UncheckedIOException.class, scoreboard::sync);
+        } finally {
+            Thread.interrupted();
+        }
+
+        assertThrows(UncheckedIOException.class, () -> scoreboard.updateScore("Brazil", "Croatia", 1, 0));
+        assertThrows(UncheckedIOException.class, () -> scoreboard.startMatch("Spain", "Italy"));
+        assertThrows(UncheckedIOException.class, scoreboard::sync);
+        assertThrows(UncheckedIOException.class, scoreboard::close);
+        assertEquals(List.of("Brazil 0 - Croatia 0"), scoreboard.getSummary());
+    }
+
+    @Test
+    @DisplayName("A change the journal fails to append should leave the board unchanged")
+    void shouldNotChangeBoardWhenAppendFails() {
+        String longName = "Brazil".repeat(11_000);
+        try (JournaledScoreboard scoreboard = new JournaledScoreboard(directory, 1, 60_000, 1_000)) {
+            scoreboard.startMatch("Brazil", "Croatia");
+            assertThrows(IllegalArgumentException.class, () -> scoreboard.startMatch(longName, "Spain"));
+            assertEquals(2, scoreboard.getActiveTeams().size());
+            scoreboard.updateScore("Brazil", "Croatia", 1, 0);
+        }
+
+        JournaledScoreboard scoreboard = new JournaledScoreboard(directory, 1, 60_000, 1_000);
+        assertEquals(List.of("Brazil 1 - Croatia 0"), scoreboard.getSummary());
+        // an interrupted file channel closes itself, so appending and syncing the update fails with an I/O error
+        Thread.currentThread().interrupt();
+        try {
+            assertThrows(UncheckedIOException.class, () -> scoreboard.updateScore("Brazil", "Croatia", 2, 0));
+        } finally {
+            Thread.interrupted();
+        }
+        assertEquals(List.of("Brazil 1 - Croatia 0"), scoreboard.getSummary());
+        assertEquals(2, scoreboard.getBoard().getVersion());
+        assertThrows(UncheckedIOException.class, scoreboard::close);
+    }
+
+    @Test
+    @DisplayName("Snapshot should store every team name the journal accepts")
+    void snapshot_shouldStoreLongTeamNames() {
+        // 64000 bytes of UTF-8, but 96000 bytes of the modified UTF-8 of DataOutputStream.writeUTF
+        String longName = "\uD83C\uDFC6".repeat(16_000);
+        List<String> summary;
+        try (JournaledScoreboard scoreboard = new JournaledScoreboard(directory)) {
+            scoreboard.startMatch(longName, "Croatia");
+            scoreboard.updateScore(longName, "Croatia", 1, 0);
+            scoreboard.snapshot();
+            summary = scoreboard.getSummary();
+        }
+
+        try (JournaledScoreboard recovered = new JournaledScoreboard(directory)) {
+            assertEquals(summary, recovered.getSummary());
+        }
+    }
+}
@@ -0,0 +1,35 @@
+package com.ivana.scoreboard;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.*;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class LongIntIndexTest {
+
+    @Test
+    @DisplayName("Index should behave like a hash map under random puts and removes")
+    void shouldBehaveLikeHashMap() {
+        LongIntIndex index = new LongIntIndex();
+        Map<Long, Integer> reference = new HashMap<>();
+        Random random = new Random(22);
+        for (int i = 0; i < 100_000; i++) {
+            long key = random.nextInt(5_000) * 0x1_0000_0001L;
+            if (random.nextBoolean()) {
+                index.put(key, i);
+                reference.put(key, i);
+            } else {
+                assertEquals(reference.getOrDefault(key, -1), index.remove(key));
+                reference.remove(key);
+            }
+            assertEquals(reference.getOrDefault(key, -1), index.get(key));
+        }
+
+        assertEquals(reference.size(), index.size());
+        for (Map.Entry<Long, Integer> entry : reference.entrySet()) {
+            assertEquals(entry.getValue(), index.get(entry.getKey()));
+        }
+    }
+}
@@ -0,0 +1,91 @@
+package com.ivana.scoreboard;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class MappedScoreboardSnapshotTest {
+
+    @TempDir
+    Path directory;
+
+    private Scoreboard scoreboard;
+    private Path file;
+
+    @BeforeEach
+    void setUp() {
+        scoreboard = new Scoreboard();
+        scoreboard.startMatch("Mexico", "Canada");
+        scoreboard.updateScore("Mexico", "Canada", 0, 5);
+        scoreboard.startMatch("Spain", "Brazil");
+        scoreboard.updateScore("Spain", "Brazil", 10, 2);
+        scoreboard.startMatch("Germany", "France");
+        scoreboard.updateScore("Germany", "France", 2, 2);
+        scoreboard.startMatch("Uruguay", "Italy");
+        scoreboard.updateScore("Uruguay", "Italy", 6, 6);
+        scoreboard.startMatch("Argentina", "Australia");
+        scoreboard.updateScore("Argentina", "Australia", 3, 1);
+        file = directory.resolve("board.snapshot");
+    }
+
+    @Test
+    @DisplayName("Mapped snapshot should serve the same summary as the scoreboard it was written from")
+    void getSummary_shouldMatchScoreboard() {
+        scoreboard.writeSnapshot(file);
+        MappedScoreboardSnapshot snapshot = MappedScoreboardSnapshot.open(file);
+
+        assertEquals(scoreboard.getSummary(), snapshot.getSummary());
+        assertEquals(scoreboard.getVersion(), snapshot.getVersion());
+        assertEquals(5, snapshot.size());
+        assertEquals("Uruguay 6 - Italy 6", snapshot.getSummaryLine(0));
+        assertThrows(UnsupportedOperationException.class, () -> snapshot.getSummary().add("Spain 0 - Italy 0"));
+        assertThrows(IndexOutOfBoundsException.class, () -> snapshot.getSummaryLine(5));
+    }
+
+    @Test
+    @DisplayName("Loaded scoreboard should keep the scores and tie-break order and accept new operations")
+    void loadSnapshot_shouldRestoreScoreboard() {
+        scoreboard.writeSnapshot(file);
+        Scoreboard loaded = Scoreboard.loadSnapshot(file);
+
+        assertEquals(scoreboard.getSummary(), loaded.getSummary());
+        assertEquals(new ArrayList<>(scoreboard.getScoreboard().keySet()), new ArrayList<>(loaded.getScoreboard().keySet()));
+        assertEquals(scoreboard.getActiveTeams(), loaded.getActiveTeams());
+
+        loaded.finishMatch("Spain", "Brazil");
+        loaded.startMatch("Spain", "Portugal");
+        assertEquals(List.of("Uruguay 6 - Italy 6", "Mexico 0 - Canada 5", "Argentina 3 - Australia 1",
+                "Germany 2 - France 2", "Spain 0 - Portugal 0"), loaded.getSummary());
+    }
+
+    @Test
+    @DisplayName("Snapshot of an empty scoreboard should have an empty summary")
+    void shouldWriteEmptyScoreboard() {
+        new Scoreboard().writeSnapshot(file);
+
+        assertEquals(List.of(), MappedScoreboardSnapshot.open(file).getSummary());
+    }
+
+    @Test
+    @DisplayName("Opening a file that is not a complete snapshot should fail")
+    void open_shouldRejectInvalidFile() throws IOException {
+        Files.write(file, new byte[]{1, 2, 3, 4});
+        assertThrows(UncheckedIOException.class, () -> MappedScoreboardSnapshot.open(file));
+
+        scoreboard.writeSnapshot(file);
+        byte[] data = Files.readAllBytes(file);
+        Files.write(file, Arrays.copyOf(data, data.length - 1));
+        assertThrows(UncheckedIOException.class, () -> MappedScoreboardSnapshot.open(file));
+    }
+}
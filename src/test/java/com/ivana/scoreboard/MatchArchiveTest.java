@@ -0,0 +1,114 @@
+package com.ivana.scoreboard;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.*;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class MatchArchiveTest {
+    private Scoreboard scoreboard;
+    private MatchArchive archive;
+
+    @BeforeEach
+    void setUp() {
+        scoreboard = new Scoreboard();
+        archive = scoreboard.enableArchive();
+    }
+
+    @Test
+    @DisplayName("Finished matches should be archived with their final score and sequences")
+    void finishMatch_shouldArchiveMatch() {
+        scoreboard.startMatch("Brazil", "Croatia");
+        scoreboard.updateScore("Brazil", "Croatia", 2, 1);
+        scoreboard.startMatch("Spain", "Italy");
+        scoreboard.finishMatch("Brazil", "Croatia");
+        assertThrows(IllegalStateException.class, () -> scoreboard.finishMatch("Brazil", "Croatia"));
+
+        assertEquals(1, archive.size());
+        assertEquals(new MatchArchive.ArchivedMatch("brazil", "croatia", 2, 1, 0, 4), archive.get(0));
+        assertSame(archive, scoreboard.enableArchive());
+        assertThrows(IndexOutOfBoundsException.class, () -> archive.get(1));
+    }
+
+    @Test
+    @DisplayName("Team records should count results and goals from home and away matches")
+    void getTeamRecord_shouldAggregateResults() {
+        play("Brazil", "Croatia", 2, 1);
+        play("Spain", "Brazil", 0, 0);
+        play("Brazil", "Spain", 1, 3);
+        play("Croatia", "Spain", 4, 4);
+
+        assertEquals(new MatchArchive.TeamRecord("brazil", 3, 1, 1, 1, 3, 4), archive.getTeamRecord(" BRAZIL"));
+        assertEquals(-1, archive.getTeamRecord("Brazil").goalDifference());
+        assertEquals(new MatchArchive.TeamRecord("germany", 0, 0, 0, 0, 0, 0), archive.getTeamRecord("Germany"));
+        assertEquals(List.of(
+                new MatchArchive.TeamRecord("brazil", 3, 1, 1, 1, 3, 4),
+                new MatchArchive.TeamRecord("croatia", 2, 0, 1, 1, 5, 6),
+                new MatchArchive.TeamRecord("spain", 3, 1, 2, 0, 7, 5)), archive.getTeamRecords());
+    }
+
+    @Test
+    @DisplayName("Highest scoring matches should be ordered by goals, then by the most recently finished")
+    void getHighestScoringMatches_shouldReturnTopMatches() {
+        play("Brazil", "Croatia", 2, 1);
+        play("Spain", "Brazil", 5, 0);
+        play("Brazil", "Spain", 1, 2);
+        play("Croatia", "Spain", 4, 4);
+
+        assertEquals(List.of("croatia_vs_spain", "spain_vs_brazil", "brazil_vs_spain"),
+                archive.getHighestScoringMatches(3).stream().map(m -> m.homeTeam() + "_vs_" + m.awayTeam()).toList());
+        assertEquals(4, archive.getHighestScoringMatches(10).size());
+        assertEquals(4, archive.getHighestScoringMatches(Integer.MAX_VALUE).size());
+        assertEquals(List.of(), archive.getHighestScoringMatches(0));
+        assertThrows(IllegalArgumentException.class, () -> archive.getHighestScoringMatches(-1));
+    }
+
+    @Test
+    @DisplayName("Parallel aggregates should equal sequential aggregates over a large history")
+    void shouldAggregateLargeHistory() {
+        Random random = new Random(4);
+        Map<String, long[]> expected = new HashMap<>();
+        for (int i = 0; i < 50_000; i++) {
+            String home = "Team " + random.nextInt(40);
+            String away = "Team " + random.nextInt(40);
+            if (home.equals(away)) {
+                continue;
+            }
+            int homeScore = random.nextInt(6);
+            int awayScore = random.nextInt(6);
+            play(home, away, homeScore, awayScore);
+            expected.computeIfAbsent(home.toLowerCase(), team -> new long[3])[0] += homeScore;
+            expected.get(home.toLowerCase())[1] += awayScore;
+            expected.get(home.toLowerCase())[2]++;
+            expected.computeIfAbsent(away.toLowerCase(), team -> new long[3])[0] += awayScore;
+            expected.get(away.toLowerCase())[1] += homeScore;
+            expected.get(away.toLowerCase())[2]++;
+        }
+
+        List<MatchArchive.TeamRecord> records = archive.getTeamRecords();
+        assertEquals(expected.size(), records.size());
+        for (MatchArchive.TeamRecord record : records) {
+            long[] totals = expected.get(record.team());
+            assertEquals(totals[0], record.goalsFor());
+            assertEquals(totals[1], record.goalsAgainst());
+            assertEquals(totals[2], record.played());
+            assertEquals(record.played(), record.wins() + record.draws() + record.losses());
+            assertEquals(record, archive.getTeamRecord(record.team()));
+        }
+        List<MatchArchive.ArchivedMatch> top = archive.getHighestScoringMatches(50);
+        assertEquals(50, top.size());
+        assertTrue(top.stream().allMatch(match -> match.homeScore() + match.awayScore() == 10));
+        for (int i = 1; i < top.size(); i++) {
+            assertTrue(top.get(i - 1).finishSequence() > top.get(i).finishSequence());
+        }
+    }
+
+    private void play(String homeTeam, String awayTeam, int homeScore, int awayScore) {
+        scoreboard.startMatch(homeTeam, awayTeam);
+        scoreboard.updateScore(homeTeam, awayTeam, homeScore, awayScore);
+        scoreboard.finishMatch(homeTeam, awayTeam);
+    }
+}
@@ -0,0 +1,48 @@
+package com.ivana.scoreboard;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.*;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class MatchTableTest {
+
+    @Test
+    @DisplayName("Match key should keep both team ids")
+    void matchKey_shouldKeepBothTeamIds() {
+        long key = MatchTable.matchKey(7, 123_456);
+
+        assertEquals(7, MatchTable.homeTeamIdOf(key));
+        assertEquals(123_456, MatchTable.awayTeamIdOf(key));
+    }
+
+    @Test
+    @DisplayName("Match table should behave like an insertion ordered map under random puts and removes")
+    void shouldBehaveLikeLinkedHashMap() {
+        MatchTable table = new MatchTable();
+        LinkedHashMap<Long, FootballMatch> reference = new LinkedHashMap<>();
+        Random random = new Random(42);
+        for (int i = 0; i < 50_000; i++) {
+            long key = MatchTable.matchKey(random.nextInt(300), random.nextInt(300));
+            if (reference.containsKey(key)) {
+                assertSame(reference.remove(key), table.remove(key));
+            } else {
+                FootballMatch match = new FootballMatch("Home " + i, "Away " + i);
+                reference.put(key, match);
+                table.put(key, match);
+            }
+            assertSame(reference.get(key), table.get(key));
+        }
+
+        assertEquals(reference.size(), table.size());
+        List<Long> keys = new ArrayList<>();
+        table.forEach((key, match) -> {
+            keys.add(key);
+            assertSame(reference.get(key), match);
+        });
+        assertEquals(new ArrayList<>(reference.keySet()), keys);
+        assertNull(table.remove(MatchTable.matchKey(1_000, 1_000)));
+    }
+}
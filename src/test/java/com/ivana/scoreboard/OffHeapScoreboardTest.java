@@ -0,0 +1,110 @@
+package com.ivana.scoreboard;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.*;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class OffHeapScoreboardTest {
+    private OffHeapScoreboard scoreboard;
+
+    @BeforeEach
+    void setUp() {
+        scoreboard = new OffHeapScoreboard(4);
+    }
+
+    @Test
+    @DisplayName("Off-heap scoreboard should keep the same validation rules as the scoreboard")
+    void shouldKeepScoreboardValidationRules() {
+        scoreboard.startMatch("Brazil", "Croatia");
+
+        assertEquals("This match is already in progress", assertThrows(IllegalStateException.class,
+                () -> scoreboard.startMatch(" brazil", "CROATIA ")).getMessage());
+        assertEquals("This match can not be initialized since one of the teams is already in the game",
+                assertThrows(IllegalStateException.class, () -> scoreboard.startMatch("Croatia", "Brazil")).getMessage());
+        assertEquals("Team names can not be the same", assertThrows(IllegalArgumentException.class,
+                () -> scoreboard.startMatch("Spain", "spain")).getMessage());
+        assertEquals("Team name can not be null or empty", assertThrows(IllegalArgumentException.class,
+                () -> scoreboard.startMatch(" ", "Spain")).getMessage());
+        assertEquals("Score can not be a negative number", assertThrows(IllegalArgumentException.class,
+                () -> scoreboard.updateScore("Brazil", "Croatia", -1, 0)).getMessage());
+        assertEquals("Can not update match that doesn't exist", assertThrows(IllegalStateException.class,
+                () -> scoreboard.updateScore("Spain", "Italy", 1, 0)).getMessage());
+        assertEquals("Can not finish the match that is not ongoing", assertThrows(IllegalStateException.class,
+                () -> scoreboard.finishMatch("Spain", "Italy")).getMessage());
+        assertThrows(IllegalStateException.class, () -> scoreboard.applyBatch(List.of(
+                new ScoreUpdate("Brazil", "Croatia", 1, 0), new ScoreUpdate("Spain", "Italy", 1, 0))));
+        assertEquals(List.of("Brazil 0 - Croatia 0"), scoreboard.getSummary());
+        assertEquals(Set.of("brazil", "croatia"), scoreboard.getActiveTeams());
+        assertThrows(IllegalArgumentException.class, () -> new OffHeapScoreboard(0));
+    }
+
+    @Test
+    @DisplayName("Matches should be created as detached copies only when asked for")
+    void getMatch_shouldReturnDetachedCopy() {
+        scoreboard.startMatch(" Brazil", "Croatia");
+        scoreboard.updateScore("brazil", "croatia", 2, 1);
+
+        FootballMatch match = scoreboard.getMatch("BRAZIL", "Croatia");
+        assertEquals("Brazil", match.getHomeTeam());
+        assertEquals(2, match.getHomeScore());
+        match.setScore(5, 5);
+        assertEquals(List.of("Brazil 2 - Croatia 1"), scoreboard.getSummary());
+        assertNull(scoreboard.getMatch("Croatia", "Brazil"));
+        assertEquals(Set.of("brazil_vs_croatia"), scoreboard.getScoreboard().keySet());
+    }
+
+    @Test
+    @DisplayName("Off-heap scoreboard should stay equal to the scoreboard under random operations while its slab grows")
+    void shouldMatchScoreboardUnderRandomOperations() {
+        Scoreboard reference = new Scoreboard();
+        Random random = new Random(22);
+        for (int i = 0; i < 20_000; i++) {
+            String home = "Team " + random.nextInt(400);
+            String away = "Team " + random.nextInt(400);
+            int operation = random.nextInt(10);
+            int homeScore = random.nextInt(8);
+            int awayScore = random.nextInt(8);
+            Class<?> expected = outcomeOf(() -> {
+                if (operation < 3) {
+                    reference.startMatch(home, away);
+                } else if (operation < 8) {
+                    reference.updateScore(home, away, homeScore, awayScore);
+                } else {
+                    reference.finishMatch(home, away);
+                }
+            });
+            Class<?> actual = outcomeOf(() -> {
+                if (operation < 3) {
+                    scoreboard.startMatch(home, away);
+                } else if (operation < 8) {
+                    scoreboard.updateScore(home, away, homeScore, awayScore);
+                } else {
+                    scoreboard.finishMatch(home, away);
+                }
+            });
+            assertEquals(expected, actual);
+            if (i % 1_000 == 0) {
+                assertEquals(reference.getSummary(), scoreboard.getSummary());
+            }
+        }
+
+        assertEquals(reference.getSummary(), scoreboard.getSummary());
+        assertEquals(reference.getActiveTeams(), scoreboard.getActiveTeams());
+        assertEquals(new ArrayList<>(reference.getScoreboard().keySet()), new ArrayList<>(scoreboard.getScoreboard().keySet()));
+        assertEquals(reference.getScoreboard().size(), scoreboard.size());
+        assertTrue(scoreboard.getOffHeapBytes() >= 24L * scoreboard.size());
+    }
+
+    private static Class<?> outcomeOf(Runnable operation) {
+        try {
+            operation.run();
+            return null;
+        } catch (RuntimeException e) {
+            return e.getClass();
+        }
+    }
+}
@@ -0,0 +1,66 @@
+package com.ivana.scoreboard;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.*;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class PersistentHashMapTest {
+
+    @Test
+    @DisplayName("Persistent map should behave like a hash map under random changes, including hash collisions")
+    void shouldMatchHashMapUnderRandomChanges() {
+        PersistentHashMap<Key, Integer> map = PersistentHashMap.empty();
+        Map<Key, Integer> reference = new HashMap<>();
+        Random random = new Random(21);
+        for (int i = 0; i < 50_000; i++) {
+            Key key = new Key(random.nextInt(2_000), random.nextInt(3));
+            if (random.nextInt(3) > 0) {
+                map = map.with(key, i);
+                reference.put(key, i);
+            } else {
+                map = map.without(key);
+                reference.remove(key);
+            }
+            assertEquals(reference.size(), map.size());
+        }
+
+        assertEquals(reference, map);
+        assertEquals(reference.size(), new ArrayList<>(map.entrySet()).size());
+        for (int id = 0; id < 2_000; id++) {
+            for (int variant = 0; variant < 3; variant++) {
+                Key key = new Key(id, variant);
+                assertEquals(reference.get(key), map.get(key));
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("Changing a persistent map should leave the previous versions unchanged")
+    void with_shouldNotChangePreviousVersions() {
+        PersistentHashMap<String, Integer> empty = PersistentHashMap.empty();
+        PersistentHashMap<String, Integer> one = empty.with("brazil", 1);
+        PersistentHashMap<String, Integer> two = one.with("croatia", 2);
+        PersistentHashMap<String, Integer> changed = two.with("brazil", 3).without("croatia");
+
+        assertEquals(Map.of(), empty);
+        assertEquals(Map.of("brazil", 1), one);
+        assertEquals(Map.of("brazil", 1, "croatia", 2), two);
+        assertEquals(Map.of("brazil", 3), changed);
+        assertSame(two, two.without("spain"));
+        assertSame(one, one.with("brazil", one.get("brazil")));
+        assertThrows(UnsupportedOperationException.class, () -> two.put("spain", 4));
+    }
+
+    /**
+     * Key whose hash only depends on the ID, so keys with different variants collide.
+     */
+    private record Key(int id, int variant) {
+        @Override
+        public int hashCode() {
+            return id;
+        }
+    }
+}
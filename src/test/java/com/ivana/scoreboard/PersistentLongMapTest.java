@@ -0,0 +1,58 @@
+package com.ivana.scoreboard;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.*;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class PersistentLongMapTest {
+
+    @Test
+    @DisplayName("Persistent long map should behave like a sorted map under random changes and iterate in key order")
+    void shouldMatchTreeMapUnderRandomChanges() {
+        PersistentLongMap<Integer> map = PersistentLongMap.empty();
+        TreeMap<Long, Integer> reference = new TreeMap<>();
+        Random random = new Random(21);
+        for (int i = 0; i < 50_000; i++) {
+            long key = random.nextInt(10) == 0 ? random.nextLong() & Long.MAX_VALUE : random.nextInt(5_000);
+            if (random.nextInt(3) > 0) {
+                map = map.with(key, i);
+                reference.put(key, i);
+            } else {
+                map = map.without(key);
+                reference.remove(key);
+            }
+            assertEquals(reference.size(), map.size());
+            assertEquals(reference.get(key), map.get(key));
+        }
+
+        List<Integer> values = new ArrayList<>();
+        map.forEach(values::add);
+        assertEquals(new ArrayList<>(reference.values()), values);
+        for (Map.Entry<Long, Integer> entry : reference.entrySet()) {
+            assertEquals(entry.getValue(), map.get(entry.getKey()));
+        }
+    }
+
+    @Test
+    @DisplayName("Older versions should stay unchanged and negative keys should be rejected")
+    void shouldKeepOlderVersions() {
+        PersistentLongMap<String> first = PersistentLongMap.<String>empty().with(1, "a").with(40, "b");
+        PersistentLongMap<String> second = first.with(100_000, "c").without(1);
+
+        assertEquals(List.of("a", "b"), toList(first));
+        assertEquals(List.of("b", "c"), toList(second));
+        assertSame(second, second.without(7));
+        assertNull(second.get(-1));
+        assertFalse(PersistentLongMap.empty().iterator().hasNext());
+        assertThrows(IllegalArgumentException.class, () -> first.with(-1, "d"));
+    }
+
+    private static List<String> toList(PersistentLongMap<String> map) {
+        List<String> values = new ArrayList<>();
+        map.forEach(values::add);
+        return values;
+    }
+}
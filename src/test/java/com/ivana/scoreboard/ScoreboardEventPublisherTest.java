@@ -0,0 +1,117 @@
+package com.ivana.scoreboard;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Flow;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ScoreboardEventPublisherTest {
+    private Scoreboard scoreboard;
+
+    @BeforeEach
+    void setUp(){
+        scoreboard = new Scoreboard();
+    }
+
+    @Test
+    @DisplayName("Subscribers should receive start, update and finish events with increasing sequence numbers")
+    void shouldPublishEventsInOrder() throws InterruptedException {
+        CollectingSubscriber subscriber = new CollectingSubscriber(Long.MAX_VALUE, 3);
+        scoreboard.getEvents().subscribe(subscriber);
+
+        scoreboard.startMatch(" Brazil", "Croatia");
+        scoreboard.updateScore("brazil", "croatia", 2, 1);
+        scoreboard.finishMatch("BRAZIL", "CROATIA");
+
+        assertTrue(subscriber.received.await(5, TimeUnit.SECONDS));
+        assertEquals(List.of(
+                new ScoreboardEvent.MatchStarted(1, "brazil_vs_croatia", "Brazil", "Croatia"),
+                new ScoreboardEvent.ScoreUpdated(2, "brazil_vs_croatia", "Brazil", "Croatia", 2, 1),
+                new ScoreboardEvent.MatchFinished(3, "brazil_vs_croatia", "Brazil", "Croatia", 2, 1)
+        ), subscriber.events);
+    }
+
+    @Test
+    @DisplayName("Rejected operations should not publish events")
+    void shouldNotPublishRejectedOperations() throws InterruptedException {
+        CollectingSubscriber subscriber = new CollectingSubscriber(Long.MAX_VALUE, 2);
+        scoreboard.getEvents().subscribe(subscriber);
+
+        scoreboard.startMatch("Brazil", "Croatia");
+        assertThrows(IllegalArgumentException.class, () -> scoreboard.updateScore("Brazil", "Croatia", 101, 0));
+        assertThrows(IllegalStateException.class, () -> scoreboard.startMatch("Brazil", "Spain"));
+        scoreboard.updateScore("Brazil", "Croatia", 0, 1);
+
+        assertTrue(subscriber.received.await(5, TimeUnit.SECONDS));
+        assertEquals(List.of(1L, 2L), subscriber.events.stream().map(ScoreboardEvent::sequence).toList());
+    }
+
+    @Test
+    @DisplayName("A subscriber that stops requesting events should not block updates, its events are dropped")
+    void slowSubscriberShouldNotBlockUpdates() throws InterruptedException {
+        CollectingSubscriber slow = new CollectingSubscriber(1, 1);
+        scoreboard.getEvents().subscribe(slow);
+        scoreboard.startMatch("Brazil", "Croatia");
+        assertTrue(slow.received.await(5, TimeUnit.SECONDS));
+
+        for (int i = 0; i < 2_000; i++) {
+            scoreboard.updateScore("Brazil", "Croatia", i % 10, 0);
+        }
+
+        assertEquals(1, slow.events.size());
+        assertTrue(scoreboard.getEvents().getDroppedEvents() >= 2_000 - Flow.defaultBufferSize());
+    }
+
+    @Test
+    @DisplayName("Closing the publisher should complete the subscribers")
+    void close_shouldCompleteSubscribers() throws InterruptedException {
+        CollectingSubscriber subscriber = new CollectingSubscriber(Long.MAX_VALUE, 0);
+        ScoreboardEventPublisher publisher = new ScoreboardEventPublisher(16);
+        publisher.subscribe(subscriber);
+
+        publisher.close();
+
+        assertTrue(subscriber.completed.await(5, TimeUnit.SECONDS));
+        assertFalse(publisher.hasSubscribers());
+    }
+
+    private static class CollectingSubscriber implements Flow.Subscriber<ScoreboardEvent> {
+        private final long request;
+        private final List<ScoreboardEvent> events = new CopyOnWriteArrayList<>();
+        private final CountDownLatch received;
+        private final CountDownLatch completed = new CountDownLatch(1);
+
+        CollectingSubscriber(long request, int expectedEvents) {
+            this.request = request;
+            this.received = new CountDownLatch(expectedEvents);
+        }
+
+        @Override
+        public void onSubscribe(Flow.Subscription subscription) {
+            subscription.request(request);
+        }
+
+        @Override
+        public void onNext(ScoreboardEvent event) {
+            events.add(event);
+            received.countDown();
+        }
+
+        @Override
+        public void onError(Throwable throwable) {
+            completed.countDown();
+        }
+
+        @Override
+        public void onComplete() {
+            completed.countDown();
+        }
+    }
+}
@@ -0,0 +1,133 @@
+package com.ivana.scoreboard;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.*;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ScoreboardRegistryTest {
+    private ScoreboardRegistry registry;
+
+    @BeforeEach
+    void setUp() {
+        registry = new ScoreboardRegistry(4);
+    }
+
+    @Test
+    @DisplayName("Competitions should be independent scoreboards")
+    void shouldKeepCompetitionsIndependent() {
+        registry.startMatch("world-cup", "Brazil", "Croatia");
+        registry.startMatch("friendlies", "Brazil", "Spain");
+        registry.updateScore("world-cup", "Brazil", "Croatia", 1, 0);
+
+        assertEquals(List.of("Brazil 1 - Croatia 0"), registry.getSummary("world-cup"));
+        assertEquals(List.of("Brazil 0 - Spain 0"), registry.getSummary("friendlies"));
+        assertEquals(List.of(), registry.getSummary("copa-america"));
+        assertEquals(Set.of("world-cup", "friendlies"), registry.getCompetitions());
+        assertThrows(IllegalStateException.class, () -> registry.startMatch("world-cup", "Brazil", "Spain"));
+    }
+
+    @Test
+    @DisplayName("Operations on unknown competitions or with invalid IDs should be rejected")
+    void shouldRejectUnknownCompetitions() {
+        assertEquals("Can not update match that doesn't exist", assertThrows(IllegalStateException.class,
+                () -> registry.updateScore("world-cup", "Brazil", "Croatia", 1, 0)).getMessage());
+        assertEquals("Can not finish the match that is not ongoing", assertThrows(IllegalStateException.class,
+                () -> registry.finishMatch("world-cup", "Brazil", "Croatia")).getMessage());
+        assertEquals("Competition id can not be null or empty", assertThrows(IllegalArgumentException.class,
+                () -> registry.startMatch(" ", "Brazil", "Croatia")).getMessage());
+        assertThrows(IllegalArgumentException.class, () -> registry.getTopSummary(-1));
+        assertThrows(IllegalArgumentException.class, () -> new ScoreboardRegistry(0));
+        assertEquals(Set.of(), registry.getCompetitions());
+    }
+
+    @Test
+    @DisplayName("A removed competition should free its ID for a new competition")
+    void removeCompetition_shouldAllowReusingId() {
+        registry.startMatch("world-cup", "Brazil", "Croatia");
+        registry.updateScore("world-cup", "Brazil", "Croatia", 1, 0);
+        assertEquals("Can not remove a competition with ongoing matches",
+                assertThrows(IllegalStateException.class, () -> registry.removeCompetition("world-cup")).getMessage());
+        registry.finishMatch("world-cup", "Brazil", "Croatia");
+
+        assertTrue(registry.removeCompetition("world-cup"));
+        assertFalse(registry.removeCompetition("world-cup"));
+        assertEquals(Set.of(), registry.getCompetitions());
+        registry.startMatch("world-cup", "Spain", "Italy");
+        assertEquals(List.of("Spain 0 - Italy 0"), registry.getSummary("world-cup"));
+        assertEquals(Set.of("world-cup"), registry.getCompetitions());
+    }
+
+    @Test
+    @DisplayName("Top summary should order matches of all competitions like one scoreboard would")
+    void getTopSummary_shouldMergeCompetitions() {
+        Scoreboard reference = new Scoreboard();
+        Map<String, String> competitionOfLine = new HashMap<>();
+        Random random = new Random(12);
+        for (int i = 0; i < 300; i++) {
+            String competition = "competition-" + random.nextInt(7);
+            String home = "Home " + i;
+            String away = "Away " + i;
+            int homeScore = random.nextInt(5);
+            int awayScore = random.nextInt(5);
+            registry.startMatch(competition, home, away);
+            registry.updateScore(competition, home, away, homeScore, awayScore);
+            reference.startMatch(home, away);
+            reference.updateScore(home, away, homeScore, awayScore);
+            competitionOfLine.put(home + " " + homeScore + " - " + away + " " + awayScore, competition);
+            if (random.nextInt(4) == 0) {
+                registry.finishMatch(competition, home, away);
+                reference.finishMatch(home, away);
+            }
+        }
+
+        List<ScoreboardRegistry.RankedMatch> top = registry.getTopSummary(50);
+
+        assertEquals(reference.getSummary().subList(0, 50), top.stream().map(ScoreboardRegistry.RankedMatch::summaryLine).toList());
+        for (ScoreboardRegistry.RankedMatch match : top) {
+            assertEquals(competitionOfLine.get(match.summaryLine()), match.competitionId());
+        }
+        assertEquals(reference.getSummary().size(), registry.getTopSummary(1000).size());
+        assertEquals(List.of(), registry.getTopSummary(0));
+    }
+
+    @Test
+    @DisplayName("Competitions in different shards should accept updates from many threads")
+    void shouldHandleConcurrentCompetitions() throws Exception {
+        int competitions = 8;
+        ExecutorService executor = Executors.newFixedThreadPool(competitions);
+        List<Future<?>> futures = new ArrayList<>();
+        for (int c = 0; c < competitions; c++) {
+            String competition = "competition-" + c;
+            futures.add(executor.submit(() -> {
+                for (int m = 0; m < 50; m++) {
+                    registry.startMatch(competition, "Home " + m, "Away " + m);
+                }
+                for (int round = 1; round <= 20; round++) {
+                    for (int m = 0; m < 50; m++) {
+                        registry.updateScore(competition, "Home " + m, "Away " + m, round, m % 3);
+                    }
+                    registry.getTopSummary(10);
+                }
+            }));
+        }
+        for (Future<?> future : futures) {
+            future.get(30, TimeUnit.SECONDS);
+        }
+        executor.shutdown();
+
+        for (int c = 0; c < competitions; c++) {
+            assertEquals(50, registry.getSummary("competition-" + c).size());
+            assertTrue(registry.getSummary("competition-" + c).get(0).startsWith("Home "));
+        }
+        assertEquals(10, registry.getTopSummary(10).size());
+        assertTrue(registry.getTopSummary(10).get(0).summaryLine().endsWith(" 2"));
+    }
+}
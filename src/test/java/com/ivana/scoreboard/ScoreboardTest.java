@@ -4,7 +4,11 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.Set;
 import static org.junit.jupiter.api.Assertions.*;
 
 class ScoreboardTest {
@@ -281,4 +285,217 @@ class ScoreboardTest {
         assertEquals("Team A 3 - Team B 2", summary.getFirst());
         assertEquals("Team C 2 - Team D 1", summary.get(1));
     }
-}
\ No newline at end of file
+
+    @Test
+    @DisplayName("Get summary method should keep the same ordering as sorting by total score and start order, for any board size")
+    void getSummary_shouldMatchReferenceOrderingForLargeBoards() {
+        for (int size : new int[]{10, 100, 1_000, 10_000}) {
+            Scoreboard board = new Scoreboard();
+            Random random = new Random(size);
+            List<String[]> started = new ArrayList<>();
+            for (int i = 0; i < size; i++) {
+                String[] teams = {"Home " + i, "Away " + i};
+                board.startMatch(teams[0], teams[1]);
+                started.add(teams);
+            }
+            for (int i = 0; i < size * 3; i++) {
+                String[] teams = started.get(random.nextInt(started.size()));
+                if (random.nextInt(10) == 0) {
+                    board.finishMatch(teams[0], teams[1]);
+                    board.startMatch(teams[0], teams[1]);
+                } else {
+                    board.updateScore(teams[0], teams[1], random.nextInt(6), random.nextInt(6));
+                }
+            }
+
+            assertEquals(referenceSummary(board), board.getSummary(), "board size " + size);
+        }
+    }
+
+    @Test
+    @DisplayName("Update score method should update the match when called with team ids")
+    void updateScore_shouldUpdateMatchByTeamIds() {
+        scoreboard.startMatch("Brazil", "Croatia");
+        int brazil = scoreboard.getTeamId("  BRAZIL");
+        int croatia = scoreboard.getTeamId("croatia");
+
+        scoreboard.updateScore(brazil, croatia, 2, 1);
+
+        assertEquals("Brazil 2 - Croatia 1", scoreboard.getSummary().getFirst());
+        assertEquals("Can not update match that doesn't exist", assertThrows(IllegalStateException.class,
+                () -> scoreboard.updateScore(croatia, brazil, 1, 1)).getMessage());
+        assertEquals("Score can not be a negative number", assertThrows(IllegalArgumentException.class,
+                () -> scoreboard.updateScore(brazil, croatia, -1, 1)).getMessage());
+    }
+
+    @Test
+    @DisplayName("Finished teams should be able to start a new match with their ids kept")
+    void startMatch_shouldReuseTeamsAfterFinish() {
+        scoreboard.startMatch("Brazil", "Croatia");
+        int brazil = scoreboard.getTeamId("Brazil");
+        scoreboard.finishMatch("Brazil", "Croatia");
+
+        scoreboard.startMatch("Croatia", "Brazil");
+
+        assertEquals(brazil, scoreboard.getTeamId("brazil"));
+        assertTrue(scoreboard.getScoreboard().containsKey("croatia_vs_brazil"));
+        assertEquals(2, scoreboard.getActiveTeams().size());
+    }
+
+    @Test
+    @DisplayName("Get summary method should return the same unmodifiable list until the scoreboard changes")
+    void getSummary_shouldReuseSummaryUntilScoreboardChanges() {
+        scoreboard.startMatch("Brazil", "Croatia");
+        List<String> first = scoreboard.getSummary();
+
+        assertSame(first, scoreboard.getSummary());
+        assertThrows(UnsupportedOperationException.class, () -> first.add("Spain 1 - Italy 0"));
+
+        long version = scoreboard.getVersion();
+        scoreboard.updateScore("Brazil", "Croatia", 1, 0);
+        List<String> second = scoreboard.getSummary();
+
+        assertNotSame(first, second);
+        assertEquals(List.of("Brazil 0 - Croatia 0"), first);
+        assertEquals(List.of("Brazil 1 - Croatia 0"), second);
+        assertEquals(version + 1, scoreboard.getVersion());
+    }
+
+    @Test
+    @DisplayName("Rejected operations should not change the scoreboard version")
+    void getVersion_shouldNotChangeOnRejectedOperations() {
+        scoreboard.startMatch("Brazil", "Croatia");
+        long version = scoreboard.getVersion();
+
+        assertThrows(IllegalArgumentException.class, () -> scoreboard.updateScore("Brazil", "Croatia", -1, 0));
+        assertThrows(IllegalStateException.class, () -> scoreboard.finishMatch("Spain", "Italy"));
+
+        assertEquals(version, scoreboard.getVersion());
+    }
+
+    @Test
+    @DisplayName("Apply batch method should update all matches and order the summary like single updates")
+    void applyBatch_shouldUpdateAllMatches() {
+        Scoreboard reference = new Scoreboard();
+        for (Scoreboard board : List.of(scoreboard, reference)) {
+            board.startMatch("Mexico", "Canada");
+            board.startMatch("Spain", "Brazil");
+            board.startMatch("Germany", "France");
+            board.startMatch("Uruguay", "Italy");
+        }
+        List<ScoreUpdate> updates = List.of(
+                new ScoreUpdate("Mexico", "Canada", 0, 5),
+                new ScoreUpdate("Spain", "Brazil", 1, 0),
+                new ScoreUpdate("germany ", "FRANCE", 2, 2),
+                new ScoreUpdate("Uruguay", "Italy", 6, 6),
+                new ScoreUpdate("Spain", "Brazil", 10, 2));
+        long version = scoreboard.getVersion();
+
+        scoreboard.applyBatch(updates);
+        for (ScoreUpdate update : updates) {
+            reference.updateScore(update.homeTeam(), update.awayTeam(), update.homeScore(), update.awayScore());
+        }
+
+        assertEquals(List.of("Uruguay 6 - Italy 6", "Spain 10 - Brazil 2", "Mexico 0 - Canada 5", "Germany 2 - France 2"),
+                scoreboard.getSummary());
+        assertEquals(reference.getSummary(), scoreboard.getSummary());
+        assertEquals(version + 4, scoreboard.getVersion(), "one change per updated match");
+    }
+
+    @Test
+    @DisplayName("Apply batch method should not apply any update when one of them is rejected")
+    void applyBatch_shouldBeAllOrNothing() {
+        scoreboard.startMatch("Brazil", "Croatia");
+        scoreboard.startMatch("Spain", "Italy");
+        List<String> summary = scoreboard.getSummary();
+        long version = scoreboard.getVersion();
+
+        assertEquals("Can not update match that doesn't exist", assertThrows(IllegalStateException.class,
+                () -> scoreboard.applyBatch(List.of(new ScoreUpdate("Brazil", "Croatia", 1, 0),
+                        new ScoreUpdate("Germany", "France", 1, 0)))).getMessage());
+        assertEquals("Score can not be a negative number", assertThrows(IllegalArgumentException.class,
+                () -> scoreboard.applyBatch(List.of(new ScoreUpdate("Brazil", "Croatia", 1, 0),
+                        new ScoreUpdate("Spain", "Italy", 0, -1)))).getMessage());
+
+        assertEquals(summary, scoreboard.getSummary());
+        assertEquals(version, scoreboard.getVersion());
+        assertEquals(0, scoreboard.getScoreboard().get("brazil_vs_croatia").getHomeScore());
+    }
+
+    @Test
+    @DisplayName("Top N and summary pages should be slices of the full summary")
+    void getSummaryPage_shouldReturnSlicesOfSummary() {
+        Random random = new Random(5);
+        for (int i = 0; i < 200; i++) {
+            scoreboard.startMatch("Home " + i, "Away " + i);
+            scoreboard.updateScore("Home " + i, "Away " + i, random.nextInt(4), random.nextInt(4));
+        }
+        scoreboard.finishMatch("Home 17", "Away 17");
+        scoreboard.updateScore("Home 3", "Away 3", 9, 9);
+        List<String> expected = referenceSummary(scoreboard);
+
+        assertEquals(expected.subList(0, 5), scoreboard.getTopN(5));
+        assertEquals(expected.subList(40, 60), scoreboard.getSummaryPage(40, 20));
+        assertEquals(expected.subList(180, 199), scoreboard.getSummaryPage(180, 20));
+        assertEquals(List.of(), scoreboard.getSummaryPage(199, 20));
+        assertEquals(List.of(), scoreboard.getTopN(0));
+        assertEquals(expected, scoreboard.getTopN(1000));
+
+        scoreboard.getSummary();
+        assertEquals(expected.subList(40, 60), scoreboard.getSummaryPage(40, 20), "page of the cached summary");
+        assertThrows(UnsupportedOperationException.class, () -> scoreboard.getTopN(3).add("Spain 0 - Italy 0"));
+    }
+
+    @Test
+    @DisplayName("Top N and summary pages should reject negative arguments")
+    void getSummaryPage_shouldRejectNegativeArguments() {
+        assertThrows(IllegalArgumentException.class, () -> scoreboard.getTopN(-1));
+        assertThrows(IllegalArgumentException.class, () -> scoreboard.getSummaryPage(-1, 5));
+        assertThrows(IllegalArgumentException.class, () -> scoreboard.getSummaryPage(0, -5));
+    }
+
+    @Test
+    @DisplayName("Scoreboard and active teams should be immutable snapshots that are only replaced by starts and finishes")
+    void getScoreboard_shouldPublishImmutableSnapshots() {
+        scoreboard.startMatch("Mexico", "Canada");
+        scoreboard.startMatch("Spain", "Brazil");
+        Map<String, FootballMatch> matches = scoreboard.getScoreboard();
+        Set<String> activeTeams = scoreboard.getActiveTeams();
+
+        scoreboard.updateScore("Spain", "Brazil", 1, 0);
+        assertSame(matches, scoreboard.getScoreboard());
+        assertSame(activeTeams, scoreboard.getActiveTeams());
+        assertEquals(1, matches.get("spain_vs_brazil").getHomeScore());
+
+        scoreboard.finishMatch("Mexico", "Canada");
+        scoreboard.startMatch("Germany", "France");
+        assertEquals(List.of("mexico_vs_canada", "spain_vs_brazil"), new ArrayList<>(matches.keySet()));
+        assertEquals(Set.of("mexico", "canada", "spain", "brazil"), activeTeams);
+        assertEquals(List.of("spain_vs_brazil", "germany_vs_france"), new ArrayList<>(scoreboard.getScoreboard().keySet()));
+        assertEquals(Set.of("spain", "brazil", "germany", "france"), scoreboard.getActiveTeams());
+        assertThrows(UnsupportedOperationException.class, () -> scoreboard.getScoreboard().remove("spain_vs_brazil"));
+        assertThrows(UnsupportedOperationException.class, () -> scoreboard.getActiveTeams().remove("spain"));
+    }
+
+    /**
+     * Summary as it was computed before the summary index: sort all matches by total score
+     * and break ties by reversed insertion order.
+     */
+    private static List<String> referenceSummary(Scoreboard board) {
+        List<FootballMatch> matches = new ArrayList<>(board.getScoreboard().values());
+        List<Integer> order = new ArrayList<>();
+        for (int i = 0; i < matches.size(); i++) {
+            order.add(i);
+        }
+        order.sort((i1, i2) -> {
+            int scoreComp = matches.get(i1).compareTo(matches.get(i2));
+            return scoreComp != 0 ? scoreComp : Integer.compare(i2, i1);
+        });
+        List<String> summary = new ArrayList<>();
+        for (int i : order) {
+            FootballMatch m = matches.get(i);
+            summary.add(m.getHomeTeam() + " " + m.getHomeScore() + " - " + m.getAwayTeam() + " " + m.getAwayScore());
+        }
+        return summary;
+    }
+}
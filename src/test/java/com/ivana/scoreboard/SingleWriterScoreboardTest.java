@@ -0,0 +1,131 @@
+package com.ivana.scoreboard;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SingleWriterScoreboardTest {
+    private SingleWriterScoreboard scoreboard;
+
+    @BeforeEach
+    void setUp() {
+        scoreboard = new SingleWriterScoreboard();
+    }
+
+    @AfterEach
+    void tearDown() {
+        scoreboard.close();
+    }
+
+    @Test
+    @DisplayName("Completed changes should be visible in the published snapshot")
+    void shouldPublishSnapshotBeforeCompletingChanges() {
+        scoreboard.startMatch("Mexico", "Canada");
+        scoreboard.updateScore("Mexico", "Canada", 0, 5);
+        scoreboard.startMatch("Spain", "Brazil");
+        scoreboard.updateScore("Spain", "Brazil", 10, 2).join();
+
+        assertEquals(List.of("Spain 10 - Brazil 2", "Mexico 0 - Canada 5"), scoreboard.getSummary());
+        assertEquals(Set.of("mexico", "canada", "spain", "brazil"), scoreboard.getActiveTeams());
+        assertEquals(4, scoreboard.getVersion());
+
+        SingleWriterScoreboard.Snapshot snapshot = scoreboard.getSnapshot();
+        scoreboard.finishMatch("Spain", "Brazil").join();
+        assertEquals(List.of("Mexico 0 - Canada 5"), scoreboard.getSummary());
+        assertEquals(List.of("Spain 10 - Brazil 2", "Mexico 0 - Canada 5"), snapshot.summary(), "old snapshot doesn't change");
+    }
+
+    @Test
+    @DisplayName("Rejected changes should fail their future with the scoreboard exception and not affect other changes")
+    void shouldFailFutureWithScoreboardException() {
+        scoreboard.startMatch("Brazil", "Croatia");
+        CompletableFuture<Void> rejected = scoreboard.startMatch("Croatia", "Spain");
+        CompletableFuture<Void> invalid = scoreboard.updateScore("Brazil", "Croatia", -1, 0);
+        scoreboard.updateScore("Brazil", "Croatia", 1, 0).join();
+
+        ExecutionException state = assertThrows(ExecutionException.class, rejected::get);
+        assertInstanceOf(IllegalStateException.class, state.getCause());
+        assertEquals("This match can not be initialized since one of the teams is already in the game", state.getCause().getMessage());
+        ExecutionException argument = assertThrows(ExecutionException.class, invalid::get);
+        assertEquals("Score can not be a negative number", argument.getCause().getMessage());
+        assertEquals(List.of("Brazil 1 - Croatia 0"), scoreboard.getSummary());
+    }
+
+    @Test
+    @DisplayName("An error thrown by a change should fail only its future and keep the writer running")
+    void shouldKeepWriterRunningAfterError() {
+        scoreboard.startMatch("Brazil", "Croatia");
+        CompletableFuture<Void> failed = scoreboard.submit(board -> {
+            throw new StackOverflowError();
+        });
+        CompletableFuture<Void> next = scoreboard.updateScore("Brazil", "Croatia", 1, 0);
+
+        ExecutionException error = assertThrows(ExecutionException.class, failed::get);
+        assertInstanceOf(StackOverflowError.class, error.getCause());
+        next.join();
+        scoreboard.updateScore("Brazil", "Croatia", 2, 0).join();
+        assertEquals(List.of("Brazil 2 - Croatia 0"), scoreboard.getSummary());
+    }
+
+    @Test
+    @DisplayName("Changes submitted after close should be rejected, changes queued before should be applied")
+    void close_shouldApplyQueuedChanges() throws Exception {
+        scoreboard.startMatch("Brazil", "Croatia");
+        CompletableFuture<Void> queued = scoreboard.updateScore("Brazil", "Croatia", 2, 1);
+        scoreboard.close();
+
+        assertTrue(queued.isDone());
+        assertEquals(List.of("Brazil 2 - Croatia 1"), scoreboard.getSummary());
+        ExecutionException closed = assertThrows(ExecutionException.class, () -> scoreboard.startMatch("Spain", "Italy").get());
+        assertEquals("Scoreboard is closed", closed.getCause().getMessage());
+    }
+
+    @Test
+    @DisplayName("Concurrent writers should not lose updates while virtual thread readers poll the snapshot")
+    void shouldApplyAllUpdatesFromConcurrentWriters() throws Exception {
+        int writers = 8;
+        int matchesPerWriter = 20;
+        for (int w = 0; w < writers; w++) {
+            for (int m = 0; m < matchesPerWriter; m++) {
+                scoreboard.startMatch("Home " + w + "-" + m, "Away " + w + "-" + m);
+            }
+        }
+        ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor();
+        List<Future<?>> futures = new ArrayList<>();
+        for (int w = 0; w < writers; w++) {
+            int writer = w;
+            futures.add(executor.submit(() -> {
+                CompletableFuture<Void> last = null;
+                for (int round = 1; round <= 100; round++) {
+                    for (int m = 0; m < matchesPerWriter; m++) {
+                        last = scoreboard.updateScore("Home " + writer + "-" + m, "Away " + writer + "-" + m, round, writer);
+                    }
+                    assertTrue(scoreboard.getSummary().size() <= writers * matchesPerWriter);
+                }
+                return last.get(30, TimeUnit.SECONDS);
+            }));
+        }
+        for (Future<?> future : futures) {
+            future.get(30, TimeUnit.SECONDS);
+        }
+        executor.shutdown();
+
+        List<String> summary = scoreboard.getSummary();
+        assertEquals(writers * matchesPerWriter, summary.size());
+        assertTrue(summary.stream().allMatch(line -> line.contains(" 100 - ")));
+        assertEquals(writers * matchesPerWriter * 101, scoreboard.getVersion());
+    }
+}
@@ -0,0 +1,129 @@
+package com.ivana.scoreboard;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SummaryDeltaTest {
+
+    @Test
+    @DisplayName("Summary delta should contain only the changed matches with their current positions")
+    void getSummaryDelta_shouldContainOnlyChangedMatches() {
+        Scoreboard scoreboard = new Scoreboard();
+        scoreboard.startMatch("Mexico", "Canada");
+        scoreboard.startMatch("Spain", "Brazil");
+        scoreboard.startMatch("Germany", "France");
+        long version = scoreboard.getVersion();
+
+        scoreboard.updateScore("Mexico", "Canada", 0, 5);
+        scoreboard.finishMatch("Germany", "France");
+        scoreboard.startMatch("Italy", "Portugal");
+        SummaryDelta delta = scoreboard.getSummaryDelta(version);
+
+        assertFalse(delta.fullSnapshot());
+        assertEquals(version, delta.fromVersion());
+        assertEquals(scoreboard.getVersion(), delta.toVersion());
+        assertEquals(List.of(
+                new SummaryDelta.Change(SummaryDelta.ChangeType.REMOVED, "germany_vs_france", null, -1),
+                new SummaryDelta.Change(SummaryDelta.ChangeType.UPDATED, "mexico_vs_canada", "Mexico 0 - Canada 5", 0),
+                new SummaryDelta.Change(SummaryDelta.ChangeType.INSERTED, "italy_vs_portugal", "Italy 0 - Portugal 0", 1)
+        ), delta.changes());
+    }
+
+    @Test
+    @DisplayName("Summary delta should be empty for the current version and skip matches started and finished meanwhile")
+    void getSummaryDelta_shouldSkipMatchesTheClientNeverSaw() {
+        Scoreboard scoreboard = new Scoreboard();
+        scoreboard.startMatch("Mexico", "Canada");
+        long version = scoreboard.getVersion();
+
+        assertTrue(scoreboard.getSummaryDelta(version).changes().isEmpty());
+
+        scoreboard.startMatch("Spain", "Brazil");
+        scoreboard.updateScore("Spain", "Brazil", 1, 0);
+        scoreboard.finishMatch("Spain", "Brazil");
+
+        assertTrue(scoreboard.getSummaryDelta(version).changes().isEmpty());
+    }
+
+    @Test
+    @DisplayName("Summary delta should be a full snapshot when the version is older than the history")
+    void getSummaryDelta_shouldFallBackToFullSnapshot() {
+        Scoreboard scoreboard = new Scoreboard(2);
+        scoreboard.startMatch("Mexico", "Canada");
+        scoreboard.startMatch("Spain", "Brazil");
+        scoreboard.updateScore("Spain", "Brazil", 1, 0);
+
+        SummaryDelta delta = scoreboard.getSummaryDelta(0);
+
+        assertTrue(delta.fullSnapshot());
+        assertEquals(List.of(
+                new SummaryDelta.Change(SummaryDelta.ChangeType.INSERTED, "spain_vs_brazil", "Spain 1 - Brazil 0", 0),
+                new SummaryDelta.Change(SummaryDelta.ChangeType.INSERTED, "mexico_vs_canada", "Mexico 0 - Canada 0", 1)
+        ), delta.changes());
+    }
+
+    @Test
+    @DisplayName("Summary delta should reject unknown versions")
+    void getSummaryDelta_shouldRejectUnknownVersions() {
+        Scoreboard scoreboard = new Scoreboard();
+
+        assertThrows(IllegalArgumentException.class, () -> scoreboard.getSummaryDelta(-1));
+        assertThrows(IllegalArgumentException.class, () -> scoreboard.getSummaryDelta(1));
+        assertThrows(IllegalArgumentException.class, () -> new Scoreboard(0));
+    }
+
+    @Test
+    @DisplayName("Applying summary deltas should always reproduce the scoreboard summary")
+    void applyingDeltas_shouldReproduceSummary() {
+        Scoreboard scoreboard = new Scoreboard(64);
+        Random random = new Random(11);
+        List<String> clientKeys = new ArrayList<>();
+        List<String> clientLines = new ArrayList<>();
+        long clientVersion = 0;
+        for (int step = 0; step < 5_000; step++) {
+            int home = random.nextInt(40);
+            int away = random.nextInt(40);
+            try {
+                switch (random.nextInt(4)) {
+                    case 0 -> scoreboard.startMatch("Team " + home, "Team " + away);
+                    case 1 -> scoreboard.finishMatch("Team " + home, "Team " + away);
+                    default -> scoreboard.updateScore("Team " + home, "Team " + away, random.nextInt(5), random.nextInt(5));
+                }
+            } catch (IllegalStateException | IllegalArgumentException rejected) {
+                // conflicting operation, nothing changed
+            }
+            if (random.nextInt(random.nextBoolean() ? 3 : 120) == 0) {
+                SummaryDelta delta = scoreboard.getSummaryDelta(clientVersion);
+                apply(delta, clientKeys, clientLines);
+                clientVersion = delta.toVersion();
+                assertEquals(scoreboard.getSummary(), clientLines);
+            }
+        }
+    }
+
+    private static void apply(SummaryDelta delta, List<String> keys, List<String> lines) {
+        if (delta.fullSnapshot()) {
+            keys.clear();
+            lines.clear();
+        }
+        for (SummaryDelta.Change change : delta.changes()) {
+            int index = keys.indexOf(change.matchKey());
+            if (index >= 0) {
+                keys.remove(index);
+                lines.remove(index);
+            }
+        }
+        for (SummaryDelta.Change change : delta.changes()) {
+            if (change.type() != SummaryDelta.ChangeType.REMOVED) {
+                keys.add(change.position(), change.matchKey());
+                lines.add(change.position(), change.summaryLine());
+            }
+        }
+    }
+}
@@ -0,0 +1,60 @@
+package com.ivana.scoreboard;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.*;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SummaryIndexTest {
+
+    @Test
+    @DisplayName("Summary index should keep matches in the same order as a sorted set under random changes")
+    void shouldKeepSortedOrderUnderRandomChanges() {
+        SummaryIndex index = new SummaryIndex();
+        TreeSet<FootballMatch> reference = new TreeSet<>(
+                (m1, m2) -> Long.compare(m2.getSummaryKey(), m1.getSummaryKey()));
+        List<FootballMatch> matches = new ArrayList<>();
+        Random random = new Random(7);
+        for (int i = 0; i < 2_000; i++) {
+            FootballMatch match = new FootballMatch("Home " + i, "Away " + i, i);
+            matches.add(match);
+            index.add(match);
+            reference.add(match);
+        }
+        for (int i = 0; i < 20_000; i++) {
+            FootballMatch match = matches.get(random.nextInt(matches.size()));
+            index.remove(match);
+            reference.remove(match);
+            if (random.nextInt(5) > 0) {
+                match.setScore(random.nextInt(8), random.nextInt(8));
+                match.refreshSummaryKey();
+                index.add(match);
+                reference.add(match);
+            }
+        }
+
+        List<FootballMatch> expected = new ArrayList<>(reference);
+        List<FootballMatch> actual = new ArrayList<>();
+        index.forEach(actual::add);
+        assertEquals(expected, actual);
+        assertEquals(expected.size(), index.size());
+        for (int position = 0; position < expected.size(); position += 37) {
+            assertSame(expected.get(position), index.get(position));
+            assertEquals(position, index.positionOf(expected.get(position)));
+            assertSame(expected.get(position), index.iterator(position).next());
+        }
+    }
+
+    @Test
+    @DisplayName("Summary index should reject positions outside of the index")
+    void get_shouldRejectPositionsOutsideOfIndex() {
+        SummaryIndex index = new SummaryIndex();
+        index.add(new FootballMatch("Brazil", "Croatia", 0));
+
+        assertThrows(IndexOutOfBoundsException.class, () -> index.get(1));
+        assertThrows(IndexOutOfBoundsException.class, () -> index.get(-1));
+        assertFalse(index.iterator(1).hasNext());
+    }
+}
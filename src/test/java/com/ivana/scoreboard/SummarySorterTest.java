@@ -0,0 +1,45 @@
+package com.ivana.scoreboard;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.*;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SummarySorterTest {
+
+    @Test
+    @DisplayName("Parallel and sequential summary should be identical and ordered by total score, then newest start")
+    void sortAndRender_shouldGiveSameSummaryInParallel() {
+        SummarySorter sequential = new SummarySorter();
+        sequential.setThreshold(Integer.MAX_VALUE);
+        SummarySorter parallel = new SummarySorter();
+        parallel.setThreshold(0);
+        Random random = new Random(24);
+        int count = 50_000;
+        long[] keys = new long[count + 1_000];
+        List<Long> expected = new ArrayList<>();
+        for (int i = 0; i < keys.length; i++) {
+            keys[i] = FootballMatch.summaryKey(random.nextInt(8), i);
+            if (i < count) {
+                expected.add(keys[i]);
+            }
+        }
+        expected.sort(Comparator.comparingLong((Long key) -> key >>> 48)
+                .thenComparingLong(FootballMatch::startSequenceOf).reversed());
+
+        List<String> summary = parallel.sortAndRender(keys.clone(), count, Long::toString);
+
+        assertEquals(expected.stream().map(String::valueOf).toList(), summary);
+        assertEquals(sequential.sortAndRender(keys.clone(), count, Long::toString), summary);
+        assertThrows(UnsupportedOperationException.class, () -> summary.set(0, ""));
+    }
+
+    @Test
+    @DisplayName("Negative thresholds should be rejected")
+    void setThreshold_shouldRejectNegativeThreshold() {
+        assertEquals("Parallel summary threshold can not be negative", assertThrows(IllegalArgumentException.class,
+                () -> new SummarySorter().setThreshold(-1)).getMessage());
+    }
+}
@@ -0,0 +1,62 @@
+package com.ivana.scoreboard;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class TeamRegistryTest {
+    private TeamRegistry registry;
+
+    @BeforeEach
+    void setUp(){
+        registry = new TeamRegistry();
+    }
+
+    @Test
+    @DisplayName("Register method should give every team a new compact id")
+    void register_shouldAssignCompactIds() {
+        assertEquals(0, registry.register("Brazil"));
+        assertEquals(1, registry.register("Croatia"));
+        assertEquals(2, registry.size());
+        assertEquals("croatia", registry.getName(1));
+    }
+
+    @Test
+    @DisplayName("Register method should return the same id regardless of the case and spacing")
+    void register_shouldReturnSameIdRegardlessOfCaseAndSpacing() {
+        int teamId = registry.register("South Korea");
+
+        assertEquals(teamId, registry.register("  south KOREA "));
+        assertEquals(teamId, registry.find("SOUTH korea"));
+        assertEquals(1, registry.size());
+        assertEquals("south korea", registry.getName(teamId));
+    }
+
+    @Test
+    @DisplayName("Find method should return -1 for teams that were never registered")
+    void find_shouldReturnMinusOneForUnknownTeams() {
+        registry.register("Brazil");
+
+        assertEquals(-1, registry.find("Croatia"));
+        assertEquals(-1, registry.find(null));
+        assertEquals(1, registry.size());
+    }
+
+    @Test
+    @DisplayName("Register method should throw exception when team name is null or empty")
+    void register_shouldThrowExceptionWhenTeamNameIsNullOrEmpty() {
+        assertEquals("Team name can not be null or empty",
+                assertThrows(IllegalArgumentException.class, () -> registry.register(null)).getMessage());
+        assertEquals("Team name can not be null or empty",
+                assertThrows(IllegalArgumentException.class, () -> registry.register("   ")).getMessage());
+        assertEquals(0, registry.size());
+    }
+
+    @Test
+    @DisplayName("Get name method should throw exception for unknown ids")
+    void getName_shouldThrowExceptionForUnknownIds() {
+        assertThrows(IllegalArgumentException.class, () -> registry.getName(0));
+    }
+}